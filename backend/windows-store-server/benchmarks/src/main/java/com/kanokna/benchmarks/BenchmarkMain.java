@@ -0,0 +1,46 @@
+package com.kanokna.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * Accepts the usual JMH command line ({@code -h} lists it) and changes two defaults: the
+ * GC profiler is always attached, and results are written as JSON to
+ * {@code target/jmh-result.json} unless {@code -rf}/{@code -rff} say otherwise. Keep the
+ * JSON of a baseline build and compare it with a later run to spot throughput or allocation
+ * regressions.
+ */
+public final class BenchmarkMain {
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine);
+        builder.resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON));
+        builder.result(commandLine.getResult().orElse(DEFAULT_RESULT_FILE));
+        boolean gcProfilerRequested = commandLine.getProfilers().stream()
+            .anyMatch(profiler -> profiler.getKlass().equals("gc")
+                || profiler.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcProfilerRequested) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,163 @@
+package com.kanokna.cart.adapters.out.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanokna.cart.domain.model.Cart;
+import com.kanokna.cart.domain.model.CartItem;
+import com.kanokna.cart.domain.model.ConfigurationSnapshot;
+import com.kanokna.cart.domain.model.PriceQuoteReference;
+import com.kanokna.cart.domain.model.ValidationStatus;
+import com.kanokna.cart.domain.service.CartTotalsCalculator;
+import com.kanokna.shared.money.Currency;
+import com.kanokna.shared.money.Money;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of saving a cart after one item's quantity changed.
+ *
+ * {@code incrementalSave} runs {@link CartRepositoryAdapter#save} against a JdbcTemplate that
+ * only counts statements, so the score is the adapter's own work: the cart row plus one
+ * item UPDATE. {@code fullGraph} is the mapping step of the previous save, which handed the
+ * complete entity graph to JPA and serialized every configuration snapshot on each save.
+ *
+ * The {@code rowsWritten} and {@code snapshotBytes} counters show the write amplification:
+ * rows sent to the database and configuration snapshot JSON produced per save.
+ *
+ * Nothing here reaches a database: round trips, row locks, index maintenance and the
+ * optimistic version check are not measured, and since every statement reports one row the
+ * conflict path never runs. The scores compare the two ways of building a save, not save
+ * latency.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CartSaveBenchmark {
+
+    @Param({"10", "50"})
+    public int itemCount;
+
+    private CartPersistenceMapper mapper;
+    private CountingJdbcTemplate jdbcTemplate;
+    private CartRepositoryAdapter adapter;
+    private Cart cart;
+    private CartItem changedItem;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WriteCounters {
+        public long rowsWritten;
+        public long snapshotBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        mapper = new CartPersistenceMapper(new ObjectMapper());
+        jdbcTemplate = new CountingJdbcTemplate();
+        adapter = new CartRepositoryAdapter(null, mapper, jdbcTemplate, null);
+        CartTotalsCalculator calculator = new CartTotalsCalculator();
+        cart = Cart.createForCustomer("bench-customer", Currency.RUB);
+        for (int i = 0; i < itemCount; i++) {
+            cart.addItem(item(i), calculator, null);
+        }
+        cart.markPersisted();
+        changedItem = cart.items().get(itemCount / 2);
+    }
+
+    @Benchmark
+    public Cart incrementalSave(WriteCounters counters) {
+        changeOneItem();
+        jdbcTemplate.rows = 0;
+        jdbcTemplate.snapshotBytes = 0;
+        Cart saved = adapter.save(cart);
+        counters.rowsWritten += jdbcTemplate.rows;
+        counters.snapshotBytes += jdbcTemplate.snapshotBytes;
+        return saved;
+    }
+
+    @Benchmark
+    public CartJpaEntity fullGraph(WriteCounters counters) {
+        changeOneItem();
+        CartJpaEntity entity = mapper.toEntity(cart);
+        counters.rowsWritten += 1 + entity.getItems().size();
+        for (CartItemJpaEntity item : entity.getItems()) {
+            counters.snapshotBytes += item.getConfigurationSnapshot().length();
+        }
+        return entity;
+    }
+
+    private void changeOneItem() {
+        changedItem.updateQuantity(changedItem.quantity() == 1 ? 2 : 1);
+    }
+
+    private static CartItem item(int index) {
+        List<ConfigurationSnapshot.SelectedOptionSnapshot> options = new ArrayList<>();
+        List<ConfigurationSnapshot.BomLineSnapshot> bom = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            options.add(new ConfigurationSnapshot.SelectedOptionSnapshot("GROUP-" + i, "OPT-" + index + "-" + i));
+            bom.add(new ConfigurationSnapshot.BomLineSnapshot("SKU-" + i, "Profile part " + i, 2));
+        }
+        return CartItem.create(
+            "WINDOW-STD",
+            "Window " + index,
+            "WINDOW",
+            new ConfigurationSnapshot("WINDOW-STD", 120 + index, 140, options, bom),
+            "hash-" + index,
+            1,
+            Money.of(new BigDecimal("18500.00"), Currency.RUB),
+            new PriceQuoteReference("QUOTE-" + index, Instant.now().plusSeconds(3600)),
+            ValidationStatus.VALID,
+            null,
+            null,
+            false,
+            Instant.now()
+        );
+    }
+
+    /**
+     * Counts statements instead of executing them; every statement affects one row.
+     */
+    private static final class CountingJdbcTemplate extends JdbcTemplate {
+        private long rows;
+        private long snapshotBytes;
+
+        @Override
+        public int update(String sql, Object... args) {
+            rows++;
+            return 1;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            rows += batchArgs.size();
+            if (sql.contains("configuration_snapshot")) {
+                for (Object[] args : batchArgs) {
+                    snapshotBytes += ((String) args[6]).length();
+                }
+            }
+            int[] counts = new int[batchArgs.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        }
+    }
+}
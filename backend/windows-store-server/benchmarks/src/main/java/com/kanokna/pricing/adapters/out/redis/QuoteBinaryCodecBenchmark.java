@@ -0,0 +1,84 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.PremiumLine;
+import com.kanokna.pricing.domain.model.PricingDecision;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode cost of the {@link QuoteRedisCache} value format for quotes with a
+ * growing number of premium lines. The decision trace has one entry per premium plus
+ * deferred base, discount and tax steps, as in calculated quotes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteBinaryCodecBenchmark {
+
+    @Param({"1", "5", "10", "30"})
+    public int optionCount;
+
+    private Quote quote;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        List<PremiumLine> premiums = new ArrayList<>();
+        List<PricingDecision> trace = new ArrayList<>();
+        trace.add(PricingDecision.deferred("BA-PRC-CALC-02", "BASE_PRICE",
+            "area_m2=%s,price_per_m2=%s,base_price_rub=%s",
+            new BigDecimal("1.9100"), new BigDecimal("8450.50"), new BigDecimal("16140.46")));
+        for (int i = 0; i < optionCount; i++) {
+            premiums.add(PremiumLine.of("OPT-" + i, "Option " + i, Money.rub(new BigDecimal("450.00"))));
+            trace.add(PricingDecision.of("BA-PRC-CALC-03", "OPTION_PREMIUM", "optionId=OPT-" + i));
+        }
+        trace.add(PricingDecision.deferred("BA-PRC-CALC-04", "CAMPAIGN",
+            "campaignId=%s,discount_rub=%s", "Autumn", new BigDecimal("1210.53")));
+        trace.add(PricingDecision.deferred("BA-PRC-CALC-07", "TAX",
+            "region=%s,tax_rate_pct=%s,tax_rub=%s", "RU", new BigDecimal("20"), new BigDecimal("2985.99")));
+        quote = Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(Money.rub(new BigDecimal("16140.46")))
+            .optionPremiums(premiums)
+            .discount(Money.rub(new BigDecimal("1210.53")))
+            .subtotal(Money.rub(new BigDecimal("14929.93")))
+            .tax(Money.rub(new BigDecimal("2985.99")))
+            .total(Money.rub(new BigDecimal("17915.92")))
+            .validUntil(Instant.now().plusSeconds(300))
+            .decisionTrace(trace)
+            .build();
+        encoded = QuoteBinaryCodec.encode(quote);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return QuoteBinaryCodec.encode(quote);
+    }
+
+    @Benchmark
+    public Quote decode() {
+        return QuoteBinaryCodec.decode(encoded);
+    }
+}
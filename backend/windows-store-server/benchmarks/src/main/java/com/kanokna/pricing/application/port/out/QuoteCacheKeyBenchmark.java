@@ -0,0 +1,111 @@
+package com.kanokna.pricing.application.port.out;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cost of building a quote cache key, which every quote request pays before the cache
+ * lookup, against the previous SHA-256 key ({@link #legacySha256}). Options are listed in
+ * reverse order so both keys have to sort them; {@code sortedOptions} measures the common
+ * case of a BOM that is already sorted.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuoteCacheKeyBenchmark {
+
+    @Param({"1", "5", "10", "30"})
+    public int optionCount;
+
+    private PriceBook priceBook;
+    private CalculateQuoteCommand command;
+    private CalculateQuoteCommand sortedCommand;
+
+    @Setup
+    public void setUp() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "bench");
+
+        List<String> options = new ArrayList<>();
+        for (int i = optionCount - 1; i >= 0; i--) {
+            options.add("OPT-" + i);
+        }
+        command = new CalculateQuoteCommand();
+        command.setProductTemplateId("WINDOW-STD");
+        command.setWidthCm(new BigDecimal("145"));
+        command.setHeightCm(new BigDecimal("132"));
+        command.setResolvedBom(options);
+        command.setCurrency("RUB");
+        command.setPromoCode("welcome5");
+        command.setRegion("RU");
+
+        sortedCommand = new CalculateQuoteCommand();
+        sortedCommand.setProductTemplateId("WINDOW-STD");
+        sortedCommand.setWidthCm(new BigDecimal("145"));
+        sortedCommand.setHeightCm(new BigDecimal("132"));
+        sortedCommand.setResolvedBom(options.stream().sorted().toList());
+        sortedCommand.setCurrency("RUB");
+        sortedCommand.setPromoCode("welcome5");
+        sortedCommand.setRegion("RU");
+    }
+
+    @Benchmark
+    public String murmur3() {
+        return QuoteCacheKey.from(priceBook, command).hash();
+    }
+
+    @Benchmark
+    public String sortedOptions() {
+        return QuoteCacheKey.from(priceBook, sortedCommand).hash();
+    }
+
+    @Benchmark
+    public String legacySha256() {
+        String raw = String.join("|",
+            command.getProductTemplateId(),
+            priceBook.getId().toString(),
+            String.valueOf(priceBook.getVersion()),
+            command.getWidthCm().toPlainString(),
+            command.getHeightCm().toPlainString(),
+            command.getResolvedBom().stream().sorted().collect(Collectors.joining(",")),
+            command.getCurrency(),
+            command.getPromoCode() == null ? "" : command.getPromoCode().trim().toUpperCase(),
+            command.getRegion()
+        );
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(raw.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : hash) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.kanokna.pricing.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares premium resolution through the optionId index in {@link PriceBook}
+ * against the previous linear stream scan, for one quote with 10 selected options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceBookPremiumLookupBenchmark {
+
+    private static final int SELECTED_OPTIONS = 10;
+
+    @Param({"10", "100", "1000"})
+    public int premiumCount;
+
+    private PriceBook priceBook;
+    private List<OptionPremium> premiums;
+    private List<String> selectedOptionIds;
+
+    @Setup
+    public void setUp() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "bench");
+        for (int i = 0; i < premiumCount; i++) {
+            priceBook.addOptionPremium(OptionPremium.absolute("OPT-" + i, "Option " + i, Money.rub(BigDecimal.TEN)));
+        }
+        priceBook.publish();
+        premiums = priceBook.getOptionPremiums();
+
+        selectedOptionIds = new ArrayList<>();
+        for (int i = 0; i < SELECTED_OPTIONS; i++) {
+            // Spread lookups across the list so the scan baseline is not favoured by early hits
+            selectedOptionIds.add("OPT-" + ((i * premiumCount) / SELECTED_OPTIONS + premiumCount / (2 * SELECTED_OPTIONS)));
+        }
+    }
+
+    @Benchmark
+    public void indexedLookup(Blackhole blackhole) {
+        for (String optionId : selectedOptionIds) {
+            blackhole.consume(priceBook.findPremiumForOption(optionId));
+        }
+    }
+
+    @Benchmark
+    public void linearScan(Blackhole blackhole) {
+        for (String optionId : selectedOptionIds) {
+            Optional<OptionPremium> premium = premiums.stream()
+                .filter(candidate -> candidate.getOptionId().equals(optionId))
+                .findFirst();
+            blackhole.consume(premium);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PriceBookPremiumLookupBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.kanokna.pricing.domain.service;
+
+import com.kanokna.pricing.domain.model.*;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link PriceCalculationService#calculateQuote} as the price book, the set of
+ * active campaigns and the selected options grow. Every third premium is a percentage premium
+ * and the campaigns alternate between percentage and fixed rules, so both paths of the
+ * discount and premium code are exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceCalculationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int premiumCount;
+
+    @Param({"0", "1", "10"})
+    public int campaignCount;
+
+    @Param({"1", "5", "10"})
+    public int optionCount;
+
+    private PriceCalculationService service;
+    private PriceBook priceBook;
+    private List<String> optionIds;
+    private List<Campaign> campaigns;
+    private PromoCode promoCode;
+    private TaxRule taxRule;
+
+    @Setup
+    public void setUp() {
+        service = new PriceCalculationService(new DiscountService(), new TaxCalculationService(), new RoundingService());
+
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("8450.50"), new BigDecimal("0.25"), null);
+        priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "bench");
+        for (int i = 0; i < premiumCount; i++) {
+            priceBook.addOptionPremium(i % 3 == 2
+                ? OptionPremium.percentage("OPT-" + i, "Option " + i, new BigDecimal("2.5"))
+                : OptionPremium.absolute("OPT-" + i, "Option " + i, Money.rub(new BigDecimal("450.00"))));
+        }
+        priceBook.publish();
+
+        optionIds = new ArrayList<>();
+        for (int i = 0; i < optionCount; i++) {
+            optionIds.add("OPT-" + (i * premiumCount) / optionCount);
+        }
+
+        Instant now = Instant.now();
+        campaigns = new ArrayList<>();
+        for (int i = 0; i < campaignCount; i++) {
+            CampaignRule rule = i % 2 == 0
+                ? CampaignRule.percentage(new BigDecimal("5"), null)
+                : CampaignRule.fixed(Money.rub(new BigDecimal("300.00")));
+            campaigns.add(Campaign.restore(
+                CampaignId.generate(), "Campaign " + i, null, rule, Set.of(),
+                now.minusSeconds(3600), now.plusSeconds(86_400), CampaignStatus.ACTIVE, i, now, "bench"));
+        }
+        promoCode = PromoCode.restore(
+            PromoCodeId.generate(), "WELCOME5", "Promo", DiscountType.PERCENTAGE, new BigDecimal("5"),
+            null, null, null, 0, now.minusSeconds(3600), now.plusSeconds(86_400), true, now, "bench");
+        taxRule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+    }
+
+    @Benchmark
+    public Quote calculateQuote() {
+        return service.calculateQuote(priceBook, optionIds, new BigDecimal("145"), new BigDecimal("132"),
+            campaigns, promoCode, taxRule, 5);
+    }
+}
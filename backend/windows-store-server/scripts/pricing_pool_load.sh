@@ -0,0 +1,126 @@
+#!/usr/bin/env bash
+# Drives CalculateQuote load against a running pricing-service and reports how long quotes
+# wait for a connection from the pricing-primary pool.
+#
+#   ./scripts/pricing_pool_load.sh run <label>            # load + sample, writes target/pool-load/<label>.txt
+#   ./scripts/pricing_pool_load.sh compare <before> <after>
+#
+# To measure the replica split, run once with the service started without
+# PRICING_DATASOURCE_REPLICA_URL (label "before"), restart it with the replica url set, run
+# again (label "after") and compare. Both setups name the primary pool pricing-primary.
+#
+# Requires ghz, curl and awk. Settings come from the environment:
+#   GRPC_TARGET   gRPC address of the service            (localhost:9082)
+#   METRICS_URL   Prometheus scrape endpoint             (http://localhost:8082/actuator/prometheus)
+#   CONCURRENCY   concurrent ghz workers                 (64)
+#   DURATION      load duration in seconds               (60)
+#   PRODUCT_ID    product template with an active book   (WINDOW-STD)
+#   REGION        tax region                             (RU)
+#   PROMO_CODE    optional promo code, exercises the write transaction
+#   POOL          Hikari pool to report                  (pricing-primary)
+set -euo pipefail
+
+GRPC_TARGET="${GRPC_TARGET:-localhost:9082}"
+METRICS_URL="${METRICS_URL:-http://localhost:8082/actuator/prometheus}"
+CONCURRENCY="${CONCURRENCY:-64}"
+DURATION="${DURATION:-60}"
+PRODUCT_ID="${PRODUCT_ID:-WINDOW-STD}"
+REGION="${REGION:-RU}"
+PROMO_CODE="${PROMO_CODE:-}"
+POOL="${POOL:-pricing-primary}"
+
+ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+PROTO_ROOT="$ROOT/api-contracts/src/main/proto"
+OUT_DIR="$ROOT/target/pool-load"
+
+usage() {
+  echo "Usage: ./scripts/pricing_pool_load.sh run <label> | compare <before> <after>"
+  exit 1
+}
+
+# Sum of a metric's samples for the pool; prints 0 when the pool does not report it
+metric() {
+  local scrape="$1" name="$2"
+  awk -v name="$name" -v pool="pool=\"$POOL\"" '
+    index($0, name "{") == 1 && index($0, pool) > 0 { sum += $NF; found = 1 }
+    END { printf "%.6f\n", found ? sum : 0 }
+  ' <<<"$scrape"
+}
+
+run() {
+  local label="$1"
+  for tool in ghz curl awk; do
+    command -v "$tool" >/dev/null || { echo "ERROR: $tool not found on PATH"; exit 1; }
+  done
+  local scrape
+  scrape="$(curl -fsS "$METRICS_URL")" || { echo "ERROR: cannot scrape $METRICS_URL"; exit 1; }
+  if ! grep -q "^hikaricp_connections_pending{.*pool=\"$POOL\"" <<<"$scrape"; then
+    echo "ERROR: pool $POOL not reported by $METRICS_URL"
+    exit 1
+  fi
+  mkdir -p "$OUT_DIR"
+
+  local acquire_sum_start acquire_count_start
+  acquire_sum_start="$(metric "$scrape" hikaricp_connections_acquire_seconds_sum)"
+  acquire_count_start="$(metric "$scrape" hikaricp_connections_acquire_seconds_count)"
+
+  # Random sizes keep most requests off the quote cache so they reach the database
+  local data
+  data="{\"product_template_id\":\"$PRODUCT_ID\",\"dimensions\":{\"width_cm\":{{randomInt 50 400}},\"height_cm\":{{randomInt 50 400}}},\"currency\":\"CURRENCY_RUB\",\"region\":\"$REGION\",\"promo_code\":\"$PROMO_CODE\"}"
+
+  ghz --insecure \
+    --proto "$PROTO_ROOT/kanokna/pricing/v1/pricing_service.proto" \
+    --import-paths "$PROTO_ROOT" \
+    --call kanokna.pricing.v1.PricingService/CalculateQuote \
+    --concurrency "$CONCURRENCY" \
+    --duration "${DURATION}s" \
+    --data "$data" \
+    --output "$OUT_DIR/$label.ghz.txt" \
+    "$GRPC_TARGET" &
+  local ghz_pid=$!
+
+  local samples="$OUT_DIR/$label.samples"
+  : >"$samples"
+  while kill -0 "$ghz_pid" 2>/dev/null; do
+    scrape="$(curl -fsS "$METRICS_URL" || true)"
+    if [[ -n "$scrape" ]]; then
+      echo "$(metric "$scrape" hikaricp_connections_pending) $(metric "$scrape" hikaricp_connections_active)" >>"$samples"
+    fi
+    sleep 1
+  done
+  wait "$ghz_pid"
+
+  scrape="$(curl -fsS "$METRICS_URL")"
+  local acquire_sum acquire_count
+  acquire_sum="$(metric "$scrape" hikaricp_connections_acquire_seconds_sum)"
+  acquire_count="$(metric "$scrape" hikaricp_connections_acquire_seconds_count)"
+
+  awk -v label="$label" -v pool="$POOL" \
+      -v sum="$(awk -v a="$acquire_sum" -v b="$acquire_sum_start" 'BEGIN { print a - b }')" \
+      -v count="$(awk -v a="$acquire_count" -v b="$acquire_count_start" 'BEGIN { print a - b }')" \
+      -v rps="$(awk '/Requests\/sec:/ { print $2 }' "$OUT_DIR/$label.ghz.txt")" '
+    { pending += $1; if ($1 > maxPending) maxPending = $1; if ($2 > maxActive) maxActive = $2; n++ }
+    END {
+      printf "label=%s\npool=%s\nsamples=%d\n", label, pool, n
+      printf "pending_mean=%.2f\npending_max=%d\nactive_max=%d\n", n ? pending / n : 0, maxPending, maxActive
+      printf "acquires=%d\nacquire_mean_ms=%.3f\nrequests_per_sec=%s\n", count, count ? sum / count * 1000 : 0, rps
+    }
+  ' "$samples" | tee "$OUT_DIR/$label.txt"
+}
+
+compare() {
+  local before="$OUT_DIR/$1.txt" after="$OUT_DIR/$2.txt"
+  [[ -f "$before" && -f "$after" ]] || { echo "ERROR: run both labels first"; exit 1; }
+  printf "%-18s %14s %14s\n" metric "$1" "$2"
+  for key in pending_mean pending_max active_max acquires acquire_mean_ms requests_per_sec; do
+    printf "%-18s %14s %14s\n" "$key" \
+      "$(awk -F= -v k="$key" '$1 == k { print $2 }' "$before")" \
+      "$(awk -F= -v k="$key" '$1 == k { print $2 }' "$after")"
+  done
+}
+
+case "${1:-}" in
+  run) [[ $# -eq 2 ]] || usage; run "$2" ;;
+  compare) [[ $# -eq 3 ]] || usage; compare "$2" "$3" ;;
+  *) usage ;;
+esac
@@ -2,6 +2,7 @@ package com.kanokna.cart;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for cart-service.
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * gRPC server: 9083
  */
 @SpringBootApplication
+@EnableScheduling
 public class CartServiceApplication {
     static void main(String[] args) {
         SpringApplication.run(CartServiceApplication.class, args);
@@ -27,7 +27,9 @@ public record CartProperties(
     @Valid @NotNull Timeouts timeouts,
     @Valid @NotNull Limits limits,
     @Valid @NotNull Behavior behavior,
-    @Valid @NotNull Defaults defaults
+    @Valid @NotNull Defaults defaults,
+    @Valid @NotNull Persistence persistence,
+    @Valid @NotNull Abandonment abandonment
 ) {
     /**
      * Compact constructor providing null-safe defaults.
@@ -39,12 +41,27 @@ public record CartProperties(
             Duration.ofMinutes(15),  // snapshotValidity (BR-CART-028)
             Duration.ofMinutes(30),  // priceQuoteStaleness
             Duration.ofSeconds(5),   // catalogValidationTimeout
-            Duration.ofSeconds(5)    // pricingQuoteTimeout
+            Duration.ofSeconds(5),   // pricingQuoteTimeout
+            Duration.ofMinutes(10)   // validationCacheTtl
         );
-        limits = limits != null ? limits : new Limits(50, 100);
+        limits = limits != null ? limits : new Limits(50, 100, 8);
         behavior = behavior != null ? behavior : new Behavior(1.0, false,
             List.of("WINDOW", "DOOR", "ACCESSORY"));
         defaults = defaults != null ? defaults : new Defaults(Currency.RUB);
+        persistence = persistence != null ? persistence : new Persistence(
+            false,                   // writeBehind
+            Duration.ofSeconds(2),   // flushInterval
+            100,                     // flushBatchSize
+            Duration.ofDays(7),      // redisTtl
+            Duration.ofMinutes(1)    // orphanTimeout
+        );
+        abandonment = abandonment != null ? abandonment : new Abandonment(
+            true,                    // enabled
+            Duration.ofMinutes(5),   // scanInterval
+            500,                     // pageSize
+            200,                     // maxPagesPerRun
+            Duration.ofMinutes(5)    // leaseDuration
+        );
     }
 
     /**
@@ -62,7 +79,9 @@ public record CartProperties(
         /** Timeout for catalog validation calls. Default: 5 seconds */
         @NotNull Duration catalogValidationTimeout,
         /** Timeout for pricing quote calls. Default: 5 seconds */
-        @NotNull Duration pricingQuoteTimeout
+        @NotNull Duration pricingQuoteTimeout,
+        /** Lifetime of cached catalog validation outcomes. Default: 10 minutes */
+        @NotNull Duration validationCacheTtl
     ) {}
 
     /**
@@ -72,7 +91,9 @@ public record CartProperties(
         /** Maximum items allowed in a single cart. Default: 50 */
         @Positive int maxItemsPerCart,
         /** Maximum quantity per line item. Default: 100 */
-        @Positive int maxQuantityPerItem
+        @Positive int maxQuantityPerItem,
+        /** Maximum concurrent catalog validation calls per request. Default: 8 */
+        @Positive int maxConcurrentValidations
     ) {}
 
     /**
@@ -87,6 +108,38 @@ public record CartProperties(
         @NotNull List<String> allowedProductFamilies
     ) {}
 
+    /**
+     * Cart persistence mode configuration.
+     */
+    public record Persistence(
+        /** Keep active carts in Redis and write them to Postgres asynchronously. Default: false */
+        boolean writeBehind,
+        /** Delay between write-behind flushes. Default: 2 seconds */
+        @NotNull Duration flushInterval,
+        /** Maximum carts written to Postgres per flush batch. Default: 100 */
+        @Positive int flushBatchSize,
+        /** Lifetime of a cart in Redis after its last write. Default: 7 days */
+        @NotNull Duration redisTtl,
+        /** Silence after which a flusher's in-flight carts are handed to other flushers. Default: 1 minute */
+        @NotNull Duration orphanTimeout
+    ) {}
+
+    /**
+     * Abandoned cart detection configuration (BR-CART-ABANDONED).
+     */
+    public record Abandonment(
+        /** Run the scheduled detector on this instance. Default: true */
+        boolean enabled,
+        /** Delay between detection runs. Default: 5 minutes */
+        @NotNull Duration scanInterval,
+        /** Carts claimed and published per page. Default: 500 */
+        @Positive int pageSize,
+        /** Maximum pages per run; the next run continues with the rest. Default: 200 */
+        @Positive int maxPagesPerRun,
+        /** How long a claimed page stays reserved for this instance. Default: 5 minutes */
+        @NotNull Duration leaseDuration
+    ) {}
+
     /**
      * Default values for cart creation.
      */
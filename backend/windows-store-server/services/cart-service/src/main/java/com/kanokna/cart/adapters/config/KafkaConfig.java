@@ -4,17 +4,22 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
 
 /**
- * Kafka producer configuration for cart events.
+ * Kafka producer configuration for cart events, plus the consumer for catalog change signals.
  * Spring Boot 4.0 / Spring Kafka 4.0 compatible configuration.
  * 
  * Uses Spring Boot's KafkaProperties to read configuration from application.yml
@@ -48,4 +53,27 @@ public class KafkaConfig {
             ProducerFactory<String, Object> producerFactory) {
         return new KafkaTemplate<>(producerFactory);
     }
+
+    /**
+     * Catalog events are only used as change signals, so values stay raw bytes and
+     * the consumer does not depend on the catalog payload format.
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> catalogEventConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        return new DefaultKafkaConsumerFactory<>(
+            configProps,
+            new StringDeserializer(),
+            new ByteArrayDeserializer()
+        );
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> catalogEventKafkaListenerContainerFactory(
+            ConsumerFactory<String, byte[]> catalogEventConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(catalogEventConsumerFactory);
+        return factory;
+    }
 }
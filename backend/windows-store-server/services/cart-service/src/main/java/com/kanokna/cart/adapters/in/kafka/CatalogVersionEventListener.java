@@ -0,0 +1,31 @@
+package com.kanokna.cart.adapters.in.kafka;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.kanokna.cart.application.port.in.InvalidateValidationCacheUseCase;
+
+/**
+ * MODULE_CONTRACT id="MC-cart-kafka-catalog-listener" LAYER="adapters.in.kafka"
+ * INTENT="Drop cached validation outcomes when catalog-configuration-service publishes a catalog version"
+ * LINKS="Technology.xml#TECH-kafka;RequirementsAnalysis.xml#UC-CART-MANAGE"
+ *
+ * Every record on the topic is treated as a change signal; the payload is not read.
+ */
+@Component
+public class CatalogVersionEventListener {
+
+    private final InvalidateValidationCacheUseCase invalidateValidationCacheUseCase;
+
+    public CatalogVersionEventListener(InvalidateValidationCacheUseCase invalidateValidationCacheUseCase) {
+        this.invalidateValidationCacheUseCase = invalidateValidationCacheUseCase;
+    }
+
+    @KafkaListener(
+        topics = "${kafka.topics.catalog-version-published}",
+        containerFactory = "catalogEventKafkaListenerContainerFactory"
+    )
+    public void onCatalogVersionPublished(byte[] payload) {
+        invalidateValidationCacheUseCase.invalidateValidationCache();
+    }
+}
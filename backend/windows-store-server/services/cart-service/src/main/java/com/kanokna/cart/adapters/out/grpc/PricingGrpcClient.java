@@ -12,7 +12,11 @@ import com.kanokna.common.v1.Dimensions;
 import com.kanokna.common.v1.Money;
 import com.kanokna.pricing.v1.CalculateQuoteRequest;
 import com.kanokna.pricing.v1.CalculateQuoteResponse;
+import com.kanokna.pricing.v1.CalculateQuotesRequest;
+import com.kanokna.pricing.v1.CalculateQuotesResponse;
 import com.kanokna.pricing.v1.PricingServiceGrpc;
+import com.kanokna.pricing.v1.QuoteItem;
+import com.kanokna.pricing.v1.QuoteItemResult;
 import com.kanokna.pricing.v1.ValidatePromoCodeRequest;
 import com.kanokna.pricing.v1.ValidatePromoCodeResponse;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -21,7 +25,11 @@ import org.springframework.stereotype.Component;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -55,6 +63,49 @@ public class PricingGrpcClient implements PricingPort, PricingClient {
         return toPriceQuote(response);
     }
 
+    @Override
+    @CircuitBreaker(name = "pricingService", fallbackMethod = "calculateQuotesFallback")
+    public List<PricingPort.PriceQuote> calculateQuotes(
+        List<ConfigurationSnapshot> snapshots,
+        com.kanokna.shared.money.Currency currency
+    ) {
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+        CalculateQuotesRequest.Builder request = CalculateQuotesRequest.newBuilder()
+            .setCurrency(mapCurrency(currency))
+            .setPromoCode("")
+            .setRegion("");
+        for (int i = 0; i < snapshots.size(); i++) {
+            ConfigurationSnapshot snapshot = snapshots.get(i);
+            request.addItems(QuoteItem.newBuilder()
+                .setItemId(String.valueOf(i))
+                .setProductTemplateId(snapshot.productTemplateId())
+                .setDimensions(Dimensions.newBuilder()
+                    .setWidthCm(snapshot.widthCm())
+                    .setHeightCm(snapshot.heightCm())
+                    .build())
+                .setResolvedBom(snapshotToBillOfMaterials(snapshot.resolvedBom()))
+                .build());
+        }
+
+        CalculateQuotesResponse response = stub
+            .withDeadlineAfter(2, TimeUnit.SECONDS)
+            .calculateQuotes(request.build());
+
+        Map<String, PricingPort.PriceQuote> byItemId = new HashMap<>();
+        for (QuoteItemResult result : response.getResultsList()) {
+            byItemId.put(result.getItemId(), result.hasQuote()
+                ? toPriceQuote(result.getQuote())
+                : PricingPort.PriceQuote.unavailable());
+        }
+        List<PricingPort.PriceQuote> quotes = new ArrayList<>(snapshots.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            quotes.add(byItemId.getOrDefault(String.valueOf(i), PricingPort.PriceQuote.unavailable()));
+        }
+        return quotes;
+    }
+
     @Override
     @CircuitBreaker(name = "pricingService", fallbackMethod = "validatePromoFallback")
     public PricingPort.PromoValidationResult validatePromoCode(String promoCode, com.kanokna.shared.money.Money subtotal) {
@@ -142,6 +193,14 @@ public class PricingGrpcClient implements PricingPort, PricingClient {
         return PricingPort.PriceQuote.unavailable();
     }
 
+    private List<PricingPort.PriceQuote> calculateQuotesFallback(
+        List<ConfigurationSnapshot> snapshots,
+        com.kanokna.shared.money.Currency currency,
+        Throwable ex
+    ) {
+        return Collections.nCopies(snapshots.size(), PricingPort.PriceQuote.unavailable());
+    }
+
     private PricingPort.PromoValidationResult validatePromoFallback(
         String promoCode,
         com.kanokna.shared.money.Money subtotal,
@@ -21,6 +21,12 @@ import io.opentelemetry.api.trace.Span;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.MDC;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
@@ -30,6 +36,8 @@ import org.springframework.stereotype.Component;
  */
 @Component
 public class CartKafkaEventPublisher implements EventPublisher, CartEventPublisher {
+    private static final long PUBLISH_ALL_TIMEOUT_SECONDS = 30;
+
     private final KafkaTemplate<String, Object> kafkaTemplate;
 
     public CartKafkaEventPublisher(KafkaTemplate<String, Object> kafkaTemplate) {
@@ -55,6 +63,28 @@ public class CartKafkaEventPublisher implements EventPublisher, CartEventPublish
         kafkaTemplate.send(resolveTopic(event), event.eventId(), payload);
     }
 
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Sends are batched by the producer; wait for every acknowledgement at the end
+        List<CompletableFuture<?>> sends = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            sends.add(kafkaTemplate.send(resolveTopic(event), event.eventId(), toProto(event)));
+        }
+        kafkaTemplate.flush();
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                .get(PUBLISH_ALL_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while publishing " + events.size() + " events", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Failed to publish " + events.size() + " events", ex);
+        }
+    }
+
     private Object toProto(DomainEvent event) {
         String traceId = resolveTraceId();
         if (event instanceof CartCreatedEvent created) {
@@ -0,0 +1,123 @@
+package com.kanokna.cart.adapters.out.persistence;
+
+import com.kanokna.cart.application.port.out.AbandonedCartStore;
+import com.kanokna.shared.money.Currency;
+import com.kanokna.shared.money.Money;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * JDBC adapter for abandoned cart detection.
+ *
+ * A claim is one statement: it walks idx_carts_active_updated from the cursor, skips rows
+ * leased by another owner or locked by a concurrent claim (SKIP LOCKED), and writes its own
+ * lease on at most {@code limit} rows. Each page is therefore a short transaction and a scan
+ * never reads carts that are no longer ACTIVE.
+ */
+@Component
+public class AbandonedCartRepositoryAdapter implements AbandonedCartStore {
+    private static final String CLAIM_INACTIVE = """
+        WITH candidates AS (
+            SELECT cart_id
+            FROM cart.carts
+            WHERE status = 'ACTIVE'
+              AND updated_at < ?
+              AND (updated_at, cart_id) > (?, ?)
+              AND (abandon_lease_until IS NULL OR abandon_lease_until < NOW())
+            ORDER BY updated_at, cart_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        UPDATE cart.carts c
+        SET abandon_lease_owner = ?, abandon_lease_until = NOW() + ? * INTERVAL '1 second'
+        FROM candidates
+        WHERE c.cart_id = candidates.cart_id
+        RETURNING c.cart_id, c.customer_id, c.version, c.updated_at, c.subtotal_amount, c.subtotal_currency,
+            (SELECT COALESCE(SUM(i.quantity), 0) FROM cart.cart_items i WHERE i.cart_id = c.cart_id) AS item_count
+        """;
+
+    private static final String MARK_ABANDONED = """
+        UPDATE cart.carts
+        SET status = 'ABANDONED', updated_at = NOW(), version = version + 1,
+            abandon_lease_owner = NULL, abandon_lease_until = NULL
+        WHERE cart_id = ? AND status = 'ACTIVE' AND updated_at = ? AND abandon_lease_owner = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AbandonedCartRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public List<AbandonedCart> claimInactive(Instant inactiveSince, Cursor after, int limit, String owner,
+                                             Duration lease) {
+        List<AbandonedCart> claimed = jdbcTemplate.query(CLAIM_INACTIVE,
+            AbandonedCartRepositoryAdapter::toAbandonedCart,
+            Timestamp.from(inactiveSince),
+            Timestamp.from(after.updatedAt()),
+            UUID.fromString(after.cartId()),
+            limit,
+            owner,
+            lease.toSeconds());
+        // RETURNING does not keep the scan order. Lower-case UUID strings sort like Postgres
+        // uuids; UUID.compareTo compares signed halves and does not
+        return claimed.stream()
+            .sorted(Comparator.comparing(AbandonedCart::lastActivity).thenComparing(AbandonedCart::cartId))
+            .toList();
+    }
+
+    @Override
+    @Transactional
+    public int markAbandoned(List<AbandonedCart> carts, String owner) {
+        if (carts.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(MARK_ABANDONED, carts.stream()
+            .map(cart -> new Object[] {
+                UUID.fromString(cart.cartId()),
+                Timestamp.from(cart.lastActivity()),
+                owner
+            })
+            .toList());
+        int marked = 0;
+        for (int count : counts) {
+            marked += Math.max(count, 0);
+        }
+        return marked;
+    }
+
+    private static AbandonedCart toAbandonedCart(ResultSet rs, int rowNum) throws SQLException {
+        BigDecimal subtotal = rs.getBigDecimal("subtotal_amount");
+        return new AbandonedCart(
+            rs.getObject("cart_id", UUID.class).toString(),
+            rs.getString("customer_id"),
+            rs.getLong("version"),
+            rs.getTimestamp("updated_at").toInstant(),
+            rs.getInt("item_count"),
+            Money.of(subtotal != null ? subtotal : BigDecimal.ZERO, resolveCurrency(rs.getString("subtotal_currency")))
+        );
+    }
+
+    private static Currency resolveCurrency(String currencyCode) {
+        if (currencyCode == null || currencyCode.isBlank()) {
+            return Currency.RUB;
+        }
+        try {
+            return Currency.valueOf(currencyCode);
+        } catch (IllegalArgumentException ex) {
+            return Currency.RUB;
+        }
+    }
+}
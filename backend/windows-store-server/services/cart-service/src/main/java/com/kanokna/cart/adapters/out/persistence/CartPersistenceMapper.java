@@ -257,7 +257,7 @@ public class CartPersistenceMapper {
         }
     }
 
-    private String writeConfigurationSnapshot(ConfigurationSnapshot snapshot) {
+    String writeConfigurationSnapshot(ConfigurationSnapshot snapshot) {
         try {
             return objectMapper.writeValueAsString(snapshot);
         } catch (JsonProcessingException ex) {
@@ -1,36 +1,260 @@
 package com.kanokna.cart.adapters.out.persistence;
 
 import com.kanokna.cart.application.port.out.CartRepository;
+import com.kanokna.cart.domain.model.AppliedPromoCode;
 import com.kanokna.cart.domain.model.Cart;
+import com.kanokna.cart.domain.model.CartItem;
+import com.kanokna.cart.domain.model.CartItemChanges;
+import com.kanokna.cart.domain.model.CartTotals;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * JPA adapter for cart persistence.
+ * Cart persistence adapter. Reads go through JPA; {@link #save} writes with JDBC.
+ *
+ * A save updates the cart row and then writes only the item rows the aggregate reports as
+ * changed ({@link Cart#itemChanges()}): removed items are deleted, added items inserted and
+ * changed items updated, each kind as one JDBC batch. Updates leave the configuration
+ * snapshot alone, since it never changes after an item is added, so unchanged items cost
+ * nothing and changed items are not re-serialized. A cart without a stored row is inserted
+ * together with all of its items. The cart row is only updated while it still carries the
+ * version the cart was loaded with ({@link Cart#persistedVersion()}); if another writer got
+ * there first the save fails with {@link OptimisticLockingFailureException}. Loaded entities
+ * are detached right after mapping, so a later read in the same transaction sees the rows
+ * written here.
  */
 @Component
 public class CartRepositoryAdapter implements CartRepository {
+    private static final String UPDATE_CART = """
+        UPDATE cart.carts
+        SET status = ?, applied_promo_code = ?, promo_discount_amount = ?, promo_discount_currency = ?,
+            subtotal_amount = ?, subtotal_currency = ?, discount_amount = ?, tax_amount = ?, total_amount = ?,
+            updated_at = ?, version = ?
+        WHERE cart_id = ? AND version = ?
+        """;
+
+    private static final String INSERT_CART = """
+        INSERT INTO cart.carts (status, applied_promo_code, promo_discount_amount, promo_discount_currency,
+            subtotal_amount, subtotal_currency, discount_amount, tax_amount, total_amount,
+            updated_at, version, cart_id, customer_id, session_id, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_ITEM = """
+        INSERT INTO cart.cart_items (item_id, cart_id, product_template_id, product_name, product_family,
+            thumbnail_url, configuration_snapshot, configuration_hash, quantity, unit_price_amount,
+            unit_price_currency, line_total_amount, quote_id, quote_valid_until, validation_status,
+            validation_message, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String UPDATE_ITEM = """
+        UPDATE cart.cart_items
+        SET quantity = ?, unit_price_amount = ?, unit_price_currency = ?, line_total_amount = ?,
+            quote_id = ?, quote_valid_until = ?, validation_status = ?, validation_message = ?, updated_at = ?
+        WHERE item_id = ?
+        """;
+
+    private static final String DELETE_ITEM = "DELETE FROM cart.cart_items WHERE item_id = ?";
+
     private final CartJpaRepository repository;
     private final CartPersistenceMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
-    public CartRepositoryAdapter(CartJpaRepository repository, CartPersistenceMapper mapper) {
+    public CartRepositoryAdapter(
+            CartJpaRepository repository,
+            CartPersistenceMapper mapper,
+            JdbcTemplate jdbcTemplate,
+            EntityManager entityManager) {
         this.repository = repository;
         this.mapper = mapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Override
     public Optional<Cart> findByCustomerId(String customerId) {
-        return repository.findByCustomerId(customerId).map(mapper::toDomain);
+        return repository.findByCustomerId(customerId).map(this::toDomain);
     }
 
     @Override
     public Optional<Cart> findBySessionId(String sessionId) {
-        return repository.findBySessionId(sessionId).map(mapper::toDomain);
+        return repository.findBySessionId(sessionId).map(this::toDomain);
     }
 
     @Override
+    @Transactional
     public Cart save(Cart cart) {
-        CartJpaEntity saved = repository.save(mapper.toEntity(cart));
-        return mapper.toDomain(saved);
+        UUID cartId = UUID.fromString(cart.cartId().toString());
+        if (!updateCartRow(cart, cart.persistedVersion())) {
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM cart.carts WHERE cart_id = ?)", Boolean.class, cartId))) {
+                throw new OptimisticLockingFailureException("Cart " + cartId
+                    + " was modified concurrently; expected stored version " + cart.persistedVersion());
+            }
+            insertCartRow(cart);
+            insertItems(cartId, cart.items());
+        } else {
+            CartItemChanges changes = cart.itemChanges();
+            if (!changes.removed().isEmpty()) {
+                jdbcTemplate.batchUpdate(DELETE_ITEM, changes.removed().stream()
+                    .map(itemId -> new Object[] {UUID.fromString(itemId.toString())})
+                    .toList());
+            }
+            insertItems(cartId, changes.added());
+            if (!changes.changed().isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_ITEM, changes.changed().stream()
+                    .map(CartRepositoryAdapter::itemUpdateRow)
+                    .toList());
+            }
+        }
+        cart.markPersisted();
+        return cart;
+    }
+
+    /**
+     * Writes carts kept elsewhere (write-behind) in one transaction. Each stored row is
+     * locked first, and a cart whose stored row was updated later than the given state is
+     * skipped, so a delayed flush never overwrites a newer one. The version check uses the
+     * locked row's version rather than the cart's, which may never have been stored. Such
+     * carts carry no item changes, so their items are replaced as a whole.
+     *
+     * @return number of carts written
+     */
+    @Transactional
+    public int saveAllIfNewer(Collection<Cart> carts) {
+        int written = 0;
+        for (Cart cart : carts) {
+            UUID cartId = UUID.fromString(cart.cartId().toString());
+            List<StoredRow> stored = jdbcTemplate.query(
+                "SELECT updated_at, version FROM cart.carts WHERE cart_id = ? FOR UPDATE",
+                (rs, rowNum) -> new StoredRow(rs.getTimestamp(1).toInstant(), rs.getLong(2)),
+                cartId);
+            if (stored.isEmpty()) {
+                insertCartRow(cart);
+            } else {
+                // timestamptz keeps microseconds
+                if (stored.get(0).updatedAt().isAfter(cart.updatedAt().truncatedTo(ChronoUnit.MICROS))) {
+                    continue;
+                }
+                updateCartRow(cart, stored.get(0).version());
+                jdbcTemplate.update("DELETE FROM cart.cart_items WHERE cart_id = ?", cartId);
+            }
+            insertItems(cartId, cart.items());
+            written++;
+        }
+        return written;
+    }
+
+    private Cart toDomain(CartJpaEntity entity) {
+        Cart cart = mapper.toDomain(entity);
+        entityManager.detach(entity);
+        return cart;
+    }
+
+    /**
+     * Updates the cart row if it still has the expected version.
+     *
+     * @return false if no row with that version exists
+     */
+    private boolean updateCartRow(Cart cart, long expectedVersion) {
+        List<Object> cartRow = cartRow(cart);
+        cartRow.add(expectedVersion);
+        return jdbcTemplate.update(UPDATE_CART, cartRow.toArray()) > 0;
+    }
+
+    private void insertCartRow(Cart cart) {
+        List<Object> cartRow = cartRow(cart);
+        cartRow.add(cart.customerId());
+        cartRow.add(cart.sessionId());
+        cartRow.add(Timestamp.from(cart.createdAt()));
+        jdbcTemplate.update(INSERT_CART, cartRow.toArray());
+    }
+
+    private void insertItems(UUID cartId, List<CartItem> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>(items.size());
+        for (CartItem item : items) {
+            rows.add(new Object[] {
+                UUID.fromString(item.itemId().toString()),
+                cartId,
+                item.productTemplateId(),
+                item.productName(),
+                item.productFamily(),
+                item.thumbnailUrl(),
+                mapper.writeConfigurationSnapshot(item.configurationSnapshot()),
+                item.configurationHash(),
+                item.quantity(),
+                item.unitPrice().getAmount(),
+                item.unitPrice().getCurrency().name(),
+                item.lineTotal().getAmount(),
+                item.quoteReference().quoteId(),
+                timestamp(item.quoteReference().validUntil()),
+                item.validationStatus().name(),
+                item.validationMessage(),
+                Timestamp.from(item.createdAt()),
+                Timestamp.from(item.updatedAt())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_ITEM, rows);
+    }
+
+    /**
+     * Values of {@link #UPDATE_CART}, in order, without the expected version;
+     * {@link #INSERT_CART} appends the columns that never change.
+     */
+    private static List<Object> cartRow(Cart cart) {
+        CartTotals totals = cart.totals();
+        AppliedPromoCode promo = cart.appliedPromoCode();
+        List<Object> row = new ArrayList<>(15);
+        row.add(cart.status().name());
+        row.add(promo != null ? promo.code() : null);
+        row.add(promo != null ? promo.discountAmount().getAmount() : null);
+        row.add(promo != null ? promo.discountAmount().getCurrency().name() : null);
+        row.add(totals.subtotal().getAmount());
+        row.add(totals.subtotal().getCurrency().name());
+        row.add(totals.discount().getAmount());
+        row.add(totals.tax().getAmount());
+        row.add(totals.total().getAmount());
+        row.add(Timestamp.from(cart.updatedAt()));
+        row.add((long) cart.version());
+        row.add(UUID.fromString(cart.cartId().toString()));
+        return row;
+    }
+
+    private static Object[] itemUpdateRow(CartItem item) {
+        return new Object[] {
+            item.quantity(),
+            item.unitPrice().getAmount(),
+            item.unitPrice().getCurrency().name(),
+            item.lineTotal().getAmount(),
+            item.quoteReference().quoteId(),
+            timestamp(item.quoteReference().validUntil()),
+            item.validationStatus().name(),
+            item.validationMessage(),
+            Timestamp.from(item.updatedAt()),
+            UUID.fromString(item.itemId().toString())
+        };
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    private record StoredRow(Instant updatedAt, long version) {
     }
 }
@@ -0,0 +1,162 @@
+package com.kanokna.cart.adapters.out.redis;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import com.kanokna.cart.domain.model.AppliedPromoCode;
+import com.kanokna.cart.domain.model.Cart;
+import com.kanokna.cart.domain.model.CartId;
+import com.kanokna.cart.domain.model.CartItem;
+import com.kanokna.cart.domain.model.CartItemId;
+import com.kanokna.cart.domain.model.CartStatus;
+import com.kanokna.cart.domain.model.CartTotals;
+import com.kanokna.cart.domain.model.ConfigurationSnapshot;
+import com.kanokna.cart.domain.model.PriceQuoteReference;
+import com.kanokna.cart.domain.model.ValidationStatus;
+import com.kanokna.shared.money.Currency;
+import com.kanokna.shared.money.Money;
+
+/**
+ * JSON document of a cart aggregate as kept in Redis by the write-behind cart store.
+ */
+record RedisCartDocument(
+    String cartId,
+    String customerId,
+    String sessionId,
+    CartStatus status,
+    PromoDocument appliedPromoCode,
+    TotalsDocument totals,
+    List<ItemDocument> items,
+    Instant createdAt,
+    Instant updatedAt,
+    int version
+) {
+    static RedisCartDocument from(Cart cart) {
+        AppliedPromoCode promo = cart.appliedPromoCode();
+        CartTotals totals = cart.totals();
+        return new RedisCartDocument(
+            cart.cartId().toString(),
+            cart.customerId(),
+            cart.sessionId(),
+            cart.status(),
+            promo != null
+                ? new PromoDocument(promo.code(), MoneyDocument.from(promo.discountAmount()),
+                    promo.description(), promo.appliedAt())
+                : null,
+            new TotalsDocument(
+                MoneyDocument.from(totals.subtotal()),
+                MoneyDocument.from(totals.discount()),
+                MoneyDocument.from(totals.tax()),
+                MoneyDocument.from(totals.total()),
+                totals.itemCount()),
+            cart.items().stream().map(ItemDocument::from).toList(),
+            cart.createdAt(),
+            cart.updatedAt(),
+            cart.version()
+        );
+    }
+
+    Cart toDomain() {
+        return Cart.rehydrate(
+            CartId.of(cartId),
+            customerId,
+            sessionId,
+            status,
+            appliedPromoCode != null
+                ? new AppliedPromoCode(appliedPromoCode.code(), appliedPromoCode.discountAmount().toMoney(),
+                    appliedPromoCode.description(), appliedPromoCode.appliedAt())
+                : null,
+            new CartTotals(
+                totals.subtotal().toMoney(),
+                totals.discount().toMoney(),
+                totals.tax().toMoney(),
+                totals.total().toMoney(),
+                totals.itemCount()),
+            items.stream().map(ItemDocument::toDomain).toList(),
+            createdAt,
+            updatedAt,
+            version
+        );
+    }
+
+    record ItemDocument(
+        String itemId,
+        String productTemplateId,
+        String productName,
+        String productFamily,
+        ConfigurationSnapshot configurationSnapshot,
+        String configurationHash,
+        int quantity,
+        MoneyDocument unitPrice,
+        String quoteId,
+        Instant quoteValidUntil,
+        ValidationStatus validationStatus,
+        String validationMessage,
+        String thumbnailUrl,
+        boolean priceStale,
+        Instant createdAt,
+        Instant updatedAt
+    ) {
+        static ItemDocument from(CartItem item) {
+            return new ItemDocument(
+                item.itemId().toString(),
+                item.productTemplateId(),
+                item.productName(),
+                item.productFamily(),
+                item.configurationSnapshot(),
+                item.configurationHash(),
+                item.quantity(),
+                MoneyDocument.from(item.unitPrice()),
+                item.quoteReference().quoteId(),
+                item.quoteReference().validUntil(),
+                item.validationStatus(),
+                item.validationMessage(),
+                item.thumbnailUrl(),
+                item.priceStale(),
+                item.createdAt(),
+                item.updatedAt()
+            );
+        }
+
+        CartItem toDomain() {
+            return CartItem.rehydrate(
+                CartItemId.of(itemId),
+                productTemplateId,
+                productName,
+                productFamily,
+                configurationSnapshot,
+                configurationHash,
+                quantity,
+                unitPrice.toMoney(),
+                new PriceQuoteReference(quoteId, quoteValidUntil),
+                validationStatus,
+                validationMessage,
+                thumbnailUrl,
+                priceStale,
+                createdAt,
+                updatedAt
+            );
+        }
+    }
+
+    record TotalsDocument(
+        MoneyDocument subtotal,
+        MoneyDocument discount,
+        MoneyDocument tax,
+        MoneyDocument total,
+        int itemCount
+    ) {}
+
+    record PromoDocument(String code, MoneyDocument discountAmount, String description, Instant appliedAt) {}
+
+    record MoneyDocument(BigDecimal amount, Currency currency) {
+        static MoneyDocument from(Money money) {
+            return new MoneyDocument(money.getAmount(), money.getCurrency());
+        }
+
+        Money toMoney() {
+            return Money.of(amount, currency);
+        }
+    }
+}
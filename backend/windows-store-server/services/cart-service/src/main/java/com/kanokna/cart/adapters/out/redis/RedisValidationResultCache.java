@@ -0,0 +1,118 @@
+package com.kanokna.cart.adapters.out.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.kanokna.cart.adapters.config.CartProperties;
+import com.kanokna.cart.application.port.out.ValidationResultCache;
+import com.kanokna.cart.application.service.dto.ValidationResult;
+
+/**
+ * Redis-backed cache of catalog validation outcomes.
+ *
+ * The catalog generation is a counter at {@code cart:validation:generation}; entries live
+ * under {@code cart:validation:<generation>:<configurationHash>}. Invalidation increments the
+ * counter, so entries of earlier generations are no longer read and expire with their TTL.
+ * A lookup costs two round trips (generation, then MGET) and a store one pipelined batch.
+ */
+@Component
+public class RedisValidationResultCache implements ValidationResultCache {
+    private static final String KEY_PREFIX = "cart:validation:";
+    private static final String GENERATION_KEY = KEY_PREFIX + "generation";
+    private static final String VALID = "VALID";
+    private static final String INVALID = "INVALID";
+    private static final String SEPARATOR = "\u001F";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CartProperties properties;
+
+    public RedisValidationResultCache(StringRedisTemplate redisTemplate, CartProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Lookup findAll(Collection<String> configurationHashes) {
+        String generationValue = redisTemplate.opsForValue().get(GENERATION_KEY);
+        long generation = generationValue != null ? Long.parseLong(generationValue) : 0L;
+        if (configurationHashes.isEmpty()) {
+            return new Lookup(generation, Map.of());
+        }
+
+        List<String> hashes = new ArrayList<>(configurationHashes);
+        List<String> keys = new ArrayList<>(hashes.size());
+        for (String hash : hashes) {
+            keys.add(key(generation, hash));
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<String, ValidationResult> results = new HashMap<>();
+        if (values != null) {
+            for (int i = 0; i < hashes.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    results.put(hashes.get(i), decode(value));
+                }
+            }
+        }
+        return new Lookup(generation, results);
+    }
+
+    @Override
+    public void storeAll(long catalogGeneration, Map<String, ValidationResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Duration ttl = properties.timeouts().validationCacheTtl();
+        Expiration expiration = Expiration.from(ttl);
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            results.forEach((hash, result) -> connection.stringCommands().set(
+                serializer.serialize(key(catalogGeneration, hash)),
+                serializer.serialize(encode(result)),
+                expiration,
+                SetOption.upsert()));
+            return null;
+        });
+    }
+
+    @Override
+    public void invalidateAll() {
+        redisTemplate.opsForValue().increment(GENERATION_KEY);
+    }
+
+    private String key(long generation, String configurationHash) {
+        return KEY_PREFIX + generation + ":" + configurationHash;
+    }
+
+    private static String encode(ValidationResult result) {
+        if (result.valid()) {
+            return VALID;
+        }
+        StringBuilder value = new StringBuilder(INVALID);
+        for (String error : result.errors()) {
+            value.append(SEPARATOR).append(error);
+        }
+        return value.toString();
+    }
+
+    private static ValidationResult decode(String value) {
+        if (VALID.equals(value)) {
+            return ValidationResult.validResult();
+        }
+        String[] parts = value.split(SEPARATOR, -1);
+        return ValidationResult.invalid(List.copyOf(Arrays.asList(parts).subList(1, parts.length)));
+    }
+}
@@ -0,0 +1,320 @@
+package com.kanokna.cart.adapters.out.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanokna.cart.adapters.config.CartProperties;
+import com.kanokna.cart.adapters.out.persistence.CartRepositoryAdapter;
+import com.kanokna.cart.application.port.out.CartRepository;
+import com.kanokna.cart.domain.model.Cart;
+
+/**
+ * Write-behind cart store: Redis holds the current cart, Postgres is updated asynchronously.
+ *
+ * Carts live under {@code cart:wb:data:<cartId>}, with owner indexes
+ * {@code cart:wb:customer:<customerId>} and {@code cart:wb:session:<sessionId>}. A save
+ * writes the document and indexes and adds the cart ID to the {@code cart:wb:dirty} set in
+ * one pipelined round trip. A flusher claims dirty IDs in batches by moving them with SMOVE
+ * into its own {@code cart:wb:processing:<flusherId>} set, so every replica can flush and a
+ * cart changed many times between flushes is written once. IDs leave the processing set only
+ * after {@link CartRepositoryAdapter#saveAllIfNewer} has committed; failed carts are moved
+ * back to the dirty set. Each flush records a heartbeat in {@code cart:wb:flushers}, and a
+ * sweep, run at startup and then periodically, hands the processing set of any flusher
+ * silent for longer than the orphan timeout back to the dirty set, so carts claimed by a
+ * crashed instance are flushed by another one. Reads that miss Redis fall back to Postgres
+ * and warm Redis without overwriting a newer document.
+ *
+ * {@link #saveAndFlush} writes Postgres synchronously. Postgres writes go through
+ * {@link CartRepositoryAdapter#saveAllIfNewer}, so a delayed flush never overwrites a newer
+ * row. Enabled with {@code kanokna.cart.persistence.write-behind=true}.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(prefix = "kanokna.cart.persistence", name = "write-behind", havingValue = "true")
+public class WriteBehindCartRepository implements CartRepository {
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindCartRepository.class);
+    private static final String SERVICE = "cart-service";
+    private static final String USE_CASE = "UC-CART-MANAGE";
+    private static final String DATA_PREFIX = "cart:wb:data:";
+    private static final String CUSTOMER_PREFIX = "cart:wb:customer:";
+    private static final String SESSION_PREFIX = "cart:wb:session:";
+    private static final String DIRTY_KEY = "cart:wb:dirty";
+    private static final String PROCESSING_PREFIX = "cart:wb:processing:";
+    private static final String FLUSHERS_KEY = "cart:wb:flushers";
+
+    /**
+     * Moves an orphaned processing set back to the dirty set, unless its flusher sent a
+     * heartbeat since it was found stale. Returns the number of IDs handed back, or -1.
+     */
+    private static final DefaultRedisScript<Long> RECOVER_ORPHANED = new DefaultRedisScript<>("""
+        local heartbeat = redis.call('ZSCORE', KEYS[3], ARGV[1])
+        if heartbeat and tonumber(heartbeat) > tonumber(ARGV[2]) then
+            return -1
+        end
+        local orphaned = redis.call('SCARD', KEYS[1])
+        if orphaned > 0 then
+            redis.call('SUNIONSTORE', KEYS[2], KEYS[2], KEYS[1])
+            redis.call('DEL', KEYS[1])
+        end
+        redis.call('ZREM', KEYS[3], ARGV[1])
+        return orphaned
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CartRepositoryAdapter database;
+    private final ObjectMapper objectMapper;
+    private final CartProperties properties;
+    private final String flusherId = "cart-" + UUID.randomUUID();
+    private final String processingKey = PROCESSING_PREFIX + flusherId;
+
+    public WriteBehindCartRepository(
+            StringRedisTemplate redisTemplate,
+            CartRepositoryAdapter database,
+            ObjectMapper objectMapper,
+            CartProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.database = database;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<Cart> findByCustomerId(String customerId) {
+        return find(CUSTOMER_PREFIX + customerId)
+            .or(() -> database.findByCustomerId(customerId).map(this::warm));
+    }
+
+    @Override
+    public Optional<Cart> findBySessionId(String sessionId) {
+        return find(SESSION_PREFIX + sessionId)
+            .or(() -> database.findBySessionId(sessionId).map(this::warm));
+    }
+
+    @Override
+    public Cart save(Cart cart) {
+        write(cart, true);
+        return cart;
+    }
+
+    @Override
+    public Cart saveAndFlush(Cart cart) {
+        // A pending dirty mark stays: the flusher then rewrites the same or a newer state
+        write(cart, false);
+        database.saveAllIfNewer(List.of(cart));
+        return cart;
+    }
+
+    /**
+     * Writes up to one batch of dirty carts to Postgres. A cart that changes again while
+     * its batch is written is re-marked dirty by that save and picked up next time.
+     */
+    @Scheduled(fixedDelayString = "${kanokna.cart.persistence.flush-interval:2s}")
+    public void flushDirtyCarts() {
+        redisTemplate.opsForZSet().add(FLUSHERS_KEY, flusherId, System.currentTimeMillis());
+        List<String> cartIds = claim(properties.persistence().flushBatchSize());
+        if (cartIds.isEmpty()) {
+            return;
+        }
+        List<String> documents = redisTemplate.opsForValue().multiGet(
+            cartIds.stream().map(id -> DATA_PREFIX + id).toList());
+        List<Cart> carts = new ArrayList<>(cartIds.size());
+        for (int i = 0; i < cartIds.size(); i++) {
+            String document = documents != null ? documents.get(i) : null;
+            if (document == null) {
+                continue;
+            }
+            try {
+                carts.add(decode(document));
+            } catch (IllegalStateException ex) {
+                log.atError()
+                    .addKeyValue("svc", SERVICE)
+                    .addKeyValue("uc", USE_CASE)
+                    .addKeyValue("block", "BA-CART-PERSIST-01")
+                    .addKeyValue("state", "UNREADABLE")
+                    .addKeyValue("cartId", cartIds.get(i))
+                    .setCause(ex)
+                    .log("Skipping unreadable write-behind cart document");
+            }
+        }
+
+        // Missing and unreadable documents are settled along with the saved carts
+        List<String> failed = new ArrayList<>();
+        try {
+            database.saveAllIfNewer(carts);
+        } catch (RuntimeException batchFailure) {
+            // Retry one by one so a single bad cart does not hold back the batch
+            for (Cart cart : carts) {
+                try {
+                    database.saveAllIfNewer(List.of(cart));
+                } catch (RuntimeException ex) {
+                    failed.add(cart.cartId().toString());
+                    log.atWarn()
+                        .addKeyValue("svc", SERVICE)
+                        .addKeyValue("uc", USE_CASE)
+                        .addKeyValue("block", "BA-CART-PERSIST-01")
+                        .addKeyValue("state", "FLUSH_FAILED")
+                        .addKeyValue("cartId", cart.cartId().toString())
+                        .setCause(ex)
+                        .log("Write-behind flush failed, cart stays dirty");
+                }
+            }
+        }
+        requeue(failed);
+        List<String> settled = new ArrayList<>(cartIds);
+        settled.removeAll(failed);
+        if (!settled.isEmpty()) {
+            redisTemplate.opsForSet().remove(processingKey, settled.toArray());
+        }
+
+        log.atDebug()
+            .addKeyValue("svc", SERVICE)
+            .addKeyValue("uc", USE_CASE)
+            .addKeyValue("block", "BA-CART-PERSIST-01")
+            .addKeyValue("state", "FLUSHED")
+            .addKeyValue("cartCount", carts.size())
+            .log("Write-behind flush complete");
+    }
+
+    /**
+     * Hands the in-flight carts of flushers silent for longer than the orphan timeout back
+     * to the dirty set. Runs at startup and then once per orphan timeout.
+     */
+    @Scheduled(fixedDelayString = "${kanokna.cart.persistence.orphan-timeout:1m}")
+    public void recoverOrphanedCarts() {
+        long staleBefore = System.currentTimeMillis() - properties.persistence().orphanTimeout().toMillis();
+        Set<String> staleFlushers = redisTemplate.opsForZSet().rangeByScore(FLUSHERS_KEY, 0, staleBefore);
+        if (staleFlushers == null) {
+            return;
+        }
+        for (String staleFlusher : staleFlushers) {
+            if (staleFlusher.equals(flusherId)) {
+                continue;
+            }
+            Long recovered = redisTemplate.execute(RECOVER_ORPHANED,
+                List.of(PROCESSING_PREFIX + staleFlusher, DIRTY_KEY, FLUSHERS_KEY),
+                staleFlusher, Long.toString(staleBefore));
+            if (recovered != null && recovered > 0) {
+                log.atInfo()
+                    .addKeyValue("svc", SERVICE)
+                    .addKeyValue("uc", USE_CASE)
+                    .addKeyValue("block", "BA-CART-PERSIST-01")
+                    .addKeyValue("state", "RECOVERED")
+                    .addKeyValue("flusherId", staleFlusher)
+                    .addKeyValue("cartCount", recovered)
+                    .log("Handed carts of a silent flusher back to the dirty set");
+            }
+        }
+    }
+
+    /**
+     * Moves up to {@code count} dirty IDs into this flusher's processing set. SMOVE is atomic,
+     * so an ID picked by several replicas at once is claimed by exactly one of them.
+     */
+    private List<String> claim(int count) {
+        Set<String> candidates = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, count);
+        if (candidates == null || candidates.isEmpty()) {
+            return List.of();
+        }
+        List<String> cartIds = new ArrayList<>(candidates);
+        List<Object> moved = moveAll(cartIds, DIRTY_KEY, processingKey);
+        List<String> claimed = new ArrayList<>(cartIds.size());
+        for (int i = 0; i < cartIds.size(); i++) {
+            if (Boolean.TRUE.equals(moved.get(i))) {
+                claimed.add(cartIds.get(i));
+            }
+        }
+        return claimed;
+    }
+
+    private void requeue(List<String> cartIds) {
+        if (!cartIds.isEmpty()) {
+            moveAll(cartIds, processingKey, DIRTY_KEY);
+        }
+    }
+
+    private List<Object> moveAll(List<String> cartIds, String source, String destination) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] sourceKey = serializer.serialize(source);
+        byte[] destinationKey = serializer.serialize(destination);
+        return redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String cartId : cartIds) {
+                connection.setCommands().sMove(sourceKey, destinationKey, serializer.serialize(cartId));
+            }
+            return null;
+        });
+    }
+
+    private Optional<Cart> find(String indexKey) {
+        String cartId = redisTemplate.opsForValue().get(indexKey);
+        if (cartId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(redisTemplate.opsForValue().get(DATA_PREFIX + cartId)).map(this::decode);
+    }
+
+    private Cart warm(Cart cart) {
+        write(cart, false, SetOption.ifAbsent());
+        return cart;
+    }
+
+    private void write(Cart cart, boolean markDirty) {
+        write(cart, markDirty, SetOption.upsert());
+    }
+
+    private void write(Cart cart, boolean markDirty, SetOption dataOption) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        Expiration expiration = Expiration.from(properties.persistence().redisTtl());
+        String cartId = cart.cartId().toString();
+        byte[] document = serializer.serialize(encode(cart));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(serializer.serialize(DATA_PREFIX + cartId), document,
+                expiration, dataOption);
+            if (cart.customerId() != null) {
+                connection.stringCommands().set(serializer.serialize(CUSTOMER_PREFIX + cart.customerId()),
+                    serializer.serialize(cartId), expiration, SetOption.upsert());
+            }
+            if (cart.sessionId() != null) {
+                connection.stringCommands().set(serializer.serialize(SESSION_PREFIX + cart.sessionId()),
+                    serializer.serialize(cartId), expiration, SetOption.upsert());
+            }
+            if (markDirty) {
+                connection.setCommands().sAdd(serializer.serialize(DIRTY_KEY), serializer.serialize(cartId));
+            }
+            return null;
+        });
+    }
+
+    private String encode(Cart cart) {
+        try {
+            return objectMapper.writeValueAsString(RedisCartDocument.from(cart));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize cart " + cart.cartId(), ex);
+        }
+    }
+
+    private Cart decode(String document) {
+        try {
+            return objectMapper.readValue(document, RedisCartDocument.class).toDomain();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to parse cart document", ex);
+        }
+    }
+}
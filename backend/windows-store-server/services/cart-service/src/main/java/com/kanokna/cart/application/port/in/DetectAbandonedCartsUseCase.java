@@ -0,0 +1,13 @@
+package com.kanokna.cart.application.port.in;
+
+/**
+ * Use case for publishing cart.abandoned events for inactive carts.
+ */
+public interface DetectAbandonedCartsUseCase {
+    /**
+     * Runs one detection pass.
+     *
+     * @return number of carts marked abandoned
+     */
+    int detectAbandonedCarts();
+}
@@ -0,0 +1,8 @@
+package com.kanokna.cart.application.port.in;
+
+/**
+ * Use case for discarding cached validation outcomes after a catalog change.
+ */
+public interface InvalidateValidationCacheUseCase {
+    void invalidateValidationCache();
+}
@@ -0,0 +1,56 @@
+package com.kanokna.cart.application.port.out;
+
+import com.kanokna.shared.money.Money;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbound port for finding and marking abandoned carts.
+ *
+ * Carts are claimed with a lease before their events are published, so several replicas
+ * can scan at the same time without publishing the same cart twice while the lease holds.
+ */
+public interface AbandonedCartStore {
+
+    /**
+     * Leases up to {@code limit} active carts last updated before {@code inactiveSince},
+     * ordered by last update and positioned after {@code after}. Carts leased by another
+     * owner are skipped.
+     *
+     * @return claimed carts in scan order
+     */
+    List<AbandonedCart> claimInactive(Instant inactiveSince, Cursor after, int limit, String owner, Duration lease);
+
+    /**
+     * Marks claimed carts ABANDONED and releases their lease. A cart updated since it was
+     * claimed, or whose lease passed to another owner, is left unchanged.
+     *
+     * @return number of carts marked
+     */
+    int markAbandoned(List<AbandonedCart> carts, String owner);
+
+    /**
+     * Keyset scan position: last update time, then cart ID.
+     */
+    record Cursor(Instant updatedAt, String cartId) {
+        private static final Cursor START = new Cursor(Instant.EPOCH, "00000000-0000-0000-0000-000000000000");
+
+        public static Cursor start() {
+            return START;
+        }
+    }
+
+    record AbandonedCart(
+        String cartId,
+        String customerId,
+        long version,
+        Instant lastActivity,
+        int itemCount,
+        Money subtotal
+    ) {
+        public Cursor cursor() {
+            return new Cursor(lastActivity, cartId);
+        }
+    }
+}
@@ -1,10 +1,18 @@
 package com.kanokna.cart.application.port.out;
 
 import com.kanokna.shared.event.DomainEvent;
+import java.util.List;
 
 /**
  * Outbound port for cart domain event publishing.
  */
 public interface CartEventPublisher {
     void publish(DomainEvent event);
+
+    /**
+     * Publishes the events and waits until all of them are acknowledged.
+     *
+     * @throws IllegalStateException if any event could not be published
+     */
+    void publishAll(List<? extends DomainEvent> events);
 }
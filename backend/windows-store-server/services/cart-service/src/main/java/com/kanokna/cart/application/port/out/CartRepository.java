@@ -12,4 +12,12 @@ public interface CartRepository {
     Optional<Cart> findBySessionId(String sessionId);
 
     Cart save(Cart cart);
+
+    /**
+     * Saves the cart and writes it to the system of record before returning.
+     * Used where other services rely on the stored cart right away (checkout, merge).
+     */
+    default Cart saveAndFlush(Cart cart) {
+        return save(cart);
+    }
 }
@@ -4,6 +4,7 @@ import com.kanokna.cart.domain.model.ConfigurationSnapshot;
 import com.kanokna.shared.money.Currency;
 import com.kanokna.shared.money.Money;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * Outbound port for pricing-service integration.
@@ -11,6 +12,12 @@ import java.time.Instant;
 public interface PricingPort {
     PriceQuote calculateQuote(ConfigurationSnapshot snapshot, Currency currency);
 
+    /**
+     * Prices several configurations in one call.
+     * Returns one quote per snapshot, in the same order; failed items are unavailable quotes.
+     */
+    List<PriceQuote> calculateQuotes(List<ConfigurationSnapshot> snapshots, Currency currency);
+
     PromoValidationResult validatePromoCode(String promoCode, Money subtotal);
 
     record PriceQuote(
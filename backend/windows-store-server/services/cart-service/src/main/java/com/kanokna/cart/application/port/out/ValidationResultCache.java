@@ -0,0 +1,34 @@
+package com.kanokna.cart.application.port.out;
+
+import java.util.Collection;
+import java.util.Map;
+
+import com.kanokna.cart.application.service.dto.ValidationResult;
+
+/**
+ * Outbound port for cached catalog validation outcomes keyed by configuration hash.
+ *
+ * Entries are scoped to a catalog generation that advances on every invalidation.
+ * Results are stored under the generation they were looked up with, so an outcome
+ * computed while the catalog changed never lands in the new generation.
+ */
+public interface ValidationResultCache {
+    /**
+     * @return the current generation and the cached results for the hashes that have one
+     */
+    Lookup findAll(Collection<String> configurationHashes);
+
+    void storeAll(long catalogGeneration, Map<String, ValidationResult> results);
+
+    void invalidateAll();
+
+    record Lookup(long catalogGeneration, Map<String, ValidationResult> results) {
+        public static Lookup unavailable() {
+            return new Lookup(-1, Map.of());
+        }
+
+        public boolean available() {
+            return catalogGeneration >= 0;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.kanokna.cart.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.kanokna.cart.adapters.config.CartProperties;
+import com.kanokna.cart.application.port.in.DetectAbandonedCartsUseCase;
+import com.kanokna.cart.application.port.out.AbandonedCartStore;
+import com.kanokna.cart.application.port.out.AbandonedCartStore.AbandonedCart;
+import com.kanokna.cart.application.port.out.AbandonedCartStore.Cursor;
+import com.kanokna.cart.application.port.out.CartEventPublisher;
+import com.kanokna.cart.domain.event.CartAbandonedEvent;
+
+/**
+ * MODULE_CONTRACT id="MC-cart-abandoned-detection"
+ * LAYER="application.service"
+ * INTENT="Detect carts inactive past the abandonment threshold and publish cart.abandoned"
+ * LINKS="RequirementsAnalysis.xml#BR-CART-ABANDONED"
+ *
+ * Each run walks active carts by last update in keyset order, one page at a time. A page
+ * is claimed with a lease, its cart.abandoned events are published as one batch, and the
+ * carts are then marked ABANDONED, so every replica can run the detector and each claims
+ * different carts. Empty carts are marked without an event.
+ *
+ * Events are at least once: when publishing fails the run stops, the carts stay ACTIVE and
+ * are claimed again once their lease expires. A cart updated between claim and mark stays
+ * ACTIVE even though its event went out. A run is bounded by a page count; whatever is left
+ * is picked up by the next run.
+ */
+@Service
+public class AbandonedCartDetectionService implements DetectAbandonedCartsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(AbandonedCartDetectionService.class);
+    private static final String SERVICE = "cart-service";
+    private static final String USE_CASE = "UC-CART-MANAGE";
+
+    private final AbandonedCartStore abandonedCartStore;
+    private final CartEventPublisher eventPublisher;
+    private final Duration abandonedThreshold;
+    private final CartProperties.Abandonment abandonment;
+    private final String leaseOwner = "cart-" + UUID.randomUUID();
+
+    public AbandonedCartDetectionService(
+        AbandonedCartStore abandonedCartStore,
+        CartEventPublisher eventPublisher,
+        CartProperties properties
+    ) {
+        this.abandonedCartStore = abandonedCartStore;
+        this.eventPublisher = eventPublisher;
+        this.abandonedThreshold = properties.timeouts().abandonedThreshold();
+        this.abandonment = properties.abandonment();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${kanokna.cart.abandonment.scan-interval:5m}",
+        initialDelayString = "${kanokna.cart.abandonment.scan-interval:5m}")
+    public void scheduledDetection() {
+        if (!abandonment.enabled()) {
+            return;
+        }
+        try {
+            detectAbandonedCarts();
+        } catch (RuntimeException ex) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-ABANDON-01")
+                .addKeyValue("state", "RUN_FAILED")
+                .setCause(ex)
+                .log("Abandoned cart detection failed, claimed carts are retried after their lease");
+        }
+    }
+
+    @Override
+    public int detectAbandonedCarts() {
+        Instant inactiveSince = Instant.now().minus(abandonedThreshold);
+        Cursor cursor = Cursor.start();
+        int pages = 0;
+        int published = 0;
+        int marked = 0;
+
+        while (pages < abandonment.maxPagesPerRun()) {
+            List<AbandonedCart> claimed = abandonedCartStore.claimInactive(inactiveSince, cursor,
+                abandonment.pageSize(), leaseOwner, abandonment.leaseDuration());
+            if (claimed.isEmpty()) {
+                break;
+            }
+            pages++;
+
+            List<CartAbandonedEvent> events = claimed.stream()
+                .filter(cart -> cart.itemCount() > 0)
+                .map(cart -> CartAbandonedEvent.create(cart.cartId(), cart.customerId(), cart.version(),
+                    cart.lastActivity(), cart.itemCount(), cart.subtotal()))
+                .toList();
+            eventPublisher.publishAll(events);
+            published += events.size();
+            marked += abandonedCartStore.markAbandoned(claimed, leaseOwner);
+
+            cursor = claimed.get(claimed.size() - 1).cursor();
+            if (claimed.size() < abandonment.pageSize()) {
+                break;
+            }
+        }
+
+        log.atInfo()
+            .addKeyValue("svc", SERVICE)
+            .addKeyValue("uc", USE_CASE)
+            .addKeyValue("block", "BA-CART-ABANDON-01")
+            .addKeyValue("state", "COMPLETED")
+            .addKeyValue("pages", pages)
+            .addKeyValue("published", published)
+            .addKeyValue("marked", marked)
+            .log("Abandoned cart detection run complete");
+        return marked;
+    }
+}
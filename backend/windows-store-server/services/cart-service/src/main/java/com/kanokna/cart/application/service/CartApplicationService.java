@@ -537,10 +537,10 @@ public class CartApplicationService implements
         // BA-CART-MERGE-06: Mark source cart as merged
         source.clear(totalsCalculator);
         source.markMerged();
-        cartRepository.save(source);
+        cartRepository.saveAndFlush(source);
 
         // BA-CART-MERGE-07: Persist and publish CartMergedEvent
-        Cart savedTarget = cartRepository.save(target);
+        Cart savedTarget = cartRepository.saveAndFlush(target);
         sessionCartStore.removeCartId(sessionId);
 
         eventPublisher.publish("cart.merged",
@@ -593,7 +593,7 @@ public class CartApplicationService implements
 
         // BA-CART-SNAPSHOT-05: Persist snapshot and publish CartCheckedOutEvent
         CartSnapshot saved = snapshotRepository.save(result.snapshot());
-        Cart savedCart = cartRepository.save(cart);
+        Cart savedCart = cartRepository.saveAndFlush(cart);
         eventPublisher.publish("cart.checkout", CartCheckedOutEvent.create(savedCart, saved));
 
         return new CreateSnapshotResult(saved.snapshotId().toString(),
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Service;
 import com.kanokna.cart.adapters.config.CartProperties;
 import com.kanokna.cart.application.service.dto.CheckoutValidationResult;
 import com.kanokna.cart.application.service.dto.PriceRefreshResult;
+import com.kanokna.cart.application.service.dto.ValidationResult;
 import com.kanokna.cart.domain.model.Cart;
 import com.kanokna.cart.domain.model.CartItem;
 import com.kanokna.cart.domain.model.CartSnapshot;
@@ -131,6 +132,7 @@ public class CartCheckoutService {
 
     /**
      * Validates cart for checkout readiness.
+     * Items are validated concurrently and uncached; unavailable results count as invalid.
      *
      * @param cart the cart to validate
      * @return validation result
@@ -148,8 +150,12 @@ public class CartCheckoutService {
         int invalidCount = 0;
         List<String> invalidItemIds = new ArrayList<>();
 
-        for (CartItem item : cart.items()) {
-            var result = validationService.validateConfiguration(item.configurationSnapshot());
+        List<CartItem> items = cart.items();
+        List<ValidationResult> results = validationService.validateConfigurations(
+            items.stream().map(CartItem::configurationSnapshot).toList());
+        for (int i = 0; i < items.size(); i++) {
+            CartItem item = items.get(i);
+            ValidationResult result = results.get(i);
             if (result.available() && result.valid()) {
                 validCount++;
             } else {
@@ -1,13 +1,30 @@
 package com.kanokna.cart.application.service;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+import com.kanokna.cart.adapters.config.CartProperties;
+import com.kanokna.cart.application.port.in.InvalidateValidationCacheUseCase;
 import com.kanokna.cart.application.port.out.CatalogConfigurationPort;
+import com.kanokna.cart.application.port.out.ValidationResultCache;
 import com.kanokna.cart.application.service.dto.ValidationResult;
 import com.kanokna.cart.domain.model.Cart;
 import com.kanokna.cart.domain.model.CartItem;
@@ -22,18 +39,39 @@ import com.kanokna.cart.domain.model.ValidationStatus;
  *
  * Service responsible for validating cart item configurations.
  * Delegates to catalog-configuration-service for actual validation logic.
+ * Cart revalidation reuses cached outcomes by configuration hash and only calls the
+ * catalog for items without one; the cache is dropped when a catalog version is published.
+ * Multi-item validation fans out on virtual threads, capped per request and bounded by
+ * one overall deadline; results are returned in item order.
  */
 @Service
-public class CartItemValidationService {
+public class CartItemValidationService implements InvalidateValidationCacheUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CartItemValidationService.class);
     private static final String SERVICE = "cart-service";
     private static final String USE_CASE = "UC-CART-MANAGE";
 
     private final CatalogConfigurationPort catalogConfigurationPort;
+    private final ValidationResultCache validationResultCache;
+    private final int maxConcurrentValidations;
+    private final Duration validationDeadline;
+    private final ExecutorService validationExecutor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("cart-validation-", 0).factory());
 
-    public CartItemValidationService(CatalogConfigurationPort catalogConfigurationPort) {
+    public CartItemValidationService(
+        CatalogConfigurationPort catalogConfigurationPort,
+        ValidationResultCache validationResultCache,
+        CartProperties properties
+    ) {
         this.catalogConfigurationPort = catalogConfigurationPort;
+        this.validationResultCache = validationResultCache;
+        this.maxConcurrentValidations = properties.limits().maxConcurrentValidations();
+        this.validationDeadline = properties.timeouts().catalogValidationTimeout();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        validationExecutor.shutdownNow();
     }
 
     /**
@@ -100,8 +138,81 @@ public class CartItemValidationService {
         }
     }
 
+    /**
+     * FUNCTION_CONTRACT id="FC-cart-validation-validateConfigurations"
+     * Validates several configurations concurrently.
+     * At most maxConcurrentValidations calls run at once. Calls still pending or running
+     * when the deadline passes are cancelled and reported as unavailable.
+     *
+     * @param snapshots the configuration snapshots to validate
+     * @return one validation result per snapshot, in input order
+     */
+    public List<ValidationResult> validateConfigurations(List<ConfigurationSnapshot> snapshots) {
+        List<ValidationResult> results = new ArrayList<>(snapshots.size());
+        if (snapshots.size() <= 1 || maxConcurrentValidations <= 1) {
+            for (ConfigurationSnapshot snapshot : snapshots) {
+                results.add(validateConfiguration(snapshot));
+            }
+            return results;
+        }
+
+        long deadline = System.nanoTime() + validationDeadline.toNanos();
+        Semaphore permits = new Semaphore(maxConcurrentValidations);
+        List<Future<ValidationResult>> futures = new ArrayList<>(snapshots.size());
+        for (ConfigurationSnapshot snapshot : snapshots) {
+            futures.add(validationExecutor.submit(() -> {
+                if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    return ValidationResult.unavailable();
+                }
+                try {
+                    return validateConfiguration(snapshot);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        int timedOut = 0;
+        boolean interrupted = false;
+        for (Future<ValidationResult> future : futures) {
+            if (interrupted) {
+                future.cancel(true);
+                results.add(ValidationResult.unavailable());
+                continue;
+            }
+            try {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException ex) {
+                future.cancel(true);
+                timedOut++;
+                results.add(ValidationResult.unavailable());
+            } catch (ExecutionException ex) {
+                results.add(ValidationResult.unavailable());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                interrupted = true;
+                future.cancel(true);
+                results.add(ValidationResult.unavailable());
+            }
+        }
+
+        if (timedOut > 0) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-VALIDATE-02")
+                .addKeyValue("state", "DEADLINE_EXCEEDED")
+                .addKeyValue("itemCount", snapshots.size())
+                .addKeyValue("timedOutCount", timedOut)
+                .log("Catalog validation deadline exceeded");
+        }
+        return results;
+    }
+
     /**
      * Revalidates all items in a cart.
+     * Outcomes cached for the current catalog version are reused; the remaining distinct
+     * configurations are validated concurrently and their available outcomes are cached.
      *
      * @param cart the cart to revalidate
      * @return revalidation summary with counts
@@ -116,13 +227,43 @@ public class CartItemValidationService {
             .addKeyValue("itemCount", cart.items().size())
             .log("Starting cart item revalidation");
 
+        Set<String> hashes = new LinkedHashSet<>();
+        for (CartItem item : cart.items()) {
+            hashes.add(item.configurationHash());
+        }
+        ValidationResultCache.Lookup lookup = findCached(hashes);
+        Map<String, ValidationResult> cached = lookup.results();
+
+        // Validate each uncached configuration once, concurrently
+        Map<String, ConfigurationSnapshot> misses = new LinkedHashMap<>();
+        for (CartItem item : cart.items()) {
+            if (!cached.containsKey(item.configurationHash())) {
+                misses.putIfAbsent(item.configurationHash(), item.configurationSnapshot());
+            }
+        }
+        List<String> missHashes = new ArrayList<>(misses.keySet());
+        List<ValidationResult> missResults = validateConfigurations(new ArrayList<>(misses.values()));
+        Map<String, ValidationResult> fresh = new HashMap<>();
+        Map<String, ValidationResult> validated = new HashMap<>();
+        for (int i = 0; i < missHashes.size(); i++) {
+            ValidationResult result = missResults.get(i);
+            fresh.put(missHashes.get(i), result);
+            if (result.available()) {
+                validated.put(missHashes.get(i), result);
+            }
+        }
+
         int validCount = 0;
         int invalidCount = 0;
         int unknownCount = 0;
         List<ItemValidationResult> results = new ArrayList<>();
 
         for (CartItem item : cart.items()) {
-            ValidationResult result = validateConfiguration(item.configurationSnapshot());
+            String hash = item.configurationHash();
+            ValidationResult result = cached.get(hash);
+            if (result == null) {
+                result = fresh.get(hash);
+            }
 
             ValidationStatus status = result.status();
             String message = result.message();
@@ -141,6 +282,8 @@ public class CartItemValidationService {
             ));
         }
 
+        storeValidated(lookup, validated);
+
         log.atInfo()
             .addKeyValue("svc", SERVICE)
             .addKeyValue("uc", USE_CASE)
@@ -150,11 +293,55 @@ public class CartItemValidationService {
             .addKeyValue("validCount", validCount)
             .addKeyValue("invalidCount", invalidCount)
             .addKeyValue("unknownCount", unknownCount)
+            .addKeyValue("cacheHits", cached.size())
             .log("Cart item revalidation complete");
 
         return new RevalidationSummary(validCount, invalidCount, unknownCount, results);
     }
 
+    @Override
+    public void invalidateValidationCache() {
+        validationResultCache.invalidateAll();
+        log.atInfo()
+            .addKeyValue("svc", SERVICE)
+            .addKeyValue("uc", USE_CASE)
+            .addKeyValue("block", "BA-CART-REVALIDATE-03")
+            .addKeyValue("state", "CACHE_INVALIDATED")
+            .log("Validation cache invalidated after catalog version change");
+    }
+
+    private ValidationResultCache.Lookup findCached(Set<String> hashes) {
+        try {
+            return validationResultCache.findAll(hashes);
+        } catch (RuntimeException ex) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-REVALIDATE-01")
+                .addKeyValue("state", "CACHE_UNAVAILABLE")
+                .setCause(ex)
+                .log("Validation cache lookup failed, validating all items");
+            return ValidationResultCache.Lookup.unavailable();
+        }
+    }
+
+    private void storeValidated(ValidationResultCache.Lookup lookup, Map<String, ValidationResult> validated) {
+        if (!lookup.available() || validated.isEmpty()) {
+            return;
+        }
+        try {
+            validationResultCache.storeAll(lookup.catalogGeneration(), validated);
+        } catch (RuntimeException ex) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-REVALIDATE-02")
+                .addKeyValue("state", "CACHE_UNAVAILABLE")
+                .setCause(ex)
+                .log("Validation cache store failed");
+        }
+    }
+
     /**
      * Checks if cart has any invalid items.
      *
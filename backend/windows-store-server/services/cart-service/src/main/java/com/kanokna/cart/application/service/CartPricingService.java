@@ -3,6 +3,8 @@ package com.kanokna.cart.application.service;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,65 +69,52 @@ public class CartPricingService {
             .log("Fetching price quote");
 
         try {
-            PricingPort.PriceQuote quote = pricingPort.calculateQuote(snapshot, currency);
-
-            if (quote == null || !quote.available()) {
-                log.atWarn()
-                    .addKeyValue("svc", SERVICE)
-                    .addKeyValue("uc", USE_CASE)
-                    .addKeyValue("block", "BA-CART-PRICE-01")
-                    .addKeyValue("state", "UNAVAILABLE")
-                    .addKeyValue("productTemplateId", snapshot.productTemplateId())
-                    .log("Pricing service unavailable");
-                return QuoteResult.unavailable();
-            }
-
-            if (quote.quoteId() == null) {
-                log.atWarn()
-                    .addKeyValue("svc", SERVICE)
-                    .addKeyValue("uc", USE_CASE)
-                    .addKeyValue("block", "BA-CART-PRICE-01")
-                    .addKeyValue("state", "NO_QUOTE_ID")
-                    .addKeyValue("productTemplateId", snapshot.productTemplateId())
-                    .log("Quote returned without ID");
-                return QuoteResult.unavailable();
-            }
-
-            Instant now = Instant.now();
-            if (quote.validUntil() != null && quote.validUntil().isBefore(now)) {
-                log.atWarn()
-                    .addKeyValue("svc", SERVICE)
-                    .addKeyValue("uc", USE_CASE)
-                    .addKeyValue("block", "BA-CART-PRICE-01")
-                    .addKeyValue("state", "EXPIRED")
-                    .addKeyValue("quoteId", quote.quoteId())
-                    .addKeyValue("validUntil", quote.validUntil())
-                    .log("Quote already expired");
-                return QuoteResult.expired(quote.quoteId());
-            }
-
-            log.atDebug()
+            return toQuoteResult(pricingPort.calculateQuote(snapshot, currency), snapshot);
+        } catch (Exception ex) {
+            log.atError()
                 .addKeyValue("svc", SERVICE)
                 .addKeyValue("uc", USE_CASE)
                 .addKeyValue("block", "BA-CART-PRICE-01")
-                .addKeyValue("state", "SUCCESS")
-                .addKeyValue("quoteId", quote.quoteId())
-                .addKeyValue("unitPrice", quote.unitPrice())
-                .log("Quote fetched successfully");
-
-            return QuoteResult.success(quote.quoteId(), quote.unitPrice(), quote.validUntil());
+                .addKeyValue("state", "ERROR")
+                .addKeyValue("productTemplateId", snapshot.productTemplateId())
+                .setCause(ex)
+                .log("Error fetching price quote");
+            return QuoteResult.unavailable();
+        }
+    }
 
+    /**
+     * Fetches price quotes for several items in one pricing-service round trip.
+     *
+     * @param items the cart items to price
+     * @param currency the currency for pricing
+     * @return one quote result per item, in item order
+     */
+    public List<QuoteResult> fetchQuotes(List<CartItem> items, Currency currency) {
+        List<ConfigurationSnapshot> snapshots = items.stream()
+            .map(CartItem::configurationSnapshot)
+            .toList();
+        List<PricingPort.PriceQuote> quotes;
+        try {
+            quotes = pricingPort.calculateQuotes(snapshots, currency);
         } catch (Exception ex) {
             log.atError()
                 .addKeyValue("svc", SERVICE)
                 .addKeyValue("uc", USE_CASE)
                 .addKeyValue("block", "BA-CART-PRICE-01")
                 .addKeyValue("state", "ERROR")
-                .addKeyValue("productTemplateId", snapshot.productTemplateId())
+                .addKeyValue("itemCount", snapshots.size())
                 .setCause(ex)
-                .log("Error fetching price quote");
-            return QuoteResult.unavailable();
+                .log("Error fetching batch price quotes");
+            quotes = List.of();
         }
+
+        List<QuoteResult> results = new ArrayList<>(snapshots.size());
+        for (int i = 0; i < snapshots.size(); i++) {
+            PricingPort.PriceQuote quote = quotes != null && i < quotes.size() ? quotes.get(i) : null;
+            results.add(toQuoteResult(quote, snapshots.get(i)));
+        }
+        return results;
     }
 
     /**
@@ -151,9 +140,12 @@ public class CartPricingService {
         int itemsUpdated = 0;
         Currency currency = resolveCurrency(cart);
 
-        // BA-CART-REFRESH-02: Iterate items and call pricing-service.CalculateQuote for each
-        for (CartItem item : cart.items()) {
-            QuoteResult quote = fetchQuote(item.configurationSnapshot(), currency);
+        // BA-CART-REFRESH-02: Price all items with one pricing-service.CalculateQuotes call
+        List<CartItem> items = cart.items();
+        List<QuoteResult> quotes = fetchQuotes(items, currency);
+        for (int i = 0; i < items.size(); i++) {
+            CartItem item = items.get(i);
+            QuoteResult quote = quotes.get(i);
 
             if (!quote.available()) {
                 failCount++;
@@ -255,6 +247,54 @@ public class CartPricingService {
         return changePercent > properties.behavior().priceChangeThresholdPercent();
     }
 
+    private QuoteResult toQuoteResult(PricingPort.PriceQuote quote, ConfigurationSnapshot snapshot) {
+        if (quote == null || !quote.available()) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-PRICE-01")
+                .addKeyValue("state", "UNAVAILABLE")
+                .addKeyValue("productTemplateId", snapshot.productTemplateId())
+                .log("Pricing service unavailable");
+            return QuoteResult.unavailable();
+        }
+
+        if (quote.quoteId() == null) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-PRICE-01")
+                .addKeyValue("state", "NO_QUOTE_ID")
+                .addKeyValue("productTemplateId", snapshot.productTemplateId())
+                .log("Quote returned without ID");
+            return QuoteResult.unavailable();
+        }
+
+        Instant now = Instant.now();
+        if (quote.validUntil() != null && quote.validUntil().isBefore(now)) {
+            log.atWarn()
+                .addKeyValue("svc", SERVICE)
+                .addKeyValue("uc", USE_CASE)
+                .addKeyValue("block", "BA-CART-PRICE-01")
+                .addKeyValue("state", "EXPIRED")
+                .addKeyValue("quoteId", quote.quoteId())
+                .addKeyValue("validUntil", quote.validUntil())
+                .log("Quote already expired");
+            return QuoteResult.expired(quote.quoteId());
+        }
+
+        log.atDebug()
+            .addKeyValue("svc", SERVICE)
+            .addKeyValue("uc", USE_CASE)
+            .addKeyValue("block", "BA-CART-PRICE-01")
+            .addKeyValue("state", "SUCCESS")
+            .addKeyValue("quoteId", quote.quoteId())
+            .addKeyValue("unitPrice", quote.unitPrice())
+            .log("Quote fetched successfully");
+
+        return QuoteResult.success(quote.quoteId(), quote.unitPrice(), quote.validUntil());
+    }
+
     private AppliedPromoCode refreshPromoDiscount(AppliedPromoCode promoCode, Money subtotal) {
         if (promoCode == null) {
             return null;
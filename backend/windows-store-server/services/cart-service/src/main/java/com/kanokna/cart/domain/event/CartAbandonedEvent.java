@@ -31,6 +31,25 @@ public record CartAbandonedEvent(
         );
     }
 
+    public static CartAbandonedEvent create(String cartId,
+                                            String customerId,
+                                            long version,
+                                            Instant lastActivity,
+                                            int itemCount,
+                                            Money subtotal) {
+        return new CartAbandonedEvent(
+            UUID.randomUUID().toString(),
+            Instant.now(),
+            cartId,
+            version,
+            cartId,
+            customerId,
+            lastActivity,
+            itemCount,
+            subtotal
+        );
+    }
+
     @Override
     public String aggregateType() {
         return "Cart";
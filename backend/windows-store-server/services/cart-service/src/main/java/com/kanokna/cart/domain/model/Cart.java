@@ -6,12 +6,19 @@ import com.kanokna.shared.money.Money;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Aggregate root for shopping cart.
+ *
+ * The cart records which items were added or removed since it was loaded or last
+ * persisted, and items record their own changes, so a repository can write only the
+ * affected item rows (see {@link #itemChanges()}). It also keeps the version it was loaded
+ * or last persisted with, which the repository checks before overwriting the stored row.
  */
 public class Cart {
     private final CartId cartId;
@@ -24,6 +31,9 @@ public class Cart {
     private final Instant createdAt;
     private Instant updatedAt;
     private int version;
+    private int persistedVersion;
+    private final Set<CartItemId> addedItemIds = new LinkedHashSet<>();
+    private final Set<CartItemId> removedItemIds = new LinkedHashSet<>();
 
     private Cart(CartId cartId,
                  String customerId,
@@ -49,6 +59,7 @@ public class Cart {
         this.createdAt = Objects.requireNonNull(createdAt, "createdAt cannot be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "updatedAt cannot be null");
         this.version = version;
+        this.persistedVersion = version;
     }
 
     public static Cart createForCustomer(String customerId, Currency currency) {
@@ -151,6 +162,13 @@ public class Cart {
         return version;
     }
 
+    /**
+     * @return the version of the stored state this cart was loaded from or last written as
+     */
+    public int persistedVersion() {
+        return persistedVersion;
+    }
+
     public Optional<CartItem> findItem(CartItemId itemId) {
         return items.stream().filter(item -> item.itemId().equals(itemId)).findFirst();
     }
@@ -171,6 +189,7 @@ public class Cart {
             merged.increaseQuantity(item.quantity());
         } else {
             items.add(item);
+            addedItemIds.add(item.itemId());
             merged = item;
         }
         recalculateTotals(calculator, taxOverride);
@@ -201,6 +220,7 @@ public class Cart {
         if (!removed) {
             throw new IllegalArgumentException("Item not found: " + itemId);
         }
+        trackRemoved(itemId);
         recalculateTotals(calculator, taxOverride);
         updatedAt = Instant.now();
         version++;
@@ -210,6 +230,7 @@ public class Cart {
         ensureModifiable();
         Objects.requireNonNull(calculator, "calculator cannot be null");
         // BA-CART-CLEAR-03: Remove all items from cart
+        items.forEach(item -> trackRemoved(item.itemId()));
         items.clear();
         // BA-CART-CLEAR-04: Remove applied promo code
         appliedPromoCode = null;
@@ -295,6 +316,40 @@ public class Cart {
         version++;
     }
 
+    /**
+     * @return items added, changed and removed since the cart was loaded or last persisted
+     */
+    public CartItemChanges itemChanges() {
+        List<CartItem> added = new ArrayList<>();
+        List<CartItem> changed = new ArrayList<>();
+        for (CartItem item : items) {
+            if (addedItemIds.contains(item.itemId())) {
+                added.add(item);
+            } else if (item.modified()) {
+                changed.add(item);
+            }
+        }
+        return new CartItemChanges(added, changed, List.copyOf(removedItemIds));
+    }
+
+    /**
+     * Clears the recorded item changes and records the written version once the repository
+     * has stored the cart.
+     */
+    public void markPersisted() {
+        persistedVersion = version;
+        addedItemIds.clear();
+        removedItemIds.clear();
+        items.forEach(CartItem::markPersisted);
+    }
+
+    private void trackRemoved(CartItemId itemId) {
+        // An item added and removed before persisting was never written
+        if (!addedItemIds.remove(itemId)) {
+            removedItemIds.add(itemId);
+        }
+    }
+
     private void recalculateTotals(CartTotalsCalculator calculator, Money taxOverride) {
         totals = calculator.calculateTotals(items, appliedPromoCode, taxOverride);
     }
@@ -25,6 +25,7 @@ public class CartItem {
     private boolean priceStale;
     private final Instant createdAt;
     private Instant updatedAt;
+    private boolean modified;
 
     private CartItem(CartItemId itemId,
                      String productTemplateId,
@@ -199,6 +200,7 @@ public class CartItem {
         this.quantity = quantity;
         this.lineTotal = unitPrice.multiplyBy(BigDecimal.valueOf(quantity));
         this.updatedAt = Instant.now();
+        this.modified = true;
     }
 
     public void increaseQuantity(int delta) {
@@ -215,22 +217,37 @@ public class CartItem {
         this.lineTotal = unitPrice.multiplyBy(BigDecimal.valueOf(quantity));
         this.priceStale = false;
         this.updatedAt = Instant.now();
+        this.modified = true;
     }
 
     public void updateValidationStatus(ValidationStatus status, String message) {
         this.validationStatus = Objects.requireNonNull(status, "status cannot be null");
         this.validationMessage = message;
         this.updatedAt = Instant.now();
+        this.modified = true;
     }
 
     public void markPriceStale(boolean stale) {
         this.priceStale = stale;
         this.updatedAt = Instant.now();
+        this.modified = true;
     }
 
     public void clearPriceStale() {
         // BA-CART-REFRESH-04: Clear price_stale flags
         this.priceStale = false;
         this.updatedAt = Instant.now();
+        this.modified = true;
+    }
+
+    /**
+     * @return whether the item changed since it was loaded or last persisted
+     */
+    boolean modified() {
+        return modified;
+    }
+
+    void markPersisted() {
+        this.modified = false;
     }
 }
@@ -0,0 +1,23 @@
+package com.kanokna.cart.domain.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Items added, changed and removed since a cart was loaded or last persisted.
+ */
+public record CartItemChanges(
+    List<CartItem> added,
+    List<CartItem> changed,
+    List<CartItemId> removed
+) {
+    public CartItemChanges {
+        added = List.copyOf(Objects.requireNonNull(added, "added cannot be null"));
+        changed = List.copyOf(Objects.requireNonNull(changed, "changed cannot be null"));
+        removed = List.copyOf(Objects.requireNonNull(removed, "removed cannot be null"));
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
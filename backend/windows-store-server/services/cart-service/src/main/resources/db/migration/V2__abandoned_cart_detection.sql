@@ -0,0 +1,9 @@
+-- Abandoned-cart detection: replicas claim inactive carts with a lease before publishing.
+ALTER TABLE cart.carts
+    ADD COLUMN abandon_lease_owner VARCHAR(100),
+    ADD COLUMN abandon_lease_until TIMESTAMPTZ;
+
+-- Keyset scan over inactive carts; finished carts leave the index, so it only covers live carts.
+CREATE INDEX IF NOT EXISTS idx_carts_active_updated
+    ON cart.carts (updated_at, cart_id)
+    WHERE status = 'ACTIVE';
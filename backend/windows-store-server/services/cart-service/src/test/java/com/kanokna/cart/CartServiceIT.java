@@ -142,13 +142,16 @@ class CartServiceIT {
                 List.of(),
                 List.of()
             ));
+        PricingPort.PriceQuote quote = new PricingPort.PriceQuote(
+            true,
+            "QUOTE-IT-2",
+            Money.of(new BigDecimal("1000.00"), Currency.RUB),
+            Instant.now().plusSeconds(3600)
+        );
         Mockito.when(pricingPort.calculateQuote(any(ConfigurationSnapshot.class), any()))
-            .thenReturn(new PricingPort.PriceQuote(
-                true,
-                "QUOTE-IT-2",
-                Money.of(new BigDecimal("1000.00"), Currency.RUB),
-                Instant.now().plusSeconds(3600)
-            ));
+            .thenReturn(quote);
+        Mockito.when(pricingPort.calculateQuotes(any(), any()))
+            .thenReturn(List.of(quote));
 
         String customerId = "cust-it-2";
         AddItemResult addResult = service.addItem(addItemCommand(customerId, null, "T-301"));
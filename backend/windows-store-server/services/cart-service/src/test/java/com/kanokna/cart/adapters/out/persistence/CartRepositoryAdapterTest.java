@@ -2,17 +2,22 @@ package com.kanokna.cart.adapters.out.persistence;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kanokna.cart.domain.model.Cart;
+import com.kanokna.cart.domain.model.CartItem;
+import com.kanokna.cart.domain.model.CartStatus;
 import com.kanokna.cart.domain.service.CartTotalsCalculator;
 import com.kanokna.cart.support.CartServiceTestFixture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIf;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -22,9 +27,12 @@ import com.kanokna.test.containers.postgres.PostgresTestContainer;
 import com.kanokna.test.containers.postgres.PostgresTestContainer.PostgresSettings;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @EnabledIf(
     value = "com.kanokna.cart.support.DockerAvailability#isDockerAvailable",
@@ -49,6 +57,12 @@ class CartRepositoryAdapterTest {
     @Autowired
     private CartRepositoryAdapter cartRepositoryAdapter;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("TC-FUNC-CART-ADD-005: save and load cart via adapter")
     void saveAndLoadCartViaAdapter() {
@@ -81,6 +95,94 @@ class CartRepositoryAdapterTest {
         assertEquals("WINDOW", loaded.items().get(0).productFamily());
     }
 
+    @Test
+    @DisplayName("save writes only the item rows that changed")
+    void saveWritesChangedItemsOnly() {
+        CartTotalsCalculator calculator = new CartTotalsCalculator();
+        Instant validUntil = Instant.now().plusSeconds(3600);
+        Cart cart = CartServiceTestFixture.cartWithItems(
+            "cust-adapter-3",
+            calculator,
+            CartServiceTestFixture.item("T-301", "Window", "WINDOW", 1,
+                CartServiceTestFixture.money("1000.00"), "hash-301", validUntil),
+            CartServiceTestFixture.item("T-302", "Door", "DOOR", 1,
+                CartServiceTestFixture.money("2000.00"), "hash-302", validUntil)
+        );
+        cartRepositoryAdapter.save(cart);
+
+        Cart loaded = cartRepositoryAdapter.findByCustomerId("cust-adapter-3").orElseThrow();
+        CartItem window = loaded.findItemByHash("hash-301").orElseThrow();
+        CartItem door = loaded.findItemByHash("hash-302").orElseThrow();
+        // Not part of the update; a rewrite of the row would restore it
+        jdbcTemplate.update("UPDATE cart.cart_items SET product_name = 'Marker' WHERE item_id = ?",
+            UUID.fromString(door.itemId().toString()));
+
+        loaded.updateItemQuantity(window.itemId(), 4, calculator, null);
+        cartRepositoryAdapter.save(loaded);
+
+        Cart reloaded = cartRepositoryAdapter.findByCustomerId("cust-adapter-3").orElseThrow();
+        assertEquals(4, reloaded.findItemByHash("hash-301").orElseThrow().quantity());
+        assertEquals("Marker", reloaded.findItemByHash("hash-302").orElseThrow().productName());
+        assertEquals(CartServiceTestFixture.money("6000.00"), reloaded.totals().subtotal());
+
+        reloaded.removeItem(reloaded.findItemByHash("hash-302").orElseThrow().itemId(), calculator, null);
+        cartRepositoryAdapter.save(reloaded);
+
+        assertEquals(1, cartRepositoryAdapter.findByCustomerId("cust-adapter-3").orElseThrow().items().size());
+    }
+
+    @Test
+    @DisplayName("save rejects a cart loaded before another writer changed it")
+    void saveRejectsStaleVersion() {
+        CartTotalsCalculator calculator = new CartTotalsCalculator();
+        Instant validUntil = Instant.now().plusSeconds(3600);
+        Cart cart = CartServiceTestFixture.cartWithItems(
+            "cust-adapter-4",
+            calculator,
+            CartServiceTestFixture.item("T-401", "Window", "WINDOW", 1,
+                CartServiceTestFixture.money("1000.00"), "hash-401", validUntil)
+        );
+        cartRepositoryAdapter.save(cart);
+
+        Cart first = cartRepositoryAdapter.findByCustomerId("cust-adapter-4").orElseThrow();
+        Cart second = cartRepositoryAdapter.findByCustomerId("cust-adapter-4").orElseThrow();
+        CartItem item = first.findItemByHash("hash-401").orElseThrow();
+        first.updateItemQuantity(item.itemId(), 2, calculator, null);
+        cartRepositoryAdapter.save(first);
+        second.updateItemQuantity(item.itemId(), 3, calculator, null);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> cartRepositoryAdapter.save(second));
+        assertEquals(2, cartRepositoryAdapter.findByCustomerId("cust-adapter-4").orElseThrow()
+            .findItemByHash("hash-401").orElseThrow().quantity());
+    }
+
+    @Test
+    @DisplayName("saveAllIfNewer does not overwrite a newer stored cart")
+    void saveAllIfNewerSkipsOlderState() {
+        Cart cart = CartServiceTestFixture.cartWithItems(
+            "cust-adapter-2",
+            new CartTotalsCalculator(),
+            CartServiceTestFixture.item(
+                "T-201",
+                "Window",
+                "WINDOW",
+                1,
+                CartServiceTestFixture.money("1000.00"),
+                "hash-201",
+                Instant.now().plusSeconds(3600)
+            )
+        );
+        assertEquals(1, cartRepositoryAdapter.saveAllIfNewer(List.of(cart)));
+        entityManager.flush();
+        entityManager.clear();
+
+        Cart older = Cart.rehydrate(cart.cartId(), cart.customerId(), null, CartStatus.ACTIVE, null,
+            cart.totals(), List.of(), cart.createdAt(), cart.updatedAt().minusSeconds(60), cart.version());
+
+        assertEquals(0, cartRepositoryAdapter.saveAllIfNewer(List.of(older)));
+        assertEquals(1, cartRepositoryAdapter.findByCustomerId("cust-adapter-2").orElseThrow().items().size());
+    }
+
     @TestConfiguration
     static class MapperConfig {
         @Bean
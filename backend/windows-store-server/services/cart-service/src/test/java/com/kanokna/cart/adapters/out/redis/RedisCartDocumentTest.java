@@ -0,0 +1,54 @@
+package com.kanokna.cart.adapters.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanokna.cart.domain.model.Cart;
+import com.kanokna.cart.domain.model.CartItem;
+import com.kanokna.cart.domain.service.CartTotalsCalculator;
+import com.kanokna.cart.support.CartServiceTestFixture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RedisCartDocumentTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("Cart survives a JSON round trip through the write-behind document")
+    void cartRoundTrip() throws Exception {
+        CartTotalsCalculator calculator = new CartTotalsCalculator();
+        Cart cart = CartServiceTestFixture.cartWithItems(
+            "cust-redis-1",
+            calculator,
+            CartServiceTestFixture.item("T-300", "Window", "WINDOW", 2,
+                CartServiceTestFixture.money("1500.00"), "hash-300", Instant.now().plusSeconds(3600))
+        );
+        cart.applyPromoCode(
+            CartServiceTestFixture.promo("PROMO10", CartServiceTestFixture.money("100.00")),
+            calculator,
+            null
+        );
+        cart.items().get(0).markPriceStale(true);
+
+        String json = objectMapper.writeValueAsString(RedisCartDocument.from(cart));
+        Cart loaded = objectMapper.readValue(json, RedisCartDocument.class).toDomain();
+
+        assertEquals(cart.cartId(), loaded.cartId());
+        assertEquals(cart.customerId(), loaded.customerId());
+        assertEquals(cart.status(), loaded.status());
+        assertEquals(cart.version(), loaded.version());
+        assertEquals(cart.updatedAt(), loaded.updatedAt());
+        assertEquals(cart.totals(), loaded.totals());
+        assertEquals(cart.appliedPromoCode(), loaded.appliedPromoCode());
+        CartItem item = cart.items().get(0);
+        CartItem loadedItem = loaded.items().get(0);
+        assertEquals(item.itemId(), loadedItem.itemId());
+        assertEquals(item.configurationSnapshot(), loadedItem.configurationSnapshot());
+        assertEquals(item.quantity(), loadedItem.quantity());
+        assertEquals(item.unitPrice(), loadedItem.unitPrice());
+        assertEquals(item.quoteReference(), loadedItem.quoteReference());
+        assertEquals(item.priceStale(), loadedItem.priceStale());
+    }
+}
@@ -0,0 +1,119 @@
+package com.kanokna.cart.application.service;
+
+import com.kanokna.cart.adapters.config.CartProperties;
+import com.kanokna.cart.application.port.out.AbandonedCartStore;
+import com.kanokna.cart.application.port.out.AbandonedCartStore.AbandonedCart;
+import com.kanokna.cart.application.port.out.AbandonedCartStore.Cursor;
+import com.kanokna.cart.application.port.out.CartEventPublisher;
+import com.kanokna.cart.domain.event.CartAbandonedEvent;
+import com.kanokna.shared.event.DomainEvent;
+import com.kanokna.shared.money.Currency;
+import com.kanokna.shared.money.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AbandonedCartDetectionServiceTest {
+
+    private static final Instant LAST_ACTIVITY = Instant.parse("2026-01-01T10:00:00Z");
+
+    @Mock
+    private AbandonedCartStore abandonedCartStore;
+
+    @Mock
+    private CartEventPublisher eventPublisher;
+
+    @Captor
+    private ArgumentCaptor<List<? extends DomainEvent>> events;
+
+    private AbandonedCartDetectionService detectionService;
+
+    @BeforeEach
+    void setUp() {
+        CartProperties properties = new CartProperties(null, null, null, null, null,
+            new CartProperties.Abandonment(true, Duration.ofMinutes(5), 2, 3, Duration.ofMinutes(5)));
+        detectionService = new AbandonedCartDetectionService(abandonedCartStore, eventPublisher, properties);
+    }
+
+    @Test
+    @DisplayName("Pages are claimed from the last cursor and events skip empty carts")
+    void detectAbandonedCarts_walksPagesAndPublishesNonEmptyCarts() {
+        AbandonedCart first = cart("00000000-0000-0000-0000-000000000001", 2, 0);
+        AbandonedCart empty = cart("00000000-0000-0000-0000-000000000002", 0, 1);
+        AbandonedCart last = cart("00000000-0000-0000-0000-000000000003", 1, 2);
+        when(abandonedCartStore.claimInactive(any(), eq(Cursor.start()), eq(2), anyString(), any()))
+            .thenReturn(List.of(first, empty));
+        when(abandonedCartStore.claimInactive(any(), eq(empty.cursor()), eq(2), anyString(), any()))
+            .thenReturn(List.of(last));
+        when(abandonedCartStore.markAbandoned(anyList(), anyString())).thenReturn(2, 1);
+
+        int marked = detectionService.detectAbandonedCarts();
+
+        assertThat(marked).isEqualTo(3);
+        verify(eventPublisher, times(2)).publishAll(events.capture());
+        assertThat(events.getAllValues().get(0))
+            .extracting(event -> ((CartAbandonedEvent) event).cartId())
+            .containsExactly(first.cartId());
+        assertThat(events.getAllValues().get(1))
+            .extracting(event -> ((CartAbandonedEvent) event).cartId())
+            .containsExactly(last.cartId());
+        verify(abandonedCartStore).markAbandoned(eq(List.of(first, empty)), anyString());
+    }
+
+    @Test
+    @DisplayName("A run stops after the configured number of pages")
+    void detectAbandonedCarts_boundedByMaxPages() {
+        when(abandonedCartStore.claimInactive(any(), any(), anyInt(), anyString(), any()))
+            .thenReturn(List.of(cart("00000000-0000-0000-0000-000000000001", 1, 0),
+                cart("00000000-0000-0000-0000-000000000002", 1, 1)));
+        when(abandonedCartStore.markAbandoned(anyList(), anyString())).thenReturn(2);
+
+        int marked = detectionService.detectAbandonedCarts();
+
+        assertThat(marked).isEqualTo(6);
+        verify(abandonedCartStore, times(3))
+            .claimInactive(any(), any(), anyInt(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Carts stay ACTIVE when publishing fails")
+    void detectAbandonedCarts_publishFailure_doesNotMark() {
+        when(abandonedCartStore.claimInactive(any(), any(), anyInt(), anyString(), any()))
+            .thenReturn(List.of(cart("00000000-0000-0000-0000-000000000001", 1, 0)));
+        doThrow(new IllegalStateException("broker down")).when(eventPublisher).publishAll(anyList());
+
+        assertThatThrownBy(() -> detectionService.detectAbandonedCarts())
+            .isInstanceOf(IllegalStateException.class);
+        verify(abandonedCartStore, never()).markAbandoned(anyList(), anyString());
+    }
+
+    private AbandonedCart cart(String cartId, int itemCount, int minutesAfter) {
+        return new AbandonedCart(cartId, "cust-" + cartId.charAt(cartId.length() - 1), 3,
+            LAST_ACTIVITY.plusSeconds(60L * minutesAfter), itemCount,
+            Money.of(new BigDecimal("1500.00"), Currency.RUB));
+    }
+}
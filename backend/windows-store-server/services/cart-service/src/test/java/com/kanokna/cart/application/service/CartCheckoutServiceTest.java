@@ -35,7 +35,7 @@ class CartCheckoutServiceTest {
 
     @BeforeEach
     void setUp() {
-        properties = new CartProperties(null, null, null, null);
+        properties = new CartProperties(null, null, null, null, null, null);
         checkoutService = new CartCheckoutService(validationService, pricingService, properties);
     }
 
@@ -45,8 +45,8 @@ class CartCheckoutServiceTest {
         Cart cart = createCartWithItems(2);
         Money total = cart.totals().total();
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(ValidationResult.validResult(), ValidationResult.validResult()));
         when(pricingService.refreshAllPrices(any()))
             .thenReturn(new PriceRefreshResult(total, total, 0.0, 0, 2, 0, false));
 
@@ -62,9 +62,8 @@ class CartCheckoutServiceTest {
     void createSnapshot_invalidItems_fails() {
         Cart cart = createCartWithItems(2);
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult())
-            .thenReturn(ValidationResult.invalid(List.of("Error")));
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(ValidationResult.validResult(), ValidationResult.invalid(List.of("Error"))));
 
         var result = checkoutService.createSnapshot(cart, false);
 
@@ -79,8 +78,8 @@ class CartCheckoutServiceTest {
         Cart cart = createCartWithItems(2);
         Money total = cart.totals().total();
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(ValidationResult.validResult(), ValidationResult.validResult()));
         when(pricingService.refreshAllPrices(any()))
             .thenReturn(new PriceRefreshResult(total, total, 0.0, 0, 0, 2, false));
 
@@ -98,8 +97,8 @@ class CartCheckoutServiceTest {
         Money oldTotal = cart.totals().total();
         Money newTotal = Money.of(oldTotal.getAmount().multiply(BigDecimal.valueOf(1.05)), Currency.RUB);
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(ValidationResult.validResult(), ValidationResult.validResult()));
         when(pricingService.refreshAllPrices(any()))
             .thenReturn(new PriceRefreshResult(oldTotal, newTotal, 5.0, 2, 2, 0, true));
 
@@ -117,8 +116,8 @@ class CartCheckoutServiceTest {
         Money oldTotal = cart.totals().total();
         Money newTotal = Money.of(oldTotal.getAmount().multiply(BigDecimal.valueOf(1.05)), Currency.RUB);
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(ValidationResult.validResult(), ValidationResult.validResult()));
         when(pricingService.refreshAllPrices(any()))
             .thenReturn(new PriceRefreshResult(oldTotal, newTotal, 5.0, 2, 2, 0, true));
 
@@ -132,8 +131,11 @@ class CartCheckoutServiceTest {
     void validateForCheckout_allValid_returnsValid() {
         Cart cart = createCartWithItems(3);
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(
+                ValidationResult.validResult(),
+                ValidationResult.validResult(),
+                ValidationResult.validResult()));
 
         var result = checkoutService.validateForCheckout(cart);
 
@@ -147,16 +149,18 @@ class CartCheckoutServiceTest {
     void validateForCheckout_someInvalid_reportsInvalid() {
         Cart cart = createCartWithItems(3);
 
-        when(validationService.validateConfiguration(any()))
-            .thenReturn(ValidationResult.validResult())
-            .thenReturn(ValidationResult.invalid(List.of("Error")))
-            .thenReturn(ValidationResult.validResult());
+        when(validationService.validateConfigurations(any()))
+            .thenReturn(List.of(
+                ValidationResult.validResult(),
+                ValidationResult.invalid(List.of("Error")),
+                ValidationResult.validResult()));
 
         var result = checkoutService.validateForCheckout(cart);
 
         assertThat(result.valid()).isFalse();
         assertThat(result.validItemCount()).isEqualTo(2);
         assertThat(result.invalidItemCount()).isEqualTo(1);
+        assertThat(result.invalidItemIds()).containsExactly(cart.items().get(1).itemId().toString());
     }
 
     @Test
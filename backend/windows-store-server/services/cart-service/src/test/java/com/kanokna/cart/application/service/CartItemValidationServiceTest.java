@@ -1,8 +1,10 @@
 package com.kanokna.cart.application.service;
 
+import com.kanokna.cart.adapters.config.CartProperties;
 import com.kanokna.cart.application.port.out.CatalogConfigurationPort;
 import com.kanokna.cart.application.port.out.CatalogConfigurationPort.ValidationResult;
 import com.kanokna.cart.domain.model.*;
+import com.kanokna.cart.support.CartServiceTestFixture.InMemoryValidationResultCache;
 import com.kanokna.shared.money.Currency;
 import com.kanokna.shared.money.Money;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +30,14 @@ class CartItemValidationServiceTest {
     @Mock
     private CatalogConfigurationPort catalogPort;
 
+    private InMemoryValidationResultCache validationResultCache;
     private CartItemValidationService validationService;
 
     @BeforeEach
     void setUp() {
-        validationService = new CartItemValidationService(catalogPort);
+        validationResultCache = new InMemoryValidationResultCache();
+        validationService = new CartItemValidationService(
+            catalogPort, validationResultCache, new CartProperties(null, null, null, null, null, null));
     }
 
     @Test
@@ -103,6 +111,111 @@ class CartItemValidationServiceTest {
         assertThat(summary.allValid()).isTrue();
     }
 
+    @Test
+    @DisplayName("revalidateCartItems reuses cached outcomes until the catalog changes")
+    void revalidateCartItems_cachedOutcomes_skipsCatalogUntilInvalidated() {
+        Cart cart = createCartWithItems(3);
+        when(catalogPort.validateConfiguration(any()))
+            .thenReturn(new ValidationResult(true, true, List.of(), List.of()))
+            .thenReturn(new ValidationResult(true, false, List.of("Width out of range"), List.of()))
+            .thenReturn(new ValidationResult(true, true, List.of(), List.of()));
+
+        validationService.revalidateCartItems(cart);
+        var cached = validationService.revalidateCartItems(cart);
+
+        verify(catalogPort, times(3)).validateConfiguration(any());
+        assertThat(cached.validCount()).isEqualTo(2);
+        assertThat(cached.invalidCount()).isEqualTo(1);
+        assertThat(cached.results())
+            .filteredOn(result -> result.status() == ValidationStatus.INVALID)
+            .extracting(CartItemValidationService.ItemValidationResult::errors)
+            .containsExactly(List.of("Width out of range"));
+        assertThat(cached.results()).extracting(CartItemValidationService.ItemValidationResult::itemId)
+            .containsExactlyElementsOf(cart.items().stream().map(item -> item.itemId().toString()).toList());
+
+        validationService.invalidateValidationCache();
+        validationService.revalidateCartItems(cart);
+
+        verify(catalogPort, times(6)).validateConfiguration(any());
+    }
+
+    @Test
+    @DisplayName("revalidateCartItems does not cache unavailable outcomes")
+    void revalidateCartItems_catalogUnavailable_notCached() {
+        Cart cart = createCartWithItems(1);
+        when(catalogPort.validateConfiguration(any()))
+            .thenReturn(ValidationResult.unavailable())
+            .thenReturn(new ValidationResult(true, true, List.of(), List.of()));
+
+        var first = validationService.revalidateCartItems(cart);
+        var second = validationService.revalidateCartItems(cart);
+
+        assertThat(first.unknownCount()).isEqualTo(1);
+        assertThat(second.validCount()).isEqualTo(1);
+        verify(catalogPort, times(2)).validateConfiguration(any());
+    }
+
+    @Test
+    @DisplayName("validateConfigurations returns results in input order")
+    void validateConfigurations_concurrentCalls_keepInputOrder() {
+        when(catalogPort.validateConfiguration(any())).thenAnswer(invocation -> {
+            ConfigurationSnapshot snapshot = invocation.getArgument(0);
+            Thread.sleep(snapshot.widthCm() % 7);
+            return snapshot.widthCm() % 2 == 0
+                ? new ValidationResult(true, true, List.of(), List.of())
+                : new ValidationResult(true, false, List.of("Width " + snapshot.widthCm()), List.of());
+        });
+        List<ConfigurationSnapshot> snapshots = java.util.stream.IntStream.range(1000, 1020)
+            .mapToObj(width -> new ConfigurationSnapshot("WINDOW-001", width, 1500, List.of(), List.of()))
+            .toList();
+
+        var results = validationService.validateConfigurations(snapshots);
+
+        assertThat(results).hasSize(20);
+        for (int i = 0; i < snapshots.size(); i++) {
+            int width = snapshots.get(i).widthCm();
+            assertThat(results.get(i).valid()).isEqualTo(width % 2 == 0);
+            if (width % 2 != 0) {
+                assertThat(results.get(i).errors()).containsExactly("Width " + width);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("validateConfigurations reports calls past the deadline as unavailable")
+    void validateConfigurations_deadlineExceeded_returnsUnavailable() {
+        CartProperties defaults = new CartProperties(null, null, null, null, null, null);
+        CartProperties.Timeouts timeouts = defaults.timeouts();
+        CartProperties properties = new CartProperties(
+            new CartProperties.Timeouts(
+                timeouts.anonymousTtl(),
+                timeouts.abandonedThreshold(),
+                timeouts.snapshotValidity(),
+                timeouts.priceQuoteStaleness(),
+                Duration.ofMillis(200),
+                timeouts.pricingQuoteTimeout(),
+                timeouts.validationCacheTtl()
+            ),
+            null, null, null, null, null);
+        validationService = new CartItemValidationService(catalogPort, validationResultCache, properties);
+        when(catalogPort.validateConfiguration(any())).thenAnswer(invocation -> {
+            ConfigurationSnapshot snapshot = invocation.getArgument(0);
+            if (snapshot.widthCm() == 999) {
+                Thread.sleep(10_000);
+            }
+            return new ValidationResult(true, true, List.of(), List.of());
+        });
+
+        var results = validationService.validateConfigurations(List.of(
+            createSnapshot(),
+            new ConfigurationSnapshot("WINDOW-001", 999, 1500, List.of(), List.of()),
+            createSnapshot()
+        ));
+
+        assertThat(results).extracting(com.kanokna.cart.application.service.dto.ValidationResult::status)
+            .containsExactly(ValidationStatus.VALID, ValidationStatus.UNKNOWN, ValidationStatus.VALID);
+    }
+
     @Test
     @DisplayName("hasInvalidItems returns true when invalid item exists")
     void hasInvalidItems_withInvalidItem_returnsTrue() {
@@ -21,6 +21,9 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,7 +40,7 @@ class CartPricingServiceTest {
 
     @BeforeEach
     void setUp() {
-        properties = new CartProperties(null, null, null, null);
+        properties = new CartProperties(null, null, null, null, null, null);
         pricingService = new CartPricingService(pricingPort, totalsCalculator, properties);
     }
 
@@ -96,8 +99,10 @@ class CartPricingServiceTest {
         Money newPrice = Money.of(BigDecimal.valueOf(20000), Currency.RUB);
         Instant validUntil = Instant.now().plusSeconds(3600);
 
-        when(pricingPort.calculateQuote(any(), any()))
-            .thenReturn(new PriceQuote(true, "quote-new", newPrice, validUntil));
+        when(pricingPort.calculateQuotes(any(), any()))
+            .thenReturn(List.of(
+                new PriceQuote(true, "quote-new", newPrice, validUntil),
+                new PriceQuote(true, "quote-new", newPrice, validUntil)));
         when(totalsCalculator.calculateTotals(any(), any(), any()))
             .thenReturn(new CartTotals(
                 Money.of(BigDecimal.valueOf(40000), Currency.RUB),
@@ -119,11 +124,12 @@ class CartPricingServiceTest {
     void refreshAllPrices_partialFailure_reportsPartial() {
         Cart cart = createCartWithItems(2);
 
-        when(pricingPort.calculateQuote(any(), any()))
-            .thenReturn(new PriceQuote(true, "quote-1",
-                Money.of(BigDecimal.valueOf(20000), Currency.RUB),
-                Instant.now().plusSeconds(3600)))
-            .thenReturn(PriceQuote.unavailable());
+        when(pricingPort.calculateQuotes(any(), any()))
+            .thenReturn(List.of(
+                new PriceQuote(true, "quote-1",
+                    Money.of(BigDecimal.valueOf(20000), Currency.RUB),
+                    Instant.now().plusSeconds(3600)),
+                PriceQuote.unavailable()));
         when(totalsCalculator.calculateTotals(any(), any(), any()))
             .thenReturn(new CartTotals(
                 Money.of(BigDecimal.valueOf(20000), Currency.RUB),
@@ -140,6 +146,21 @@ class CartPricingServiceTest {
         assertThat(result.isPartial()).isTrue();
     }
 
+    @Test
+    @DisplayName("refreshAllPrices prices the whole cart with a single batch call")
+    void refreshAllPrices_usesSingleBatchCall() {
+        Cart cart = createCartWithItems(3);
+
+        when(pricingPort.calculateQuotes(any(), any()))
+            .thenReturn(List.of(PriceQuote.unavailable()));
+
+        var result = pricingService.refreshAllPrices(cart);
+
+        assertThat(result.failCount()).isEqualTo(3);
+        verify(pricingPort, times(1)).calculateQuotes(any(), any());
+        verify(pricingPort, never()).calculateQuote(any(), any());
+    }
+
     @Test
     @DisplayName("isPriceChangeSignificant returns true when change exceeds threshold")
     void isPriceChangeSignificant_exceedsThreshold_returnsTrue() {
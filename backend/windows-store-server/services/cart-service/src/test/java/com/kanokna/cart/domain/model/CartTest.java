@@ -8,6 +8,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -90,4 +91,43 @@ class CartTest {
 
         assertEquals(CartStatus.CHECKED_OUT, cart.status());
     }
+
+    @Test
+    @DisplayName("itemChanges reports items added, changed and removed since the last persist")
+    void itemChangesTrackAddedChangedAndRemovedItems() {
+        CartTotalsCalculator calculator = new CartTotalsCalculator();
+        CartItem kept = item("T-4", "hash-4");
+        CartItem updated = item("T-5", "hash-5");
+        CartItem removed = item("T-6", "hash-6");
+        Cart cart = CartServiceTestFixture.cartWithItems("cust-4", calculator, kept, updated, removed);
+        assertEquals(3, cart.itemChanges().added().size());
+
+        cart.markPersisted();
+        assertTrue(cart.itemChanges().isEmpty());
+
+        CartItem added = item("T-7", "hash-7");
+        CartItem discarded = item("T-8", "hash-8");
+        cart.addItem(added, calculator, null);
+        cart.addItem(discarded, calculator, null);
+        cart.updateItemQuantity(updated.itemId(), 3, calculator, null);
+        cart.removeItem(removed.itemId(), calculator, null);
+        cart.removeItem(discarded.itemId(), calculator, null);
+
+        CartItemChanges changes = cart.itemChanges();
+        assertEquals(List.of(added), changes.added());
+        assertEquals(List.of(updated), changes.changed());
+        assertEquals(List.of(removed.itemId()), changes.removed());
+    }
+
+    private static CartItem item(String templateId, String hash) {
+        return CartServiceTestFixture.item(
+            templateId,
+            "Window",
+            "WINDOW",
+            1,
+            CartServiceTestFixture.money("1000.00"),
+            hash,
+            Instant.now().plusSeconds(3600)
+        );
+    }
 }
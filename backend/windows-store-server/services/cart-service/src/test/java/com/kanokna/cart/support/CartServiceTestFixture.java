@@ -11,12 +11,14 @@ import com.kanokna.cart.application.port.out.CatalogConfigurationPort;
 import com.kanokna.cart.application.port.out.EventPublisher;
 import com.kanokna.cart.application.port.out.PricingPort;
 import com.kanokna.cart.application.port.out.SessionCartStore;
+import com.kanokna.cart.application.port.out.ValidationResultCache;
 import com.kanokna.cart.application.service.CartApplicationService;
 import com.kanokna.cart.application.service.CartCheckoutService;
 import com.kanokna.cart.application.service.CartItemValidationService;
 import com.kanokna.cart.application.service.CartMergingService;
 import com.kanokna.cart.application.service.CartPricingService;
 import com.kanokna.cart.application.service.CartPromoCodeService;
+import com.kanokna.cart.application.service.dto.ValidationResult;
 import com.kanokna.cart.domain.model.AppliedPromoCode;
 import com.kanokna.cart.domain.model.Cart;
 import com.kanokna.cart.domain.model.CartItem;
@@ -33,6 +35,7 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -44,7 +47,7 @@ public final class CartServiceTestFixture {
     }
 
     public static CartProperties cartProperties() {
-        return new CartProperties(null, null, null, null);
+        return new CartProperties(null, null, null, null, null, null);
     }
 
     public static DimensionsDto dimensions() {
@@ -142,12 +145,16 @@ public final class CartServiceTestFixture {
         public final FakePricingPort pricingPort = new FakePricingPort();
         public final RecordingEventPublisher eventPublisher = new RecordingEventPublisher();
         public final InMemorySessionCartStore sessionCartStore = new InMemorySessionCartStore();
+        public final InMemoryValidationResultCache validationResultCache = new InMemoryValidationResultCache();
         public final CartTotalsCalculator totalsCalculator = new CartTotalsCalculator();
         public final ConfigurationHashService configurationHashService = new ConfigurationHashService();
         public final CartMergeService mergeService = new CartMergeService();
         public final CartProperties properties = cartProperties();
         public final CartItemValidationService validationService = new CartItemValidationService(
-            catalogPort);
+            catalogPort,
+            validationResultCache,
+            properties
+        );
         public final CartPricingService pricingService = new CartPricingService(
             pricingPort,
             totalsCalculator,
@@ -258,6 +265,33 @@ public final class CartServiceTestFixture {
         }
     }
 
+    public static final class InMemoryValidationResultCache implements ValidationResultCache {
+        private final Map<String, ValidationResult> results = new HashMap<>();
+        private long generation;
+
+        @Override
+        public Lookup findAll(Collection<String> configurationHashes) {
+            Map<String, ValidationResult> found = new HashMap<>();
+            for (String hash : configurationHashes) {
+                ValidationResult result = results.get(generation + ":" + hash);
+                if (result != null) {
+                    found.put(hash, result);
+                }
+            }
+            return new Lookup(generation, found);
+        }
+
+        @Override
+        public void storeAll(long catalogGeneration, Map<String, ValidationResult> results) {
+            results.forEach((hash, result) -> this.results.put(catalogGeneration + ":" + hash, result));
+        }
+
+        @Override
+        public void invalidateAll() {
+            generation++;
+        }
+    }
+
     public static final class FakeCatalogConfigurationPort implements CatalogConfigurationPort {
         private boolean available = true;
         private boolean valid = true;
@@ -350,6 +384,13 @@ public final class CartServiceTestFixture {
             return defaultQuote;
         }
 
+        @Override
+        public List<PriceQuote> calculateQuotes(List<ConfigurationSnapshot> snapshots, Currency currency) {
+            return snapshots.stream()
+                .map(snapshot -> calculateQuote(snapshot, currency))
+                .toList();
+        }
+
         @Override
         public PromoValidationResult validatePromoCode(String promoCode, Money subtotal) {
             if (!available) {
@@ -2,6 +2,7 @@ package com.kanokna.pricing;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for Pricing Service.
@@ -13,6 +14,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Per DevelopmentPlan.xml#DP-SVC-pricing-service
  */
 @SpringBootApplication
+@EnableScheduling
 public class PricingServiceApplication {
 
     static void main(String[] args) {
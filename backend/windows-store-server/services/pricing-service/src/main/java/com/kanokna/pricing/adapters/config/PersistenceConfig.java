@@ -1,17 +1,33 @@
 package com.kanokna.pricing.adapters.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanokna.pricing.domain.model.PriceGrid;
 import com.kanokna.pricing.domain.service.DiscountService;
 import com.kanokna.pricing.domain.service.PriceCalculationService;
 import com.kanokna.pricing.domain.service.RoundingService;
 import com.kanokna.pricing.domain.service.TaxCalculationService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.sql.DataSource;
+import java.util.List;
+
 /**
  * JPA and domain service configuration.
+ *
+ * When {@code pricing.datasource.replica.url} is set, read-only transactions are routed to the
+ * read replica and all other work to the primary. Without it the auto-configured primary
+ * DataSource is used for everything.
  */
 @Configuration
 @EnableJpaRepositories(basePackages = "com.kanokna.pricing.adapters.out.persistence")
@@ -23,6 +39,49 @@ public class PersistenceConfig {
         return new ObjectMapper().findAndRegisterModules();
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "pricing.datasource.replica.url")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("pricing-primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "pricing.datasource.replica.url")
+    @ConfigurationProperties("pricing.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${pricing.datasource.replica.url}") String url,
+            @Value("${pricing.datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${pricing.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("pricing-replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Routes by the read-only flag of the current transaction. The physical connection is only
+     * fetched on first use, after the transaction manager has marked it read-only.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "pricing.datasource.replica.url")
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
     @Bean
     public DiscountService discountService() {
         return new DiscountService();
@@ -45,4 +104,12 @@ public class PersistenceConfig {
             RoundingService roundingService) {
         return new PriceCalculationService(discountService, taxCalculationService, roundingService);
     }
+
+    @Bean
+    public PriceGrid.Layout priceGridLayout(
+            @Value("${pricing.price-grid.enabled:true}") boolean enabled,
+            @Value("${pricing.price-grid.sizes:}") List<String> sizes,
+            @Value("${pricing.price-grid.bundles:}") List<String> bundles) {
+        return enabled ? PriceGrid.Layout.parse(sizes, bundles) : PriceGrid.Layout.NONE;
+    }
 }
@@ -7,12 +7,20 @@ import com.kanokna.common.v1.Currency;
 import com.kanokna.common.v1.Money;
 import com.kanokna.pricing.v1.CalculateQuoteRequest;
 import com.kanokna.pricing.v1.CalculateQuoteResponse;
+import com.kanokna.pricing.v1.CalculateQuotesRequest;
+import com.kanokna.pricing.v1.CalculateQuotesResponse;
 import com.kanokna.pricing.v1.PremiumLine;
 import com.kanokna.pricing.v1.PricingDecision;
+import com.kanokna.pricing.v1.QuoteItem;
+import com.kanokna.pricing.v1.QuoteItemError;
+import com.kanokna.pricing.v1.QuoteItemResult;
+import com.kanokna.pricing.v1.StreamQuotesResponse;
 import com.kanokna.pricing.v1.ValidatePromoCodeRequest;
 import com.kanokna.pricing.v1.ValidatePromoCodeResponse;
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.dto.CalculateQuotesCommand;
 import com.kanokna.pricing.application.dto.PromoCodeValidationResponse;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
 import com.kanokna.pricing.application.dto.QuoteResponse;
 import com.kanokna.pricing.application.dto.ValidatePromoCodeCommand;
 import org.springframework.stereotype.Component;
@@ -38,6 +46,7 @@ public class PricingGrpcMapper {
         command.setCurrency(mapCurrency(request.getCurrency()));
         command.setPromoCode(request.getPromoCode());
         command.setRegion(request.getRegion());
+        command.setIncludeTrace(request.getIncludeTrace());
         return command;
     }
 
@@ -74,6 +83,43 @@ public class PricingGrpcMapper {
         return builder.build();
     }
 
+    public CalculateQuotesCommand toCommand(CalculateQuotesRequest request) {
+        CalculateQuotesCommand command = new CalculateQuotesCommand();
+        command.setCurrency(mapCurrency(request.getCurrency()));
+        command.setPromoCode(request.getPromoCode());
+        command.setRegion(request.getRegion().isBlank() ? null : request.getRegion());
+        command.setIncludeTrace(request.getIncludeTrace());
+        command.setItems(request.getItemsList().stream()
+            .map(this::toItem)
+            .collect(Collectors.toList()));
+        return command;
+    }
+
+    public CalculateQuotesResponse toResponse(List<QuoteBatchItemResult> results) {
+        CalculateQuotesResponse.Builder builder = CalculateQuotesResponse.newBuilder();
+        for (QuoteBatchItemResult result : results) {
+            QuoteItemResult.Builder item = QuoteItemResult.newBuilder()
+                .setItemId(result.getItemId() == null ? "" : result.getItemId());
+            if (result.isSuccess()) {
+                item.setQuote(toResponse(result.getQuote()));
+            } else {
+                item.setError(toItemError(result));
+            }
+            builder.addResults(item.build());
+        }
+        return builder.build();
+    }
+
+    public StreamQuotesResponse toStreamResponse(long sequence, QuoteBatchItemResult result) {
+        StreamQuotesResponse.Builder builder = StreamQuotesResponse.newBuilder().setSequence(sequence);
+        if (result.isSuccess()) {
+            builder.setQuote(toResponse(result.getQuote()));
+        } else {
+            builder.setError(toItemError(result));
+        }
+        return builder.build();
+    }
+
     public ValidatePromoCodeCommand toCommand(ValidatePromoCodeRequest request) {
         ValidatePromoCodeCommand command = new ValidatePromoCodeCommand();
         command.setPromoCode(request.getPromoCode());
@@ -94,6 +140,23 @@ public class PricingGrpcMapper {
         return builder.build();
     }
 
+    private QuoteItemError toItemError(QuoteBatchItemResult result) {
+        return QuoteItemError.newBuilder()
+            .setCode(result.getErrorCode() == null ? "" : result.getErrorCode())
+            .setMessage(result.getErrorMessage() == null ? "" : result.getErrorMessage())
+            .build();
+    }
+
+    private CalculateQuotesCommand.Item toItem(QuoteItem quoteItem) {
+        CalculateQuotesCommand.Item item = new CalculateQuotesCommand.Item();
+        item.setItemId(quoteItem.getItemId());
+        item.setProductTemplateId(quoteItem.getProductTemplateId());
+        item.setWidthCm(BigDecimal.valueOf(quoteItem.getDimensions().getWidthCm()));
+        item.setHeightCm(BigDecimal.valueOf(quoteItem.getDimensions().getHeightCm()));
+        item.setResolvedBom(extractOptionIds(quoteItem.getResolvedBom()));
+        return item;
+    }
+
     private List<String> extractOptionIds(BillOfMaterials bom) {
         if (bom == null || bom.getLinesCount() == 0) {
             return List.of();
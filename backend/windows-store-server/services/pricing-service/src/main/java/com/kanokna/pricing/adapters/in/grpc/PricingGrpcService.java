@@ -1,21 +1,33 @@
 package com.kanokna.pricing.adapters.in.grpc;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.grpc.server.service.GrpcService;
 
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
 import com.kanokna.pricing.application.dto.PromoCodeValidationResponse;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
 import com.kanokna.pricing.application.dto.QuoteResponse;
 import com.kanokna.pricing.application.dto.ValidatePromoCodeCommand;
 import com.kanokna.pricing.application.port.in.CalculateQuoteUseCase;
 import com.kanokna.pricing.application.port.in.ValidatePromoCodeUseCase;
 import com.kanokna.pricing.v1.CalculateQuoteRequest;
 import com.kanokna.pricing.v1.CalculateQuoteResponse;
+import com.kanokna.pricing.v1.CalculateQuotesRequest;
+import com.kanokna.pricing.v1.CalculateQuotesResponse;
 import com.kanokna.pricing.v1.PricingServiceGrpc;
+import com.kanokna.pricing.v1.StreamQuotesRequest;
+import com.kanokna.pricing.v1.StreamQuotesResponse;
 import com.kanokna.pricing.v1.ValidatePromoCodeRequest;
 import com.kanokna.pricing.v1.ValidatePromoCodeResponse;
 
 import io.grpc.stub.StreamObserver;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 /**
  * MODULE_CONTRACT id="MC-pricing-grpc-adapter" LAYER="adapters.in.grpc"
  * INTENT="gRPC adapter for pricing quote calculation and promo code validation"
@@ -29,13 +41,19 @@ public class PricingGrpcService extends PricingServiceGrpc.PricingServiceImplBas
     private final CalculateQuoteUseCase calculateQuoteUseCase;
     private final ValidatePromoCodeUseCase validatePromoCodeUseCase;
     private final PricingGrpcMapper mapper;
+    private final Executor streamExecutor;
+    private final Duration streamSessionTtl;
 
     public PricingGrpcService(CalculateQuoteUseCase calculateQuoteUseCase,
             ValidatePromoCodeUseCase validatePromoCodeUseCase,
-            PricingGrpcMapper mapper) {
+            PricingGrpcMapper mapper,
+            @Qualifier("applicationTaskExecutor") Executor streamExecutor,
+            @Value("${pricing.quote.stream.session-ttl-seconds:60}") long streamSessionTtlSeconds) {
         this.calculateQuoteUseCase = calculateQuoteUseCase;
         this.validatePromoCodeUseCase = validatePromoCodeUseCase;
         this.mapper = mapper;
+        this.streamExecutor = streamExecutor;
+        this.streamSessionTtl = Duration.ofSeconds(streamSessionTtlSeconds);
     }
 
     @Override
@@ -47,6 +65,20 @@ public class PricingGrpcService extends PricingServiceGrpc.PricingServiceImplBas
         responseObserver.onCompleted();
     }
 
+    @Override
+    public void calculateQuotes(CalculateQuotesRequest request,
+            StreamObserver<CalculateQuotesResponse> responseObserver) {
+        List<QuoteBatchItemResult> results = calculateQuoteUseCase.calculateQuotes(mapper.toCommand(request));
+        responseObserver.onNext(mapper.toResponse(results));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<StreamQuotesRequest> streamQuotes(StreamObserver<StreamQuotesResponse> responseObserver) {
+        return new QuoteStream(calculateQuoteUseCase, mapper, streamExecutor, streamSessionTtl,
+                Clock.systemUTC(), responseObserver);
+    }
+
     @Override
     public void validatePromoCode(ValidatePromoCodeRequest request,
             StreamObserver<ValidatePromoCodeResponse> responseObserver) {
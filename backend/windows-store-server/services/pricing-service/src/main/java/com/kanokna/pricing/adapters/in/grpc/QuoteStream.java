@@ -0,0 +1,218 @@
+package com.kanokna.pricing.adapters.in.grpc;
+
+import com.kanokna.common.v1.Currency;
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
+import com.kanokna.pricing.application.port.in.CalculateQuoteUseCase;
+import com.kanokna.pricing.application.port.in.QuoteSession;
+import com.kanokna.pricing.v1.CalculateQuoteRequest;
+import com.kanokna.pricing.v1.StreamQuotesRequest;
+import com.kanokna.pricing.v1.StreamQuotesResponse;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server side of one StreamQuotes call.
+ *
+ * Incoming requests are merged into the current configuration on the gRPC thread and left as
+ * the single pending configuration. Pricing runs on {@code executor}, one quote at a time;
+ * when it finishes it prices whatever is pending by then, so configurations superseded while
+ * a quote was being calculated are never priced. The quote session is reopened after
+ * {@code sessionTtl} to pick up newly published price books and campaigns.
+ */
+final class QuoteStream implements StreamObserver<StreamQuotesRequest> {
+    private static final Logger logger = LoggerFactory.getLogger(QuoteStream.class);
+    private static final String INCOMPLETE_CONFIGURATION = "ERR-PRC-INCOMPLETE-CONFIGURATION";
+
+    private final CalculateQuoteUseCase calculateQuoteUseCase;
+    private final PricingGrpcMapper mapper;
+    private final Executor executor;
+    private final Duration sessionTtl;
+    private final Clock clock;
+    private final StreamObserver<StreamQuotesResponse> responses;
+
+    // Touched only by the gRPC thread, which delivers requests serially
+    private final CalculateQuoteRequest.Builder configuration = CalculateQuoteRequest.newBuilder();
+    private boolean started;
+
+    // Touched only by the pricing task, which never runs concurrently with itself
+    private QuoteSession session;
+    private Instant sessionOpenedAt;
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong priced = new AtomicLong();
+
+    // Guarded by this
+    private Pending pending;
+    private boolean draining;
+    private boolean halfClosed;
+    private boolean finished;
+
+    QuoteStream(CalculateQuoteUseCase calculateQuoteUseCase, PricingGrpcMapper mapper, Executor executor,
+                Duration sessionTtl, Clock clock, StreamObserver<StreamQuotesResponse> responses) {
+        this.calculateQuoteUseCase = calculateQuoteUseCase;
+        this.mapper = mapper;
+        this.executor = executor;
+        this.sessionTtl = sessionTtl;
+        this.clock = clock;
+        this.responses = responses;
+        if (responses instanceof ServerCallStreamObserver<StreamQuotesResponse> call) {
+            call.setOnCancelHandler(this::finish);
+        }
+    }
+
+    @Override
+    public void onNext(StreamQuotesRequest request) {
+        if (!started) {
+            configuration.setPromoCode(request.getPromoCode())
+                .setRegion(request.getRegion())
+                .setIncludeTrace(request.getIncludeTrace());
+            started = true;
+        }
+        if (!request.getProductTemplateId().isEmpty()) {
+            configuration.setProductTemplateId(request.getProductTemplateId());
+        }
+        if (request.hasDimensions()) {
+            configuration.setDimensions(request.getDimensions());
+        }
+        if (request.hasResolvedBom()) {
+            configuration.setResolvedBom(request.getResolvedBom());
+        }
+        if (request.getCurrency() != Currency.CURRENCY_UNSPECIFIED) {
+            configuration.setCurrency(request.getCurrency());
+        }
+        received.incrementAndGet();
+
+        Pending next = new Pending(request.getSequence(), configuration.build());
+        synchronized (this) {
+            if (finished) {
+                return;
+            }
+            pending = next;
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            fail(ex);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        finish();
+    }
+
+    @Override
+    public void onCompleted() {
+        synchronized (this) {
+            halfClosed = true;
+            if (draining || finished) {
+                return;
+            }
+            finished = true;
+        }
+        complete();
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            synchronized (this) {
+                if (finished) {
+                    draining = false;
+                    return;
+                }
+                next = pending;
+                pending = null;
+                if (next == null) {
+                    draining = false;
+                    if (!halfClosed) {
+                        return;
+                    }
+                    finished = true;
+                }
+            }
+            if (next == null) {
+                complete();
+                return;
+            }
+
+            StreamQuotesResponse response;
+            try {
+                response = price(next);
+            } catch (RuntimeException ex) {
+                fail(ex);
+                return;
+            }
+            synchronized (this) {
+                if (finished) {
+                    draining = false;
+                    return;
+                }
+                responses.onNext(response);
+            }
+        }
+    }
+
+    private StreamQuotesResponse price(Pending next) {
+        CalculateQuoteRequest request = next.configuration();
+        String itemId = Long.toString(next.sequence());
+        priced.incrementAndGet();
+        if (request.getProductTemplateId().isEmpty() || !request.hasDimensions()) {
+            return mapper.toStreamResponse(next.sequence(), QuoteBatchItemResult.failure(
+                itemId, INCOMPLETE_CONFIGURATION, "productTemplateId and dimensions are required"));
+        }
+
+        // Blank region falls back to the default region, as for batch quotes
+        CalculateQuoteCommand command = mapper.toCommand(request);
+        command.setRegion(request.getRegion().isBlank() ? null : request.getRegion());
+
+        Instant now = clock.instant();
+        if (session == null || !now.isBefore(sessionOpenedAt.plus(sessionTtl))) {
+            session = calculateQuoteUseCase.openSession(command.getPromoCode(), command.getRegion());
+            sessionOpenedAt = now;
+        }
+        return mapper.toStreamResponse(next.sequence(), session.calculateQuote(itemId, command));
+    }
+
+    private void fail(RuntimeException ex) {
+        synchronized (this) {
+            draining = false;
+            if (finished) {
+                return;
+            }
+            finished = true;
+        }
+        logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=QUOTE_STREAM] "
+                + "eventType=QUOTE_STREAM decision=FAILED keyValues=received={},priced={}", received.get(), priced.get(), ex);
+        responses.onError(Status.INTERNAL.withDescription("Pricing service error").withCause(ex).asRuntimeException());
+    }
+
+    private void complete() {
+        logger.debug("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=QUOTE_STREAM] "
+                + "eventType=QUOTE_STREAM decision=COMPLETED keyValues=received={},priced={}", received.get(), priced.get());
+        responses.onCompleted();
+    }
+
+    private synchronized void finish() {
+        finished = true;
+        pending = null;
+    }
+
+    private record Pending(long sequence, CalculateQuoteRequest configuration) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.kanokna.pricing.adapters.in.web;
+
+import com.kanokna.pricing.application.dto.PriceBookImportResult;
+import com.kanokna.pricing.application.port.in.ImportPriceBooksUseCase;
+import com.kanokna.pricing.domain.exception.PriceBookImportNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.util.UUID;
+
+/**
+ * MODULE_CONTRACT id="MC-pricing-admin-import-rest-adapter" LAYER="adapters.in.web"
+ * INTENT="Admin REST controller for bulk price book import and publication"
+ * LINKS="Technology.xml#TECH-spring-mvc;RequirementsAnalysis.xml#UC-PRICING-ADMIN-MANAGE"
+ *
+ * The CSV body is passed to the use case as a stream and is never buffered whole.
+ * Access is restricted to ADMIN and PRICING_ADMIN by SecurityConfig.
+ */
+@RestController
+@RequestMapping("/api/v1/pricing/admin/price-book-imports")
+public class PriceBookImportController {
+
+    private final ImportPriceBooksUseCase importPriceBooksUseCase;
+
+    public PriceBookImportController(ImportPriceBooksUseCase importPriceBooksUseCase) {
+        this.importPriceBooksUseCase = importPriceBooksUseCase;
+    }
+
+    /**
+     * Upload price books as DRAFT.
+     *
+     * POST /api/v1/pricing/admin/price-book-imports (Content-Type: text/csv)
+     *
+     * Response 201: { "importId": "uuid", "status": "VALIDATED", "priceBookCount":
+     * 1200, "premiumCount": 5400, "version": null, "errors": [] }
+     *
+     * Response 422: same body with status FAILED and the rejected lines in "errors"
+     */
+    @PostMapping(consumes = {"text/csv", "text/plain"})
+    public ResponseEntity<PriceBookImportResult> importPriceBooks(HttpServletRequest request, Principal principal)
+            throws IOException {
+        try (InputStream body = request.getInputStream()) {
+            PriceBookImportResult result = importPriceBooksUseCase.importPriceBooks(body, user(principal));
+            HttpStatus status = result.getStatus() == PriceBookImportResult.Status.FAILED
+                ? HttpStatus.UNPROCESSABLE_ENTITY
+                : HttpStatus.CREATED;
+            return ResponseEntity.status(status).body(result);
+        }
+    }
+
+    /**
+     * Make every price book of a validated import ACTIVE.
+     *
+     * POST /api/v1/pricing/admin/price-book-imports/{importId}/publish
+     *
+     * Error responses: - 404: Import not found - 409: Import is not VALIDATED
+     */
+    @PostMapping("/{importId}/publish")
+    public ResponseEntity<PriceBookImportResult> publishImport(@PathVariable UUID importId, Principal principal) {
+        return ResponseEntity.ok(importPriceBooksUseCase.publishImport(importId, user(principal)));
+    }
+
+    @ExceptionHandler(PriceBookImportNotFoundException.class)
+    public ProblemDetail handleImportNotFound(PriceBookImportNotFoundException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, ex.getMessage());
+        problemDetail.setTitle("Price Book Import Not Found");
+        return problemDetail;
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ProblemDetail handleIllegalState(IllegalStateException ex) {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.CONFLICT, ex.getMessage());
+        problemDetail.setTitle("Conflict");
+        return problemDetail;
+    }
+
+    private static String user(Principal principal) {
+        return principal != null ? principal.getName() : "system";
+    }
+}
@@ -40,13 +40,14 @@ public class PricingController {
      * Request body: { "productTemplateId": "WINDOW-PVC-STANDARD", "widthCm":
      * 120.0, "heightCm": 150.0, "selectedOptionIds":
      * ["OPT-LAMINATION-GOLD-OAK", "OPT-HANDLE-ROTO"], "currency": "RUB",
-     * "promoCode": "WELCOME10", "region": "RU" }
+     * "promoCode": "WELCOME10", "region": "RU", "includeTrace": false }
      *
      * Response 200: { "quoteId": "uuid", "productTemplateId":
      * "WINDOW-PVC-STANDARD", "basePrice": "RUB 18000.00", "optionPremiums":
      * [...], "discount": "RUB 2000.00", "subtotal": "RUB 20000.00", "tax": "RUB
      * 4000.00", "total": "RUB 24000.00", "currency": "RUB", "validUntil":
-     * "2025-12-31T12:05:00Z", "decisionTrace": [...] }
+     * "2025-12-31T12:05:00Z", "decisionTrace": [...] } (decisionTrace is empty
+     * unless includeTrace is true)
      *
      * Error responses: - 404: Price book not found for product - 400: Invalid
      * dimensions or configuration
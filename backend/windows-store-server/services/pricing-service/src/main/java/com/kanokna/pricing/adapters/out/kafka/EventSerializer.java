@@ -1,14 +1,20 @@
 package com.kanokna.pricing.adapters.out.kafka;
 
 import org.springframework.stereotype.Component;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
 import com.google.protobuf.Timestamp;
 import com.kanokna.common.v1.Currency;
 import com.kanokna.common.v1.EventMetadata;
 import com.kanokna.common.v1.Money;
+import com.kanokna.pricing.v1.QuoteCalculatedAggregateEvent;
 import com.kanokna.pricing.v1.QuoteCalculatedEvent;
 
+import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -16,10 +22,14 @@ import java.util.UUID;
  */
 @Component
 public class EventSerializer {
+    private static final Map<String, Parser<? extends Message>> PARSERS = Map.of(
+        QuoteCalculatedEvent.getDescriptor().getFullName(), QuoteCalculatedEvent.parser(),
+        QuoteCalculatedAggregateEvent.getDescriptor().getFullName(), QuoteCalculatedAggregateEvent.parser()
+    );
 
     public QuoteCalculatedEvent toQuoteCalculatedEvent(com.kanokna.pricing.domain.event.QuoteCalculatedEvent event) {
         return QuoteCalculatedEvent.newBuilder()
-            .setMetadata(buildMetadata(event))
+            .setMetadata(buildMetadata(event.getQuoteId().toString(), "Quote"))
             .setQuoteId(event.getQuoteId().toString())
             .setProductTemplateId(event.getProductTemplateId())
             .setBasePrice(toMoney(event.getBasePrice()))
@@ -32,24 +42,59 @@ public class EventSerializer {
             .build();
     }
 
-    private EventMetadata buildMetadata(com.kanokna.pricing.domain.event.QuoteCalculatedEvent event) {
+    QuoteCalculatedAggregateEvent toQuoteCalculatedAggregateEvent(QuoteWindowAggregate aggregate) {
+        return QuoteCalculatedAggregateEvent.newBuilder()
+            .setMetadata(buildMetadata(aggregate.productTemplateId(), "ProductTemplate"))
+            .setProductTemplateId(aggregate.productTemplateId())
+            .setCurrency(aggregate.currency())
+            .setWindowStart(toTimestamp(aggregate.windowStart()))
+            .setWindowEnd(toTimestamp(aggregate.windowEnd()))
+            .setQuoteCount(aggregate.count())
+            .setTotalSum(toMoney(aggregate.totalSum(), aggregate.currency()))
+            .setTotalMin(toMoney(aggregate.totalMin(), aggregate.currency()))
+            .setTotalMax(toMoney(aggregate.totalMax(), aggregate.currency()))
+            .build();
+    }
+
+    /**
+     * Restores an event stored in the outbox by its Protobuf type name.
+     *
+     * @throws IllegalArgumentException if the type is unknown or the payload does not parse
+     */
+    public Message fromPayload(String eventType, byte[] payload) {
+        Parser<? extends Message> parser = PARSERS.get(eventType);
+        if (parser == null) {
+            throw new IllegalArgumentException("Unknown event type: " + eventType);
+        }
+        try {
+            return parser.parseFrom(payload);
+        } catch (InvalidProtocolBufferException ex) {
+            throw new IllegalArgumentException("Malformed " + eventType + " payload", ex);
+        }
+    }
+
+    private EventMetadata buildMetadata(String aggregateId, String aggregateType) {
         return EventMetadata.newBuilder()
             .setEventId(UUID.randomUUID().toString())
             .setOccurredAt(toTimestamp(Instant.now()))
-            .setAggregateId(event.getQuoteId().toString())
-            .setAggregateType("Quote")
+            .setAggregateId(aggregateId)
+            .setAggregateType(aggregateType)
             .setVersion(1)
             .build();
     }
 
     private Money toMoney(com.kanokna.pricing.domain.model.Money money) {
-        long minor = money.getAmount()
+        return toMoney(money.getAmount(), money.getCurrency());
+    }
+
+    private Money toMoney(BigDecimal amount, String currency) {
+        long minor = amount
             .movePointRight(2)
             .setScale(0, RoundingMode.HALF_UP)
             .longValue();
         return Money.newBuilder()
             .setAmountMinor(minor)
-            .setCurrency(mapCurrency(money.getCurrency()))
+            .setCurrency(mapCurrency(currency))
             .build();
     }
 
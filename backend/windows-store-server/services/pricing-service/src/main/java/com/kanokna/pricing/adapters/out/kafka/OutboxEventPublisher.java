@@ -0,0 +1,73 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.google.protobuf.Message;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaEntity;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaRepository;
+import com.kanokna.pricing.application.port.out.EventPublisher;
+import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+/**
+ * Outbox writer for pricing events.
+ *
+ * Events are serialized and stored in {@code pricing.event_outbox} within the caller's
+ * transaction, so an event exists if and only if the work that raised it commits.
+ * Quotes publish after their read-only transaction has completed, so they always take the
+ * first path. A caller still inside a read-only transaction, which may be running on the read
+ * replica, gets a separate short transaction on the primary instead; that holds a second
+ * pooled connection until it commits.
+ * {@link OutboxRelay} sends them to Kafka afterwards.
+ */
+@Component
+public class OutboxEventPublisher implements EventPublisher {
+    static final String QUOTE_CALCULATED_TOPIC = "pricing.quote.calculated";
+    static final String QUOTE_CALCULATED_AGGREGATE_TOPIC = "pricing.quote.calculated.aggregate";
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final EventSerializer serializer;
+    private final TransactionTemplate writeTransaction;
+
+    public OutboxEventPublisher(OutboxEventJpaRepository outboxRepository, EventSerializer serializer,
+                                PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void publishQuoteCalculated(QuoteCalculatedEvent event) {
+        com.kanokna.pricing.v1.QuoteCalculatedEvent protoEvent = serializer.toQuoteCalculatedEvent(event);
+        append("Quote", event.getQuoteId().toString(), QUOTE_CALCULATED_TOPIC, protoEvent);
+    }
+
+    @Transactional
+    public void publishQuoteAggregate(QuoteWindowAggregate aggregate) {
+        append("ProductTemplate", aggregate.productTemplateId(), QUOTE_CALCULATED_AGGREGATE_TOPIC,
+            serializer.toQuoteCalculatedAggregateEvent(aggregate));
+    }
+
+    private void append(String aggregateType, String aggregateId, String topic, Message event) {
+        OutboxEventJpaEntity entity = new OutboxEventJpaEntity(
+            aggregateType,
+            aggregateId,
+            event.getDescriptorForType().getFullName(),
+            topic,
+            event.toByteArray(),
+            Instant.now()
+        );
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeTransaction.executeWithoutResult(status -> outboxRepository.save(entity));
+        } else {
+            outboxRepository.save(entity);
+        }
+    }
+}
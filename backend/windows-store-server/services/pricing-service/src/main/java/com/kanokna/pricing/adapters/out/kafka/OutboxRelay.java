@@ -0,0 +1,155 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.google.protobuf.Message;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaEntity;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends events stored by {@link OutboxEventPublisher} to Kafka.
+ *
+ * Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, so several instances can relay
+ * concurrently without sending the same row twice. The batch is sent without waiting per
+ * record, then all sends are awaited and the rows deleted in the same transaction. If any send
+ * fails the transaction rolls back and the whole batch is retried on the next run; consumers
+ * can deduplicate by the event id in the metadata, which is fixed when the event is written.
+ * Rows whose payload cannot be restored are dropped with an error log instead of blocking
+ * the outbox.
+ *
+ * Exports {@code pricing.outbox.relayed}, {@code pricing.outbox.dropped},
+ * {@code pricing.outbox.relay.failures} and {@code pricing.outbox.lag}: the age in seconds of the
+ * oldest event left after the last successful run, which keeps growing while relaying fails.
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final EventSerializer serializer;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long sendTimeoutMs;
+    private final Counter relayed;
+    private final Counter dropped;
+    private final Counter failures;
+    private final AtomicReference<Instant> oldestPending = new AtomicReference<>();
+
+    public OutboxRelay(
+            OutboxEventJpaRepository outboxRepository,
+            EventSerializer serializer,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${pricing.outbox.batch-size:200}") int batchSize,
+            @Value("${pricing.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+            @Value("${pricing.outbox.send-timeout-ms:10000}") long sendTimeoutMs) {
+        this.outboxRepository = outboxRepository;
+        this.serializer = serializer;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.relayed = Counter.builder("pricing.outbox.relayed").register(meterRegistry);
+        this.dropped = Counter.builder("pricing.outbox.dropped").register(meterRegistry);
+        this.failures = Counter.builder("pricing.outbox.relay.failures").register(meterRegistry);
+        Gauge.builder("pricing.outbox.lag", this, OutboxRelay::lagSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Relays full batches until the outbox is drained or {@code max-batches-per-run} is reached.
+     */
+    @Scheduled(fixedDelayString = "${pricing.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            for (int run = 0; run < maxBatchesPerRun; run++) {
+                if (relayBatch() < batchSize) {
+                    break;
+                }
+            }
+            oldestPending.set(outboxRepository.findOldestCreatedAt());
+        } catch (RuntimeException ex) {
+            failures.increment();
+            logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-99][STATE=EVENT_OUTBOX] "
+                + "eventType=EVENT_OUTBOX decision=RELAY_FAILED keyValues=batchSize={}", batchSize, ex);
+        }
+    }
+
+    /**
+     * @return the number of outbox rows consumed, sent or dropped
+     */
+    int relayBatch() {
+        BatchResult result = transactionTemplate.execute(status -> {
+            List<OutboxEventJpaEntity> batch = outboxRepository.lockNextBatch(batchSize);
+            if (batch.isEmpty()) {
+                return BatchResult.EMPTY;
+            }
+            List<CompletableFuture<?>> sends = new ArrayList<>(batch.size());
+            for (OutboxEventJpaEntity event : batch) {
+                Message message;
+                try {
+                    message = serializer.fromPayload(event.getEventType(), event.getPayload());
+                } catch (IllegalArgumentException ex) {
+                    dropped.increment();
+                    logger.error("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-99][STATE=EVENT_OUTBOX] "
+                        + "eventType=EVENT_OUTBOX decision=DROPPED keyValues=outboxId={},eventType={}",
+                        event.getId(), event.getEventType(), ex);
+                    continue;
+                }
+                sends.add(kafkaTemplate.send(event.getTopic(), event.getAggregateId(), message));
+            }
+            await(sends);
+            outboxRepository.deleteAllByIdInBatch(batch.stream().map(OutboxEventJpaEntity::getId).toList());
+            return new BatchResult(batch.size(), sends.size());
+        });
+        if (result == null) {
+            return 0;
+        }
+        relayed.increment(result.sent());
+        return result.consumed();
+    }
+
+    double lagSeconds() {
+        Instant oldest = oldestPending.get();
+        return oldest == null ? 0.0 : Math.max(0L, Duration.between(oldest, Instant.now()).toMillis()) / 1000.0;
+    }
+
+    private void await(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while relaying outbox", ex);
+        } catch (ExecutionException | TimeoutException ex) {
+            throw new IllegalStateException("Outbox batch was not acknowledged by Kafka", ex);
+        }
+    }
+
+    private record BatchResult(int consumed, int sent) {
+        static final BatchResult EMPTY = new BatchResult(0, 0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Count and total statistics of the quotes calculated for one product and currency in one window.
+ */
+record QuoteWindowAggregate(
+    String productTemplateId,
+    String currency,
+    Instant windowStart,
+    Instant windowEnd,
+    long count,
+    BigDecimal totalSum,
+    BigDecimal totalMin,
+    BigDecimal totalMax
+) {
+
+    static QuoteWindowAggregate first(String productTemplateId, String currency, Instant windowStart,
+                                      Instant windowEnd, BigDecimal total) {
+        return new QuoteWindowAggregate(productTemplateId, currency, windowStart, windowEnd, 1, total, total, total);
+    }
+
+    QuoteWindowAggregate add(BigDecimal total) {
+        return new QuoteWindowAggregate(productTemplateId, currency, windowStart, windowEnd, count + 1,
+            totalSum.add(total), totalMin.min(total), totalMax.max(total));
+    }
+}
@@ -0,0 +1,203 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.kanokna.pricing.application.port.out.EventPublisher;
+import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Controls how many QuoteCalculated events reach {@link OutboxEventPublisher}.
+ *
+ * <ul>
+ *   <li>{@code FULL}: every quote is published.</li>
+ *   <li>{@code SAMPLED}: each quote is published with the sample rate of its product, or the
+ *       default rate for products without one.</li>
+ *   <li>{@code AGGREGATED}: no per-quote events; quotes of committed transactions are counted per
+ *       product and currency in fixed windows, and each closed window is published as a
+ *       QuoteCalculatedAggregateEvent. Windows are held in memory, so an instance that stops
+ *       abruptly loses its open windows.</li>
+ * </ul>
+ *
+ * Exports {@code pricing.events.quote.calculated} tagged with outcome published, skipped or
+ * aggregated.
+ */
+@Primary
+@Component
+public class SamplingEventPublisher implements EventPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(SamplingEventPublisher.class);
+
+    public enum Mode {
+        FULL,
+        SAMPLED,
+        AGGREGATED
+    }
+
+    private final OutboxEventPublisher delegate;
+    private final Mode mode;
+    private final double defaultSampleRate;
+    private final Map<String, Double> sampleRates;
+    private final Duration window;
+    private final Map<WindowKey, QuoteWindowAggregate> windows = new ConcurrentHashMap<>();
+    private final Counter published;
+    private final Counter skipped;
+    private final Counter aggregated;
+
+    public SamplingEventPublisher(
+            OutboxEventPublisher delegate,
+            MeterRegistry meterRegistry,
+            @Value("${pricing.events.quote-calculated.mode:FULL}") Mode mode,
+            @Value("${pricing.events.quote-calculated.sample-rate:1.0}") double defaultSampleRate,
+            @Value("${pricing.events.quote-calculated.sample-rates:}") List<String> sampleRates,
+            @Value("${pricing.events.quote-calculated.window-seconds:60}") long windowSeconds) {
+        this.delegate = delegate;
+        this.mode = mode;
+        this.defaultSampleRate = checkRate(defaultSampleRate);
+        this.sampleRates = parseRates(sampleRates);
+        this.window = Duration.ofSeconds(windowSeconds);
+        this.published = outcome(meterRegistry, "published");
+        this.skipped = outcome(meterRegistry, "skipped");
+        this.aggregated = outcome(meterRegistry, "aggregated");
+    }
+
+    @Override
+    public void publishQuoteCalculated(QuoteCalculatedEvent event) {
+        switch (mode) {
+            case FULL -> publish(event);
+            case SAMPLED -> {
+                double rate = sampleRates.getOrDefault(event.getProductTemplateId(), defaultSampleRate);
+                if (rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate) {
+                    publish(event);
+                } else {
+                    skipped.increment();
+                }
+            }
+            case AGGREGATED -> {
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            aggregate(event);
+                        }
+                    });
+                } else {
+                    aggregate(event);
+                }
+            }
+        }
+    }
+
+    /**
+     * Publishes the windows that have closed.
+     */
+    @Scheduled(fixedDelayString = "${pricing.events.quote-calculated.flush-interval-ms:5000}")
+    public void flush() {
+        flush(Instant.now());
+    }
+
+    @PreDestroy
+    void flushAll() {
+        flush(Instant.MAX);
+    }
+
+    void flush(Instant now) {
+        for (WindowKey key : List.copyOf(windows.keySet())) {
+            if (key.windowEnd().isAfter(now)) {
+                continue;
+            }
+            QuoteWindowAggregate aggregate = windows.remove(key);
+            if (aggregate == null) {
+                continue;
+            }
+            try {
+                delegate.publishQuoteAggregate(aggregate);
+            } catch (RuntimeException ex) {
+                // Put the window back so the next flush retries it
+                windows.merge(key, aggregate, SamplingEventPublisher::merge);
+                logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-99][STATE=EVENT_OUTBOX] "
+                    + "eventType=QUOTE_AGGREGATE decision=DEFERRED keyValues=productTemplateId={},count={}",
+                    aggregate.productTemplateId(), aggregate.count(), ex);
+                return;
+            }
+        }
+    }
+
+    int openWindows() {
+        return windows.size();
+    }
+
+    private void publish(QuoteCalculatedEvent event) {
+        delegate.publishQuoteCalculated(event);
+        published.increment();
+    }
+
+    private void aggregate(QuoteCalculatedEvent event) {
+        long windowMillis = window.toMillis();
+        long startMillis = Math.floorDiv(event.getCalculatedAt().toEpochMilli(), windowMillis) * windowMillis;
+        Instant windowStart = Instant.ofEpochMilli(startMillis);
+        Instant windowEnd = windowStart.plus(window);
+        WindowKey key = new WindowKey(event.getProductTemplateId(), event.getCurrency(), windowEnd);
+        windows.compute(key, (k, current) -> current == null
+            ? QuoteWindowAggregate.first(k.productTemplateId(), k.currency(), windowStart, windowEnd,
+                event.getTotal().getAmount())
+            : current.add(event.getTotal().getAmount()));
+        aggregated.increment();
+    }
+
+    private static QuoteWindowAggregate merge(QuoteWindowAggregate left, QuoteWindowAggregate right) {
+        return new QuoteWindowAggregate(left.productTemplateId(), left.currency(), left.windowStart(),
+            left.windowEnd(), left.count() + right.count(), left.totalSum().add(right.totalSum()),
+            left.totalMin().min(right.totalMin()), left.totalMax().max(right.totalMax()));
+    }
+
+    /**
+     * @param entries entries of the form {@code <productTemplateId>=<rate>}
+     */
+    private static Map<String, Double> parseRates(List<String> entries) {
+        Map<String, Double> rates = new HashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Sample rate must be <productTemplateId>=<rate>: " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(),
+                checkRate(Double.parseDouble(entry.substring(separator + 1).trim())));
+        }
+        return Map.copyOf(rates);
+    }
+
+    private static double checkRate(double rate) {
+        if (rate < 0.0 || rate > 1.0) {
+            throw new IllegalArgumentException("Sample rate must be between 0 and 1: " + rate);
+        }
+        return rate;
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("pricing.events.quote.calculated")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private record WindowKey(String productTemplateId, String currency, Instant windowEnd) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.application.port.out.CampaignRepository;
+import com.kanokna.pricing.domain.model.Campaign;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of ACTIVE campaigns in front of {@link CampaignRepositoryAdapter}.
+ *
+ * The index holds every ACTIVE campaign that has not ended, and buckets the ones currently in
+ * their window by productTemplateId, plus a global bucket for campaigns that apply to all
+ * products. Each product bucket already includes the global campaigns, ordered by start date,
+ * so a quote resolves its campaigns with one map lookup. Buckets are rebuilt in memory when the
+ * next start or end boundary passes, and the index is reloaded from the database after a
+ * campaign is saved and on a fixed interval to pick up changes made by other instances.
+ * Until the first load completes, lookups go to the database. Indexed campaigns are shared
+ * between requests and must be treated as read-only.
+ */
+@Primary
+@Component
+public class CachedCampaignRepositoryAdapter implements CampaignRepository {
+    private static final Logger logger = LoggerFactory.getLogger(CachedCampaignRepositoryAdapter.class);
+    private static final Comparator<Campaign> BY_START =
+        Comparator.comparing(Campaign::getStartDate).thenComparing(campaign -> campaign.getId().getValue());
+
+    private final CampaignRepositoryAdapter delegate;
+    private final boolean enabled;
+    private final AtomicReference<Index> index = new AtomicReference<>(Index.EMPTY);
+
+    public CachedCampaignRepositoryAdapter(
+            CampaignRepositoryAdapter delegate,
+            @Value("${pricing.campaign-index.enabled:true}") boolean enabled) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public List<Campaign> findActiveForProduct(String productTemplateId) {
+        return findActiveForProduct(productTemplateId, Instant.now());
+    }
+
+    List<Campaign> findActiveForProduct(String productTemplateId, Instant now) {
+        Index current = index.get();
+        if (!enabled || current.generation() == 0) {
+            return delegate.findActiveForProduct(productTemplateId);
+        }
+        if (!now.isBefore(current.nextBoundary())) {
+            current = advance(now);
+        }
+        if (productTemplateId == null) {
+            return current.global();
+        }
+        return current.byProduct().getOrDefault(productTemplateId, current.global());
+    }
+
+    @Override
+    public Campaign save(Campaign campaign) {
+        Campaign saved = delegate.save(campaign);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+        return saved;
+    }
+
+    /**
+     * Loads the index once the application context is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${pricing.campaign-index.refresh-interval-ms:60000}",
+        initialDelayString = "${pricing.campaign-index.refresh-interval-ms:60000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<Campaign> campaigns = new ArrayList<>(delegate.findActiveEndingAfter(now));
+        campaigns.sort(BY_START);
+        swap(Index.build(index.get().generation() + 1, List.copyOf(campaigns), now), "LOADED");
+    }
+
+    long generation() {
+        return index.get().generation();
+    }
+
+    private synchronized Index advance(Instant now) {
+        Index current = index.get();
+        if (now.isBefore(current.nextBoundary())) {
+            return current;
+        }
+        return swap(Index.build(current.generation() + 1, current.campaigns(), now), "WINDOW_BOUNDARY");
+    }
+
+    private Index swap(Index next, String decision) {
+        index.set(next);
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-04][STATE=CAMPAIGN_INDEX] "
+                + "eventType=CACHE_SWAP decision={} keyValues=generation={},campaigns={},in_window={},next_boundary={}",
+            decision, next.generation(), next.campaigns().size(), next.inWindow(), next.nextBoundary());
+        return next;
+    }
+
+    /**
+     * @param campaigns ACTIVE campaigns not yet ended when loaded, ordered by start date
+     * @param nextBoundary earliest start or end among {@code campaigns} after the build instant
+     */
+    private record Index(
+        long generation,
+        List<Campaign> campaigns,
+        Map<String, List<Campaign>> byProduct,
+        List<Campaign> global,
+        int inWindow,
+        Instant nextBoundary
+    ) {
+        private static final Index EMPTY = new Index(0, List.of(), Map.of(), List.of(), 0, Instant.MAX);
+
+        private static Index build(long generation, List<Campaign> campaigns, Instant now) {
+            List<Campaign> global = new ArrayList<>();
+            Map<String, List<Campaign>> specific = new HashMap<>();
+            List<Campaign> remaining = new ArrayList<>();
+            Instant nextBoundary = Instant.MAX;
+            int inWindow = 0;
+            for (Campaign campaign : campaigns) {
+                if (!campaign.getEndDate().isAfter(now)) {
+                    continue;
+                }
+                remaining.add(campaign);
+                if (campaign.getStartDate().isAfter(now)) {
+                    nextBoundary = min(nextBoundary, campaign.getStartDate());
+                    continue;
+                }
+                nextBoundary = min(nextBoundary, campaign.getEndDate());
+                inWindow++;
+                if (campaign.getApplicableProducts().isEmpty()) {
+                    global.add(campaign);
+                } else {
+                    for (String productTemplateId : campaign.getApplicableProducts()) {
+                        specific.computeIfAbsent(productTemplateId, key -> new ArrayList<>()).add(campaign);
+                    }
+                }
+            }
+
+            Map<String, List<Campaign>> byProduct = new HashMap<>();
+            for (Map.Entry<String, List<Campaign>> entry : specific.entrySet()) {
+                List<Campaign> merged = new ArrayList<>(entry.getValue());
+                merged.addAll(global);
+                merged.sort(BY_START);
+                byProduct.put(entry.getKey(), List.copyOf(merged));
+            }
+            return new Index(generation, List.copyOf(remaining), Map.copyOf(byProduct), List.copyOf(global),
+                inWindow, nextBoundary);
+        }
+
+        private static Instant min(Instant left, Instant right) {
+            return left.isBefore(right) ? left : right;
+        }
+    }
+}
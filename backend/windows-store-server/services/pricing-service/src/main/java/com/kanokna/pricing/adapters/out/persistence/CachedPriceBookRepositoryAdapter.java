@@ -0,0 +1,200 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.application.port.out.PriceBookRepository;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import com.kanokna.pricing.domain.event.PriceBookPublishedEvent;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookStatus;
+import com.kanokna.pricing.domain.model.PriceGrid;
+import com.kanokna.shared.logging.LogSanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process snapshot of all ACTIVE price books in front of {@link PriceBookRepositoryAdapter}.
+ *
+ * The snapshot is an immutable productTemplateId -> PriceBook map loaded at startup and
+ * replaced atomically, so the quote hot path resolves price books without a database round
+ * trip. Price books published by this instance are swapped in when the publishing
+ * transaction commits. Changes made by other instances are picked up by polling a cheap
+ * fingerprint (ACTIVE count and latest update time, which publish and archive both move)
+ * and reloading the snapshot when it differs from the one loaded. Snapshot entries are
+ * {@link PriceBook#readOnlyCopy(PriceGrid) read-only copies}, so a caller cannot change what other
+ * requests see. Lookups that miss the snapshot (unknown product, or product beyond the size
+ * limit) fall through to the database.
+ *
+ * Each read-only copy is built with a {@link PriceGrid} for the configured layout, so the
+ * grid is rebuilt whenever a new version is published.
+ */
+@Primary
+@Component
+public class CachedPriceBookRepositoryAdapter implements PriceBookRepository {
+    private static final Logger logger = LoggerFactory.getLogger(CachedPriceBookRepositoryAdapter.class);
+
+    private final PriceBookRepositoryAdapter delegate;
+    private final PriceBookJpaRepository repository;
+    private final PriceBookMapper mapper;
+    private final boolean enabled;
+    private final int maxEntries;
+    private final PriceGrid.Layout priceGridLayout;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private volatile Fingerprint loadedFingerprint;
+
+    public CachedPriceBookRepositoryAdapter(
+            PriceBookRepositoryAdapter delegate,
+            PriceBookJpaRepository repository,
+            PriceBookMapper mapper,
+            @Value("${pricing.price-book-cache.enabled:true}") boolean enabled,
+            @Value("${pricing.price-book-cache.max-entries:10000}") int maxEntries,
+            PriceGrid.Layout priceGridLayout) {
+        this.delegate = delegate;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.priceGridLayout = priceGridLayout;
+    }
+
+    @Override
+    public Optional<PriceBook> findActiveByProductTemplateId(String productTemplateId) {
+        PriceBook cached = snapshot.get().byProduct().get(productTemplateId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return delegate.findActiveByProductTemplateId(productTemplateId);
+    }
+
+    @Override
+    public PriceBook save(PriceBook priceBook) {
+        return delegate.save(priceBook);
+    }
+
+    /**
+     * Loads the full ACTIVE snapshot once the application context is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    /**
+     * Refreshes the published product after the publishing transaction commits. Runs before
+     * other listeners, such as the quote cache warmer, so they see the new price book.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookPublished(PriceBookPublishedEvent event) {
+        refreshProduct(event.getProductTemplateId());
+    }
+
+    /**
+     * Reloads the whole snapshot once after a bulk import is published, instead of one
+     * refresh per imported product.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookImportPublished(PriceBookImportPublishedEvent event) {
+        reload();
+    }
+
+    /**
+     * Reloads the snapshot when another instance has published or archived a price book
+     * since the last load.
+     */
+    @Scheduled(
+        fixedDelayString = "${pricing.price-book-cache.refresh-interval-ms:30000}",
+        initialDelayString = "${pricing.price-book-cache.refresh-interval-ms:30000}")
+    public void scheduledRefresh() {
+        if (!enabled) {
+            return;
+        }
+        if (!fingerprint().equals(loadedFingerprint)) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        // Taken before loading, so changes committed during the load trigger the next poll
+        Fingerprint fingerprint = fingerprint();
+        List<UUID> ids = repository.findIdsByStatus(PriceBookStatus.ACTIVE, PageRequest.of(0, maxEntries));
+        Map<String, PriceBook> byProduct = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (PriceBookJpaEntity entity : repository.findByIdIn(ids)) {
+                if (!byProduct.containsKey(entity.getProductTemplateId())) {
+                    byProduct.put(entity.getProductTemplateId(), snapshotEntry(mapper.toDomain(entity)));
+                }
+            }
+        }
+        swap(byProduct, "LOADED", "ALL");
+        loadedFingerprint = fingerprint;
+    }
+
+    public synchronized void refreshProduct(String productTemplateId) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, PriceBook> byProduct = new HashMap<>(snapshot.get().byProduct());
+        Optional<PriceBook> active = delegate.findActiveByProductTemplateId(productTemplateId);
+        if (active.isEmpty()) {
+            byProduct.remove(productTemplateId);
+        } else if (byProduct.containsKey(productTemplateId) || byProduct.size() < maxEntries) {
+            byProduct.put(productTemplateId, snapshotEntry(active.get()));
+        }
+        swap(byProduct, "REFRESHED", productTemplateId);
+    }
+
+    private PriceBook snapshotEntry(PriceBook priceBook) {
+        return priceBook.readOnlyCopy(PriceGrid.build(priceBook, priceGridLayout));
+    }
+
+    private Fingerprint fingerprint() {
+        return new Fingerprint(
+            repository.countByStatus(PriceBookStatus.ACTIVE),
+            repository.findLastUpdatedAt().orElse(null));
+    }
+
+    long generation() {
+        return snapshot.get().generation();
+    }
+
+    int size() {
+        return snapshot.get().byProduct().size();
+    }
+
+    private void swap(Map<String, PriceBook> byProduct, String decision, String scope) {
+        Snapshot next = new Snapshot(snapshot.get().generation() + 1, Map.copyOf(byProduct));
+        snapshot.set(next);
+        long gridded = next.byProduct().values().stream().filter(priceBook -> priceBook.getPriceGrid() != null).count();
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=PRICEBOOK_SNAPSHOT] "
+                + "eventType=CACHE_SWAP decision={} keyValues=scope={},generation={},size={},max_entries={},price_grids={}",
+            decision, LogSanitizer.sanitize(scope), next.generation(), next.byProduct().size(), maxEntries, gridded);
+    }
+
+    private record Fingerprint(long activeCount, Instant lastUpdatedAt) {
+    }
+
+    private record Snapshot(long generation, Map<String, PriceBook> byProduct) {
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of());
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.application.port.out.TaxRuleRepository;
+import com.kanokna.pricing.domain.model.TaxRule;
+import com.kanokna.pricing.domain.model.TaxRuleTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory tax rule table in front of {@link TaxRuleRepositoryAdapter}.
+ *
+ * The table holds every tax rule, including ones that take effect in the future, so a rate
+ * change stored ahead of time applies at its effective date without a reload. It is reloaded
+ * after a rule is saved and on a fixed interval to pick up changes made by other instances.
+ * Until the first load completes, lookups go to the database.
+ */
+@Primary
+@Component
+public class CachedTaxRuleRepositoryAdapter implements TaxRuleRepository {
+    private static final Logger logger = LoggerFactory.getLogger(CachedTaxRuleRepositoryAdapter.class);
+
+    private final TaxRuleRepositoryAdapter delegate;
+    private final boolean enabled;
+    private final AtomicReference<TaxRuleTable> table = new AtomicReference<>();
+
+    public CachedTaxRuleRepositoryAdapter(
+            TaxRuleRepositoryAdapter delegate,
+            @Value("${pricing.tax-rules.cache.enabled:true}") boolean enabled) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Optional<TaxRule> findByRegion(String region) {
+        return findByRegion(region, Instant.now());
+    }
+
+    Optional<TaxRule> findByRegion(String region, Instant now) {
+        TaxRuleTable current = table.get();
+        if (!enabled || current == null) {
+            return delegate.findByRegion(region);
+        }
+        return current.find(region, now);
+    }
+
+    @Override
+    public TaxRule save(TaxRule taxRule) {
+        TaxRule saved = delegate.save(taxRule);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reload();
+                }
+            });
+        } else {
+            reload();
+        }
+        return saved;
+    }
+
+    /**
+     * Loads the table once the application context is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${pricing.tax-rules.cache.refresh-interval-ms:300000}",
+        initialDelayString = "${pricing.tax-rules.cache.refresh-interval-ms:300000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    public synchronized void reload() {
+        if (!enabled) {
+            return;
+        }
+        TaxRuleTable next = TaxRuleTable.of(delegate.findAll());
+        table.set(next);
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-07][STATE=TAX_RULES] "
+                + "eventType=CACHE_SWAP decision=LOADED keyValues=rules={},regions={}",
+            next.size(), next.regionCount());
+    }
+}
@@ -9,4 +9,6 @@ import java.util.UUID;
 
 public interface CampaignJpaRepository extends JpaRepository<CampaignJpaEntity, UUID> {
     List<CampaignJpaEntity> findByStatusAndStartDateBeforeAndEndDateAfter(CampaignStatus status, Instant now, Instant now2);
+
+    List<CampaignJpaEntity> findByStatusAndEndDateAfter(CampaignStatus status, Instant now);
 }
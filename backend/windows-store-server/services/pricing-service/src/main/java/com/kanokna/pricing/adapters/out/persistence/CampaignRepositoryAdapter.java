@@ -38,6 +38,16 @@ public class CampaignRepositoryAdapter implements CampaignRepository {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Loads ACTIVE campaigns that have not ended yet, including those whose window starts later.
+     */
+    public List<Campaign> findActiveEndingAfter(Instant now) {
+        return repository.findByStatusAndEndDateAfter(CampaignStatus.ACTIVE, now)
+            .stream()
+            .map(this::toDomain)
+            .collect(Collectors.toList());
+    }
+
     @Override
     public Campaign save(Campaign campaign) {
         CampaignJpaEntity entity = toEntity(campaign);
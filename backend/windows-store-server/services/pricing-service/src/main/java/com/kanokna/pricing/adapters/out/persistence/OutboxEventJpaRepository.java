@@ -0,0 +1,21 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    /**
+     * Locks the oldest events for relaying; rows locked by another instance are skipped.
+     */
+    @Query(value = "select * from pricing.event_outbox order by id limit :limit for update skip locked",
+        nativeQuery = true)
+    List<OutboxEventJpaEntity> lockNextBatch(@Param("limit") int limit);
+
+    @Query("select min(e.createdAt) from OutboxEventJpaEntity e")
+    Instant findOldestCreatedAt();
+}
@@ -0,0 +1,173 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.application.port.out.PriceBookImportRepository;
+import com.kanokna.pricing.domain.exception.PriceBookImportNotFoundException;
+import com.kanokna.pricing.domain.model.OptionPremium;
+import com.kanokna.pricing.domain.model.PriceBook;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC adapter for bulk price book imports.
+ *
+ * Drafts bypass JPA: each batch is written with two batched INSERTs (price books, then
+ * premiums), so an import costs a few round trips per batch instead of one persist per row.
+ * With {@code reWriteBatchedInserts=true} on the JDBC URL the driver folds each batch into
+ * multi-row INSERT statements.
+ *
+ * Publishing is set based: replaced ACTIVE rows are archived and the import's drafts are
+ * activated with one UPDATE each, while the import row is locked so concurrent publishes of
+ * the same import serialize.
+ */
+@Component
+public class PriceBookImportRepositoryAdapter implements PriceBookImportRepository {
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final String VALIDATED = "VALIDATED";
+    private static final String FAILED = "FAILED";
+    private static final String PUBLISHED = "PUBLISHED";
+
+    private static final String INSERT_PRICE_BOOK = """
+        INSERT INTO pricing.price_books (id, product_template_id, currency, price_per_m2, minimum_area_m2,
+            minimum_charge, status, version, created_at, created_by, updated_at, import_id)
+        VALUES (?, ?, ?, ?, ?, ?, 'DRAFT', 0, ?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_PREMIUM = """
+        INSERT INTO pricing.option_premiums (id, price_book_id, option_id, option_name, premium_type, amount, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String NEXT_VERSION = """
+        SELECT COALESCE(MAX(pb.version), 0) + 1
+        FROM pricing.price_books pb
+        WHERE pb.product_template_id IN (
+            SELECT d.product_template_id FROM pricing.price_books d WHERE d.import_id = ?)
+        """;
+
+    private static final String ARCHIVE_REPLACED = """
+        UPDATE pricing.price_books pb
+        SET status = 'ARCHIVED', updated_at = NOW()
+        WHERE pb.status = 'ACTIVE'
+          AND EXISTS (
+            SELECT 1 FROM pricing.price_books d
+            WHERE d.import_id = ?
+              AND d.product_template_id = pb.product_template_id
+              AND d.currency = pb.currency)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PriceBookImportRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public UUID start(String createdBy) {
+        UUID importId = UUID.randomUUID();
+        jdbcTemplate.update(
+            "INSERT INTO pricing.price_book_imports (id, status, created_by) VALUES (?, ?, ?)",
+            importId, IN_PROGRESS, createdBy);
+        return importId;
+    }
+
+    @Override
+    @Transactional
+    public void insertDrafts(UUID importId, List<PriceBook> priceBooks) {
+        List<Object[]> bookRows = new ArrayList<>(priceBooks.size());
+        List<Object[]> premiumRows = new ArrayList<>();
+        for (PriceBook priceBook : priceBooks) {
+            UUID priceBookId = priceBook.getId().getValue();
+            Timestamp createdAt = Timestamp.from(priceBook.getCreatedAt());
+            bookRows.add(new Object[] {
+                priceBookId,
+                priceBook.getProductTemplateId(),
+                priceBook.getCurrency(),
+                priceBook.getBasePriceEntry().getPricePerM2(),
+                priceBook.getBasePriceEntry().getMinimumAreaM2(),
+                priceBook.getBasePriceEntry().getMinimumCharge() != null
+                    ? priceBook.getBasePriceEntry().getMinimumCharge().getAmount()
+                    : null,
+                createdAt,
+                priceBook.getCreatedBy(),
+                Timestamp.from(priceBook.getUpdatedAt()),
+                importId
+            });
+            for (OptionPremium premium : priceBook.getOptionPremiums()) {
+                premiumRows.add(new Object[] {
+                    UUID.randomUUID(),
+                    priceBookId,
+                    premium.getOptionId(),
+                    premium.getOptionName(),
+                    premium.getPremiumType().name(),
+                    premium.getAmount(),
+                    createdAt
+                });
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRICE_BOOK, bookRows);
+        if (!premiumRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PREMIUM, premiumRows);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markValidated(UUID importId, int priceBookCount, int premiumCount) {
+        jdbcTemplate.update("""
+            UPDATE pricing.price_book_imports
+            SET status = ?, price_book_count = ?, premium_count = ?
+            WHERE id = ?
+            """, VALIDATED, priceBookCount, premiumCount, importId);
+    }
+
+    @Override
+    @Transactional
+    public void discard(UUID importId) {
+        jdbcTemplate.update("""
+            DELETE FROM pricing.option_premiums
+            WHERE price_book_id IN (SELECT id FROM pricing.price_books WHERE import_id = ? AND status = 'DRAFT')
+            """, importId);
+        jdbcTemplate.update("DELETE FROM pricing.price_books WHERE import_id = ? AND status = 'DRAFT'", importId);
+        jdbcTemplate.update("UPDATE pricing.price_book_imports SET status = ? WHERE id = ?", FAILED, importId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Publication publish(UUID importId, String publishedBy) {
+        List<String> status = jdbcTemplate.queryForList(
+            "SELECT status FROM pricing.price_book_imports WHERE id = ? FOR UPDATE", String.class, importId);
+        if (status.isEmpty()) {
+            throw new PriceBookImportNotFoundException(importId);
+        }
+        if (!VALIDATED.equals(status.get(0))) {
+            throw new IllegalStateException("Only VALIDATED imports can be published, import "
+                + importId + " is " + status.get(0));
+        }
+
+        long version = jdbcTemplate.queryForObject(NEXT_VERSION, Long.class, importId);
+        jdbcTemplate.update(ARCHIVE_REPLACED, importId);
+        int activated = jdbcTemplate.update("""
+            UPDATE pricing.price_books
+            SET status = 'ACTIVE', version = ?, updated_at = NOW()
+            WHERE import_id = ? AND status = 'DRAFT'
+            """, version, importId);
+        jdbcTemplate.update("""
+            UPDATE pricing.price_book_imports
+            SET status = ?, version = ?, published_at = NOW(), published_by = ?
+            WHERE id = ?
+            """, PUBLISHED, version, publishedBy, importId);
+
+        List<String> productTemplateIds = jdbcTemplate.queryForList(
+            "SELECT DISTINCT product_template_id FROM pricing.price_books WHERE import_id = ? ORDER BY 1",
+            String.class, importId);
+        return new Publication(version, activated, productTemplateIds);
+    }
+}
@@ -1,13 +1,31 @@
 package com.kanokna.pricing.adapters.out.persistence;
 
 import com.kanokna.pricing.domain.model.PriceBookStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PriceBookJpaRepository extends JpaRepository<PriceBookJpaEntity, UUID> {
     @EntityGraph(attributePaths = "optionPremiums")
     Optional<PriceBookJpaEntity> findFirstByProductTemplateIdAndStatus(String productTemplateId, PriceBookStatus status);
+
+    @Query("select p.id from PriceBookJpaEntity p where p.status = :status "
+        + "order by p.productTemplateId asc, p.currency asc")
+    List<UUID> findIdsByStatus(@Param("status") PriceBookStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "optionPremiums")
+    List<PriceBookJpaEntity> findByIdIn(Collection<UUID> ids);
+
+    long countByStatus(PriceBookStatus status);
+
+    @Query("select max(p.updatedAt) from PriceBookJpaEntity p")
+    Optional<Instant> findLastUpdatedAt();
 }
@@ -1,10 +1,19 @@
 package com.kanokna.pricing.adapters.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface PromoCodeJpaRepository extends JpaRepository<PromoCodeJpaEntity, UUID> {
     Optional<PromoCodeJpaEntity> findByCodeIgnoreCase(String code);
+
+    @Modifying
+    @Transactional
+    @Query("update PromoCodeJpaEntity p set p.usageCount = :usageCount where p.id = :id and p.usageCount < :usageCount")
+    int raiseUsageCount(@Param("id") UUID id, @Param("usageCount") int usageCount);
 }
@@ -30,6 +30,11 @@ public class PromoCodeRepositoryAdapter implements PromoCodeRepository {
         return toDomain(repository.save(toEntity(promoCode)));
     }
 
+    @Override
+    public void recordUsageCount(PromoCodeId id, int usageCount) {
+        repository.raiseUsageCount(id.getValue(), usageCount);
+    }
+
     private PromoCode toDomain(PromoCodeJpaEntity entity) {
         Money maxDiscount = entity.getMaxDiscount() != null
             ? Money.of(entity.getMaxDiscount(), DEFAULT_CURRENCY)
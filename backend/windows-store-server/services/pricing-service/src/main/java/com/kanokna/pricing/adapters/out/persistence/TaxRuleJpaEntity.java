@@ -12,7 +12,7 @@ public class TaxRuleJpaEntity {
     @Id
     private UUID id;
 
-    @Column(name = "region", nullable = false, length = 10, unique = true)
+    @Column(name = "region", nullable = false, length = 10)
     private String region;
 
     @Column(name = "region_name", nullable = false, length = 100)
@@ -30,6 +30,12 @@ public class TaxRuleJpaEntity {
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
+    @Column(name = "effective_from")
+    private Instant effectiveFrom;
+
+    @Column(name = "effective_to")
+    private Instant effectiveTo;
+
     protected TaxRuleJpaEntity() {
     }
 
@@ -88,4 +94,20 @@ public class TaxRuleJpaEntity {
     public void setCreatedAt(Instant createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Instant getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public void setEffectiveFrom(Instant effectiveFrom) {
+        this.effectiveFrom = effectiveFrom;
+    }
+
+    public Instant getEffectiveTo() {
+        return effectiveTo;
+    }
+
+    public void setEffectiveTo(Instant effectiveTo) {
+        this.effectiveTo = effectiveTo;
+    }
 }
@@ -2,9 +2,9 @@ package com.kanokna.pricing.adapters.out.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 
 public interface TaxRuleJpaRepository extends JpaRepository<TaxRuleJpaEntity, UUID> {
-    Optional<TaxRuleJpaEntity> findByRegionIgnoreCase(String region);
+    List<TaxRuleJpaEntity> findByRegionIgnoreCase(String region);
 }
@@ -4,7 +4,10 @@ import org.springframework.stereotype.Component;
 import com.kanokna.pricing.application.port.out.TaxRuleRepository;
 import com.kanokna.pricing.domain.model.TaxRule;
 import com.kanokna.pricing.domain.model.TaxRuleId;
+import com.kanokna.pricing.domain.model.TaxRuleTable;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,8 +23,20 @@ public class TaxRuleRepositoryAdapter implements TaxRuleRepository {
 
     @Override
     public Optional<TaxRule> findByRegion(String region) {
-        return repository.findByRegionIgnoreCase(region)
-            .map(this::toDomain);
+        String normalized = TaxRule.normalizeRegion(region);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        List<TaxRule> rules = repository.findByRegionIgnoreCase(normalized).stream()
+            .map(this::toDomain)
+            .toList();
+        return TaxRuleTable.of(rules).find(normalized, Instant.now());
+    }
+
+    public List<TaxRule> findAll() {
+        return repository.findAll().stream()
+            .map(this::toDomain)
+            .toList();
     }
 
     @Override
@@ -37,7 +52,9 @@ public class TaxRuleRepositoryAdapter implements TaxRuleRepository {
             entity.getTaxRatePercent(),
             entity.getTaxType(),
             entity.isActive(),
-            entity.getCreatedAt()
+            entity.getCreatedAt(),
+            entity.getEffectiveFrom(),
+            entity.getEffectiveTo()
         );
     }
 
@@ -50,6 +67,8 @@ public class TaxRuleRepositoryAdapter implements TaxRuleRepository {
         entity.setTaxType(taxRule.getTaxType());
         entity.setActive(taxRule.isActive());
         entity.setCreatedAt(taxRule.getCreatedAt());
+        entity.setEffectiveFrom(taxRule.getEffectiveFrom());
+        entity.setEffectiveTo(taxRule.getEffectiveTo());
         return entity;
     }
 }
@@ -0,0 +1,148 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.kanokna.pricing.application.port.out.QuoteCache;
+import com.kanokna.pricing.application.port.out.QuoteCacheKey;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import com.kanokna.pricing.domain.event.PriceBookPublishedEvent;
+import com.kanokna.pricing.domain.model.Quote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Two-tier quote cache: a bounded in-process near-cache in front of {@link QuoteRedisCache}.
+ *
+ * Local entries are keyed by the same {@link QuoteCacheKey} as Redis, which covers the
+ * price-book id and version, so a newly published price-book version never reads an entry
+ * computed against the previous one. Entries of published products are also dropped eagerly
+ * on {@link PriceBookPublishedEvent} and {@link PriceBookImportPublishedEvent} to release
+ * memory. Local TTL is kept short because other instances may still write to Redis for the
+ * same key.
+ *
+ * Exports {@code pricing.quote.cache.requests} (tags tier, result) for the local and Redis
+ * tiers, and {@code pricing.quote.cache.evictions} (tag tier) for entries removed from the
+ * local tier by size, expiry or publish. Redis entries are invalidated by bumping the
+ * product generation rather than deleted, so the Redis tier has no eviction count.
+ */
+@Primary
+@Component
+public class NearQuoteCache implements QuoteCache {
+    private static final String TIER_LOCAL = "local";
+    private static final String TIER_REDIS = "redis";
+
+    private final QuoteRedisCache delegate;
+    private final boolean enabled;
+    private final Cache<QuoteCacheKey, Quote> local;
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter localEvictions;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public NearQuoteCache(
+            QuoteRedisCache delegate,
+            MeterRegistry meterRegistry,
+            @Value("${pricing.quote.near-cache.enabled:true}") boolean enabled,
+            @Value("${pricing.quote.near-cache.max-entries:20000}") long maxEntries,
+            @Value("${pricing.quote.near-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.localHits = requests(meterRegistry, TIER_LOCAL, "hit");
+        this.localMisses = requests(meterRegistry, TIER_LOCAL, "miss");
+        this.localEvictions = Counter.builder("pricing.quote.cache.evictions")
+            .tag("tier", TIER_LOCAL)
+            .register(meterRegistry);
+        this.redisHits = requests(meterRegistry, TIER_REDIS, "hit");
+        this.redisMisses = requests(meterRegistry, TIER_REDIS, "miss");
+        this.local = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .executor(Runnable::run)
+            .removalListener((QuoteCacheKey key, Quote quote, RemovalCause cause) -> {
+                if (cause != RemovalCause.REPLACED) {
+                    localEvictions.increment();
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public Optional<Quote> get(QuoteCacheKey key) {
+        if (enabled) {
+            Quote quote = local.getIfPresent(key);
+            if (quote != null && !quote.isExpired()) {
+                localHits.increment();
+                return Optional.of(quote);
+            }
+            localMisses.increment();
+        }
+
+        Optional<Quote> remote = delegate.get(key);
+        if (remote.isPresent()) {
+            redisHits.increment();
+            if (enabled && !remote.get().isExpired()) {
+                local.put(key, remote.get());
+            }
+        } else {
+            redisMisses.increment();
+        }
+        return remote;
+    }
+
+    @Override
+    public void put(QuoteCacheKey key, Quote quote, int ttlMinutes) {
+        delegate.put(key, quote, ttlMinutes);
+        if (enabled) {
+            local.put(key, quote);
+        }
+    }
+
+    @Override
+    public void evictByProductTemplateId(String productTemplateId) {
+        evictLocal(productTemplateId);
+        delegate.evictByProductTemplateId(productTemplateId);
+    }
+
+    /**
+     * Drops local entries of the published product once the publishing transaction commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookPublished(PriceBookPublishedEvent event) {
+        evictLocal(event.getProductTemplateId());
+    }
+
+    /**
+     * Drops local entries of every product of a published import in one pass.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookImportPublished(PriceBookImportPublishedEvent event) {
+        Set<String> products = Set.copyOf(event.getProductTemplateIds());
+        local.asMap().keySet().removeIf(key -> products.contains(key.productTemplateId()));
+    }
+
+    long localSize() {
+        local.cleanUp();
+        return local.estimatedSize();
+    }
+
+    private void evictLocal(String productTemplateId) {
+        local.asMap().keySet().removeIf(key -> key.productTemplateId().equals(productTemplateId));
+    }
+
+    private static Counter requests(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("pricing.quote.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .register(registry);
+    }
+}
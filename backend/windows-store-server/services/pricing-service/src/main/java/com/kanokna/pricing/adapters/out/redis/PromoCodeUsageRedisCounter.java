@@ -0,0 +1,107 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.application.port.out.PromoCodeRepository;
+import com.kanokna.pricing.application.port.out.PromoCodeUsageCounter;
+import com.kanokna.pricing.domain.model.PromoCode;
+import com.kanokna.pricing.domain.model.PromoCodeId;
+import com.kanokna.shared.logging.LogSanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis adapter for promo code usage counting.
+ *
+ * Each promo code has a counter at {@code promo:usage:<promoCodeId>}. A Lua script checks the
+ * usage limit and increments the counter in one atomic step, so concurrent quotes never contend
+ * on the promo code row. A missing counter is seeded from the usage count loaded from the
+ * database and expires one day after the promo code ends. Counters touched since the last run
+ * are written back to the database on a fixed interval; the write only ever raises the stored
+ * count. If Redis is unavailable the use is allowed and only the database limit check applies.
+ */
+@Component
+public class PromoCodeUsageRedisCounter implements PromoCodeUsageCounter {
+    private static final Logger logger = LoggerFactory.getLogger(PromoCodeUsageRedisCounter.class);
+    private static final String USAGE_PREFIX = "promo:usage:";
+    private static final long LIMIT_REACHED = -1L;
+    private static final long UNLIMITED = -1L;
+    private static final Duration RETENTION_AFTER_END = Duration.ofDays(1);
+
+    // KEYS[1] counter; ARGV[1] limit (-1 = unlimited), ARGV[2] seed count, ARGV[3] expiry epoch millis
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if not current then
+          redis.call('SET', KEYS[1], ARGV[2], 'PXAT', ARGV[3])
+          current = ARGV[2]
+        end
+        local limit = tonumber(ARGV[1])
+        if limit >= 0 and tonumber(current) >= limit then
+          return -1
+        end
+        return redis.call('INCR', KEYS[1])
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PromoCodeRepository promoCodeRepository;
+    private final Set<PromoCodeId> pending = ConcurrentHashMap.newKeySet();
+
+    public PromoCodeUsageRedisCounter(StringRedisTemplate redisTemplate, PromoCodeRepository promoCodeRepository) {
+        this.redisTemplate = redisTemplate;
+        this.promoCodeRepository = promoCodeRepository;
+    }
+
+    @Override
+    public boolean tryAcquire(PromoCode promoCode) {
+        long limit = promoCode.getUsageLimit() != null ? promoCode.getUsageLimit() : UNLIMITED;
+        long expiresAt = promoCode.getEndDate().plus(RETENTION_AFTER_END).toEpochMilli();
+        Long result;
+        try {
+            result = redisTemplate.execute(ACQUIRE, List.of(key(promoCode.getId())),
+                Long.toString(limit), Integer.toString(promoCode.getUsageCount()), Long.toString(expiresAt));
+        } catch (RuntimeException ex) {
+            logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-05][STATE=PROMO_USAGE] "
+                    + "eventType=PROMO_USAGE decision=COUNTER_UNAVAILABLE keyValues=promoCode={}",
+                LogSanitizer.sanitize(promoCode.getCode()), ex);
+            return true;
+        }
+        if (result == null || result == LIMIT_REACHED) {
+            return false;
+        }
+        pending.add(promoCode.getId());
+        return true;
+    }
+
+    /**
+     * Writes the counters touched since the last run back to the database.
+     */
+    @Scheduled(fixedDelayString = "${pricing.promo-usage.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        for (PromoCodeId id : List.copyOf(pending)) {
+            pending.remove(id);
+            try {
+                String count = redisTemplate.opsForValue().get(key(id));
+                if (count != null) {
+                    promoCodeRepository.recordUsageCount(id, Integer.parseInt(count));
+                }
+            } catch (RuntimeException ex) {
+                pending.add(id);
+                logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-05][STATE=PROMO_USAGE] "
+                        + "eventType=PROMO_USAGE decision=RECONCILE_FAILED keyValues=promoCodeId={}",
+                    id.getValue(), ex);
+            }
+        }
+    }
+
+    private static String key(PromoCodeId id) {
+        return USAGE_PREFIX + id.getValue();
+    }
+}
@@ -0,0 +1,227 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.PremiumLine;
+import com.kanokna.pricing.domain.model.PricingDecision;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding of {@link Quote} for the Redis cache.
+ *
+ * Layout (format 2): format byte, quote id as two longs, product template id, currency,
+ * five amounts, valid-until seconds/nanos, premium lines, decision trace. Amounts are written
+ * as (scale, unscaled long) so values round-trip exactly without BigDecimal text parsing.
+ * Deferred trace steps are stored as their format and typed arguments and come back deferred,
+ * so neither caching nor reading a quote renders its trace. Format 1 stored rendered trace
+ * text and is still decoded. JSON entries written before format 1 start with '{' and are
+ * recognised by {@link #isBinary}.
+ */
+final class QuoteBinaryCodec {
+    static final byte FORMAT_V1 = 1;
+    static final byte FORMAT_V2 = 2;
+
+    private static final byte FIXED_RESULT = -1;
+    private static final byte ARG_DECIMAL = 'D';
+    private static final byte ARG_DECIMAL_TEXT = 'd';
+    private static final byte ARG_INT = 'I';
+    private static final byte ARG_LONG = 'J';
+    private static final byte ARG_TEXT = 'S';
+
+    private QuoteBinaryCodec() {
+    }
+
+    static boolean isBinary(byte[] bytes) {
+        return bytes.length > 0 && (bytes[0] == FORMAT_V1 || bytes[0] == FORMAT_V2);
+    }
+
+    /**
+     * @throws IllegalArgumentException if an amount does not fit the compact representation
+     */
+    static byte[] encode(Quote quote) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_V2);
+            UUID quoteId = quote.getQuoteId().getValue();
+            out.writeLong(quoteId.getMostSignificantBits());
+            out.writeLong(quoteId.getLeastSignificantBits());
+            out.writeUTF(quote.getProductTemplateId());
+            out.writeUTF(quote.getTotal().getCurrency());
+            writeAmount(out, quote.getBasePrice());
+            writeAmount(out, quote.getDiscount());
+            writeAmount(out, quote.getSubtotal());
+            writeAmount(out, quote.getTax());
+            writeAmount(out, quote.getTotal());
+            out.writeLong(quote.getValidUntil().getEpochSecond());
+            out.writeInt(quote.getValidUntil().getNano());
+
+            out.writeShort(quote.getOptionPremiums().size());
+            for (PremiumLine line : quote.getOptionPremiums()) {
+                out.writeUTF(line.getOptionId());
+                out.writeUTF(line.getOptionName());
+                writeAmount(out, line.getAmount());
+            }
+
+            out.writeShort(quote.getDecisionTrace().size());
+            for (PricingDecision decision : quote.getDecisionTrace()) {
+                writeDecision(out, decision);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    static Quote decode(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte format = in.readByte();
+            if (format != FORMAT_V1 && format != FORMAT_V2) {
+                throw new IllegalArgumentException("Unsupported quote cache format: " + format);
+            }
+            QuoteId quoteId = QuoteId.of(new UUID(in.readLong(), in.readLong()));
+            String productTemplateId = in.readUTF();
+            String currency = in.readUTF();
+            Money basePrice = readAmount(in, currency);
+            Money discount = readAmount(in, currency);
+            Money subtotal = readAmount(in, currency);
+            Money tax = readAmount(in, currency);
+            Money total = readAmount(in, currency);
+            Instant validUntil = Instant.ofEpochSecond(in.readLong(), in.readInt());
+
+            int premiumCount = in.readUnsignedShort();
+            List<PremiumLine> premiums = new ArrayList<>(premiumCount);
+            for (int i = 0; i < premiumCount; i++) {
+                premiums.add(PremiumLine.of(in.readUTF(), in.readUTF(), readAmount(in, currency)));
+            }
+
+            int decisionCount = in.readUnsignedShort();
+            List<PricingDecision> decisions = new ArrayList<>(decisionCount);
+            for (int i = 0; i < decisionCount; i++) {
+                decisions.add(format == FORMAT_V1
+                    ? PricingDecision.of(in.readUTF(), in.readUTF(), in.readUTF())
+                    : readDecision(in));
+            }
+
+            return Quote.builder()
+                .quoteId(quoteId)
+                .productTemplateId(productTemplateId)
+                .basePrice(basePrice)
+                .optionPremiums(premiums)
+                .discount(discount)
+                .subtotal(subtotal)
+                .tax(tax)
+                .total(total)
+                .validUntil(validUntil)
+                .decisionTrace(decisions)
+                .build();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeDecision(DataOutputStream out, PricingDecision decision) throws IOException {
+        out.writeUTF(decision.getStep());
+        out.writeUTF(decision.getRuleApplied());
+        if (!decision.isDeferred()) {
+            out.writeByte(FIXED_RESULT);
+            out.writeUTF(decision.getResult());
+            return;
+        }
+        out.writeByte(decision.getArgumentCount());
+        out.writeUTF(decision.getFormat());
+        for (int i = 0; i < decision.getArgumentCount(); i++) {
+            writeArgument(out, decision.getArgument(i));
+        }
+    }
+
+    private static PricingDecision readDecision(DataInputStream in) throws IOException {
+        String step = in.readUTF();
+        String ruleApplied = in.readUTF();
+        int argumentCount = in.readByte();
+        if (argumentCount == FIXED_RESULT) {
+            return PricingDecision.of(step, ruleApplied, in.readUTF());
+        }
+        String format = in.readUTF();
+        List<Object> arguments = new ArrayList<>(argumentCount);
+        for (int i = 0; i < argumentCount; i++) {
+            arguments.add(readArgument(in));
+        }
+        return PricingDecision.restore(step, ruleApplied, format, arguments);
+    }
+
+    /**
+     * Numbers keep their type for %d and plain BigDecimal rendering; anything else is only
+     * ever rendered with %s, so its string value is stored.
+     */
+    private static void writeArgument(DataOutputStream out, Object argument) throws IOException {
+        if (argument instanceof BigDecimal decimal) {
+            if (fitsCompact(decimal)) {
+                out.writeByte(ARG_DECIMAL);
+                out.writeByte(decimal.scale());
+                out.writeLong(decimal.unscaledValue().longValue());
+            } else {
+                out.writeByte(ARG_DECIMAL_TEXT);
+                out.writeUTF(decimal.toString());
+            }
+        } else if (argument instanceof Integer value) {
+            out.writeByte(ARG_INT);
+            out.writeInt(value);
+        } else if (argument instanceof Long value) {
+            out.writeByte(ARG_LONG);
+            out.writeLong(value);
+        } else {
+            out.writeByte(ARG_TEXT);
+            out.writeUTF(String.valueOf(argument));
+        }
+    }
+
+    private static Object readArgument(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case ARG_DECIMAL:
+                int scale = in.readByte();
+                return BigDecimal.valueOf(in.readLong(), scale);
+            case ARG_DECIMAL_TEXT:
+                return new BigDecimal(in.readUTF());
+            case ARG_INT:
+                return in.readInt();
+            case ARG_LONG:
+                return in.readLong();
+            case ARG_TEXT:
+                return in.readUTF();
+            default:
+                throw new IllegalArgumentException("Unknown trace argument type: " + type);
+        }
+    }
+
+    private static boolean fitsCompact(BigDecimal amount) {
+        return amount.unscaledValue().bitLength() <= 63
+            && amount.scale() >= Byte.MIN_VALUE && amount.scale() <= Byte.MAX_VALUE;
+    }
+
+    private static void writeAmount(DataOutputStream out, Money money) throws IOException {
+        BigDecimal amount = money.getAmount();
+        if (!fitsCompact(amount)) {
+            throw new IllegalArgumentException("Amount does not fit compact encoding: " + amount);
+        }
+        out.writeByte(amount.scale());
+        out.writeLong(amount.unscaledValue().longValue());
+    }
+
+    private static Money readAmount(DataInputStream in, String currency) throws IOException {
+        int scale = in.readByte();
+        return Money.of(BigDecimal.valueOf(in.readLong(), scale), currency);
+    }
+}
@@ -1,43 +1,88 @@
 package com.kanokna.pricing.adapters.out.redis;
 
 import org.springframework.stereotype.Component;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
 import com.kanokna.pricing.application.port.out.QuoteCache;
+import com.kanokna.pricing.application.port.out.QuoteCacheKey;
 import com.kanokna.pricing.domain.model.*;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Redis cache adapter for quotes.
+ *
+ * Product entries live under a per-product generation stored at {@code quote:gen:<productTemplateId>},
+ * at {@code quote:product:<productTemplateId>:g<generation>:<hash>}.
+ * Eviction increments the generation, which makes every older entry unreachable in O(1);
+ * the orphaned keys are reaped by their TTL, so no keyspace scan is needed. Reads and writes
+ * resolve the generation inside a Lua script, so each costs one round trip; the scripts build
+ * the entry key server-side, which requires a standalone Redis (or both keys in one slot).
+ *
+ * Entries are written with {@link QuoteBinaryCodec}; JSON entries from earlier releases are
+ * still decoded. The {@code quote:id:} key holds the product entry key rather than a copy.
+ * Failed writes are counted in {@code pricing.quote.cache.put.failures}; the quote is still
+ * returned to the caller.
  */
 @Component
 public class QuoteRedisCache implements QuoteCache {
+    private static final String PRODUCT_PREFIX = "quote:product:";
     private static final String QUOTE_ID_PREFIX = "quote:id:";
+    private static final String GENERATION_PREFIX = "quote:gen:";
+
+    /**
+     * KEYS: generation key. ARGV: entry key before and after the generation.
+     */
+    private static final RedisScript<byte[]> GET_ENTRY = new DefaultRedisScript<>("""
+        local generation = redis.call('GET', KEYS[1]) or '0'
+        return redis.call('GET', ARGV[1] .. generation .. ARGV[2])
+        """, byte[].class);
+
+    /**
+     * KEYS: generation key, quote id key. ARGV: entry key before and after the generation,
+     * encoded quote, TTL in seconds.
+     */
+    private static final RedisScript<byte[]> PUT_ENTRY = new DefaultRedisScript<>("""
+        local entryKey = ARGV[1] .. (redis.call('GET', KEYS[1]) or '0') .. ARGV[2]
+        redis.call('SET', entryKey, ARGV[3], 'EX', ARGV[4])
+        redis.call('SET', KEYS[2], entryKey, 'EX', ARGV[4])
+        return entryKey
+        """, byte[].class);
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
+    private final Counter putFailures;
 
-    public QuoteRedisCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+    public QuoteRedisCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.putFailures = Counter.builder("pricing.quote.cache.put.failures").register(meterRegistry);
     }
 
     @Override
-    public Optional<Quote> get(PriceBook priceBook, CalculateQuoteCommand command) {
-        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command);
-        String json = redisTemplate.opsForValue().get(key.value());
-        if (json == null) {
+    public Optional<Quote> get(QuoteCacheKey key) {
+        byte[] value = redisTemplate.execute(GET_ENTRY, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+            List.of(GENERATION_PREFIX + key.productTemplateId()),
+            utf8(entryKeyPrefix(key)), utf8(entryKeySuffix(key)));
+        if (value == null || value.length == 0) {
             return Optional.empty();
         }
         try {
-            QuoteCacheEntry entry = objectMapper.readValue(json, QuoteCacheEntry.class);
+            if (QuoteBinaryCodec.isBinary(value)) {
+                return Optional.of(QuoteBinaryCodec.decode(value));
+            }
+            QuoteCacheEntry entry = objectMapper.readValue(value, QuoteCacheEntry.class);
             return Optional.of(entry.toDomain());
         } catch (Exception ex) {
             return Optional.empty();
@@ -45,25 +90,48 @@ public class QuoteRedisCache implements QuoteCache {
     }
 
     @Override
-    public void put(PriceBook priceBook, CalculateQuoteCommand command, Quote quote, int ttlMinutes) {
-        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command);
-        QuoteCacheEntry entry = QuoteCacheEntry.fromDomain(quote);
+    public void put(QuoteCacheKey key, Quote quote, int ttlMinutes) {
         try {
-            String json = objectMapper.writeValueAsString(entry);
-            redisTemplate.opsForValue().set(key.value(), json, ttlMinutes, TimeUnit.MINUTES);
-            redisTemplate.opsForValue().set(QUOTE_ID_PREFIX + quote.getQuoteId(), json, ttlMinutes, TimeUnit.MINUTES);
-        } catch (Exception ignored) {
+            // The quote id key only references the product entry, so the trace is stored once
+            redisTemplate.execute(PUT_ENTRY, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                List.of(GENERATION_PREFIX + key.productTemplateId(), QUOTE_ID_PREFIX + quote.getQuoteId()),
+                utf8(entryKeyPrefix(key)), utf8(entryKeySuffix(key)), encode(quote),
+                utf8(Long.toString(ttlMinutes * 60L)));
+        } catch (Exception ex) {
+            putFailures.increment();
         }
     }
 
     @Override
     public void evictByProductTemplateId(String productTemplateId) {
-        String pattern = "quote:product:" + productTemplateId + ":*";
-        var keys = redisTemplate.keys(pattern);
-        if (keys == null || keys.isEmpty()) {
-            return;
+        redisTemplate.opsForValue().increment(GENERATION_PREFIX + productTemplateId);
+    }
+
+    /**
+     * Redis key of the entry within the given product generation.
+     */
+    static String entryKey(QuoteCacheKey key, long generation) {
+        return entryKeyPrefix(key) + generation + entryKeySuffix(key);
+    }
+
+    private static String entryKeyPrefix(QuoteCacheKey key) {
+        return PRODUCT_PREFIX + key.productTemplateId() + ":g";
+    }
+
+    private static String entryKeySuffix(QuoteCacheKey key) {
+        return ":" + key.hash();
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] encode(Quote quote) throws JsonProcessingException {
+        try {
+            return QuoteBinaryCodec.encode(quote);
+        } catch (IllegalArgumentException ex) {
+            return objectMapper.writeValueAsBytes(QuoteCacheEntry.fromDomain(quote));
         }
-        redisTemplate.delete(keys);
     }
 
     private static class QuoteCacheEntry {
@@ -15,6 +15,7 @@ public class CalculateQuoteCommand {
     private String currency;
     private String promoCode;
     private String region;
+    private boolean includeTrace;
 
     public String getProductTemplateId() {
         return productTemplateId;
@@ -73,11 +74,18 @@ public class CalculateQuoteCommand {
     }
 
     public String getRegion() {
-        return region != null ? region : "RU";
+        return region;
     }
 
     public void setRegion(String region) {
         this.region = region;
     }
-}
 
+    public boolean isIncludeTrace() {
+        return includeTrace;
+    }
+
+    public void setIncludeTrace(boolean includeTrace) {
+        this.includeTrace = includeTrace;
+    }
+}
@@ -0,0 +1,123 @@
+package com.kanokna.pricing.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Command DTO for calculating price quotes for several configurations
+ * sharing currency, promo code and region.
+ */
+public class CalculateQuotesCommand {
+    private List<Item> items;
+    private String currency;
+    private String promoCode;
+    private String region;
+    private boolean includeTrace;
+
+    public List<Item> getItems() {
+        return items != null ? items : List.of();
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public String getPromoCode() {
+        return promoCode;
+    }
+
+    public void setPromoCode(String promoCode) {
+        this.promoCode = promoCode;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public boolean isIncludeTrace() {
+        return includeTrace;
+    }
+
+    public void setIncludeTrace(boolean includeTrace) {
+        this.includeTrace = includeTrace;
+    }
+
+    /**
+     * Builds the single-quote command for an item, carrying the shared batch fields.
+     */
+    public CalculateQuoteCommand toQuoteCommand(Item item) {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId(item.getProductTemplateId());
+        command.setWidthCm(item.getWidthCm());
+        command.setHeightCm(item.getHeightCm());
+        command.setResolvedBom(item.getResolvedBom());
+        command.setCurrency(currency);
+        command.setPromoCode(promoCode);
+        command.setRegion(getRegion());
+        command.setIncludeTrace(includeTrace);
+        return command;
+    }
+
+    /**
+     * A single configuration within the batch.
+     */
+    public static class Item {
+        private String itemId;
+        private String productTemplateId;
+        private BigDecimal widthCm;
+        private BigDecimal heightCm;
+        private List<String> resolvedBom;
+
+        public String getItemId() {
+            return itemId;
+        }
+
+        public void setItemId(String itemId) {
+            this.itemId = itemId;
+        }
+
+        public String getProductTemplateId() {
+            return productTemplateId;
+        }
+
+        public void setProductTemplateId(String productTemplateId) {
+            this.productTemplateId = productTemplateId;
+        }
+
+        public BigDecimal getWidthCm() {
+            return widthCm;
+        }
+
+        public void setWidthCm(BigDecimal widthCm) {
+            this.widthCm = widthCm;
+        }
+
+        public BigDecimal getHeightCm() {
+            return heightCm;
+        }
+
+        public void setHeightCm(BigDecimal heightCm) {
+            this.heightCm = heightCm;
+        }
+
+        public List<String> getResolvedBom() {
+            return resolvedBom;
+        }
+
+        public void setResolvedBom(List<String> resolvedBom) {
+            this.resolvedBom = resolvedBom;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.kanokna.pricing.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result DTO of a bulk price book import or its publication.
+ * Errors are reported per CSV line and only for FAILED imports.
+ */
+public class PriceBookImportResult {
+    public enum Status {
+        VALIDATED,
+        FAILED,
+        PUBLISHED
+    }
+
+    private final UUID importId;
+    private final Status status;
+    private final int priceBookCount;
+    private final int premiumCount;
+    private final Long version;
+    private final List<LineError> errors;
+
+    public PriceBookImportResult(UUID importId, Status status, int priceBookCount, int premiumCount,
+                                 Long version, List<LineError> errors) {
+        this.importId = importId;
+        this.status = status;
+        this.priceBookCount = priceBookCount;
+        this.premiumCount = premiumCount;
+        this.version = version;
+        this.errors = List.copyOf(errors);
+    }
+
+    public static PriceBookImportResult validated(UUID importId, int priceBookCount, int premiumCount) {
+        return new PriceBookImportResult(importId, Status.VALIDATED, priceBookCount, premiumCount, null, List.of());
+    }
+
+    public static PriceBookImportResult failed(UUID importId, List<LineError> errors) {
+        return new PriceBookImportResult(importId, Status.FAILED, 0, 0, null, errors);
+    }
+
+    public static PriceBookImportResult published(UUID importId, int priceBookCount, long version) {
+        return new PriceBookImportResult(importId, Status.PUBLISHED, priceBookCount, 0, version, List.of());
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getPriceBookCount() {
+        return priceBookCount;
+    }
+
+    public int getPremiumCount() {
+        return premiumCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public record LineError(long line, String message) {
+    }
+}
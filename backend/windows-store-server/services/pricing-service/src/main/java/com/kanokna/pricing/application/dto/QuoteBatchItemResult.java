@@ -0,0 +1,47 @@
+package com.kanokna.pricing.application.dto;
+
+/**
+ * Result DTO for a single item of a batch quote calculation.
+ * Holds either a quote or an error code/message, never both.
+ */
+public class QuoteBatchItemResult {
+    private final String itemId;
+    private final QuoteResponse quote;
+    private final String errorCode;
+    private final String errorMessage;
+
+    public QuoteBatchItemResult(String itemId, QuoteResponse quote, String errorCode, String errorMessage) {
+        this.itemId = itemId;
+        this.quote = quote;
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage;
+    }
+
+    public static QuoteBatchItemResult success(String itemId, QuoteResponse quote) {
+        return new QuoteBatchItemResult(itemId, quote, null, null);
+    }
+
+    public static QuoteBatchItemResult failure(String itemId, String errorCode, String errorMessage) {
+        return new QuoteBatchItemResult(itemId, null, errorCode, errorMessage);
+    }
+
+    public boolean isSuccess() {
+        return quote != null;
+    }
+
+    public String getItemId() {
+        return itemId;
+    }
+
+    public QuoteResponse getQuote() {
+        return quote;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
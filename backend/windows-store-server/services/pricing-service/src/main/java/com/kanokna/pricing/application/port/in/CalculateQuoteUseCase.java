@@ -1,12 +1,27 @@
 package com.kanokna.pricing.application.port.in;
 
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.dto.CalculateQuotesCommand;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
 import com.kanokna.pricing.application.dto.QuoteResponse;
 
+import java.util.List;
+
 /**
  * Inbound port for calculating price quotes.
  */
 public interface CalculateQuoteUseCase {
     QuoteResponse calculateQuote(CalculateQuoteCommand command);
-}
 
+    /**
+     * Calculates quotes for several items in one call. Results follow the item order;
+     * a failing item yields an error result without failing the rest of the batch.
+     */
+    List<QuoteBatchItemResult> calculateQuotes(CalculateQuotesCommand command);
+
+    /**
+     * Opens a quote session sharing promo code and region. Price books, campaigns, promo code
+     * and tax rule are resolved on first use and reused for every quote of the session.
+     */
+    QuoteSession openSession(String promoCode, String region);
+}
@@ -0,0 +1,23 @@
+package com.kanokna.pricing.application.port.in;
+
+import com.kanokna.pricing.application.dto.PriceBookImportResult;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Inbound port for bulk price book import and publishing (admin operation).
+ */
+public interface ImportPriceBooksUseCase {
+    /**
+     * Reads price books and premiums from CSV and stores them as drafts of a new import.
+     * The import is rejected as a whole if any row is invalid.
+     */
+    PriceBookImportResult importPriceBooks(InputStream csv, String importedBy);
+
+    /**
+     * Makes every draft of a validated import active in one transaction, archiving the
+     * price books they replace.
+     */
+    PriceBookImportResult publishImport(UUID importId, String publishedBy);
+}
@@ -0,0 +1,18 @@
+package com.kanokna.pricing.application.port.in;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
+
+/**
+ * Quote session opened by {@link CalculateQuoteUseCase#openSession}.
+ *
+ * Lookups are resolved once for the whole session, so a session should be short-lived and
+ * reopened to pick up newly published price books or campaigns. Not thread-safe.
+ */
+@FunctionalInterface
+public interface QuoteSession {
+    /**
+     * Calculates one quote; a failure is returned as an error result for {@code itemId}.
+     */
+    QuoteBatchItemResult calculateQuote(String itemId, CalculateQuoteCommand command);
+}
@@ -0,0 +1,38 @@
+package com.kanokna.pricing.application.port.out;
+
+import com.kanokna.pricing.domain.model.PriceBook;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbound port for bulk price book imports. Drafts are written in batches outside the
+ * aggregate save path; publishing switches the whole import at once.
+ */
+public interface PriceBookImportRepository {
+    UUID start(String createdBy);
+
+    /**
+     * Writes DRAFT price books and their premiums for the import.
+     */
+    void insertDrafts(UUID importId, List<PriceBook> priceBooks);
+
+    void markValidated(UUID importId, int priceBookCount, int premiumCount);
+
+    /**
+     * Deletes the drafts written so far and marks the import as failed.
+     */
+    void discard(UUID importId);
+
+    /**
+     * Archives the ACTIVE price books replaced by the import and activates its drafts with
+     * one shared version number. Must run inside the caller's transaction.
+     *
+     * @throws com.kanokna.pricing.domain.exception.PriceBookImportNotFoundException if the import does not exist
+     * @throws IllegalStateException if the import is not VALIDATED
+     */
+    Publication publish(UUID importId, String publishedBy);
+
+    record Publication(long version, int priceBookCount, List<String> productTemplateIds) {
+    }
+}
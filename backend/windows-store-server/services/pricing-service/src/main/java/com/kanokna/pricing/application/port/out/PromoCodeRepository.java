@@ -1,6 +1,7 @@
 package com.kanokna.pricing.application.port.out;
 
 import com.kanokna.pricing.domain.model.PromoCode;
+import com.kanokna.pricing.domain.model.PromoCodeId;
 import java.util.Optional;
 
 /**
@@ -10,4 +11,9 @@ public interface PromoCodeRepository {
     Optional<PromoCode> findByCode(String code);
 
     PromoCode save(PromoCode promoCode);
+
+    /**
+     * Raises the stored usage count to {@code usageCount}; a lower value leaves it unchanged.
+     */
+    void recordUsageCount(PromoCodeId id, int usageCount);
 }
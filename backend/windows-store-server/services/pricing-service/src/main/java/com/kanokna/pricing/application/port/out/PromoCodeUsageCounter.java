@@ -0,0 +1,15 @@
+package com.kanokna.pricing.application.port.out;
+
+import com.kanokna.pricing.domain.model.PromoCode;
+
+/**
+ * Outbound port for atomic promo code usage counting.
+ */
+public interface PromoCodeUsageCounter {
+    /**
+     * Records one use of the promo code unless its usage limit has been reached.
+     *
+     * @return {@code true} if the use was recorded, {@code false} if the limit was reached
+     */
+    boolean tryAcquire(PromoCode promoCode);
+}
@@ -0,0 +1,262 @@
+package com.kanokna.pricing.application.port.out;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.domain.model.PriceBook;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Identity of a cached quote, computed once per quote request and passed to every
+ * {@link QuoteCache} call of that request.
+ *
+ * The hash is MurmurHash3 x64/128 over the key fields: product template, price-book id and
+ * version, width and height without trailing zeros, the sorted resolved BOM, currency, promo code (trimmed,
+ * upper-cased) and region. Strings are length-prefixed, so adjacent fields cannot run into
+ * each other. The fields are fed to the hash directly, without building a joined string.
+ *
+ * Collisions: for n distinct configurations the chance of any two sharing a hash is about
+ * n^2 / 2^129, i.e. below 10^-20 for a billion keys, far smaller than the chance of a stale
+ * entry from an eviction race. The hash is not cryptographic; crafted collisions are out of
+ * scope because quote requests come from internal services that build the BOM from catalog
+ * data, and every key also embeds the product template id in clear text.
+ */
+public final class QuoteCacheKey {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String productTemplateId;
+    private final long high;
+    private final long low;
+    private String hex;
+
+    private QuoteCacheKey(String productTemplateId, long high, long low) {
+        this.productTemplateId = productTemplateId;
+        this.high = high;
+        this.low = low;
+    }
+
+    public static QuoteCacheKey from(PriceBook priceBook, CalculateQuoteCommand command) {
+        Murmur3 hash = new Murmur3();
+        hash.putString(command.getProductTemplateId());
+        UUID priceBookId = priceBook.getId().getValue();
+        hash.putLong(priceBookId.getMostSignificantBits());
+        hash.putLong(priceBookId.getLeastSignificantBits());
+        hash.putLong(priceBook.getVersion());
+        hash.putDecimal(command.getWidthCm());
+        hash.putDecimal(command.getHeightCm());
+        putOptions(hash, command.getResolvedBom());
+        hash.putString(command.getCurrency());
+        hash.putPromoCode(command.getPromoCode());
+        hash.putString(command.getRegion());
+        hash.finish();
+        return new QuoteCacheKey(command.getProductTemplateId(), hash.h1, hash.h2);
+    }
+
+    public String productTemplateId() {
+        return productTemplateId;
+    }
+
+    /**
+     * @return the 128-bit hash as 32 lower-case hex characters
+     */
+    public String hash() {
+        String value = hex;
+        if (value == null) {
+            char[] chars = new char[32];
+            writeHex(chars, 0, high);
+            writeHex(chars, 16, low);
+            value = new String(chars);
+            hex = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof QuoteCacheKey key)) {
+            return false;
+        }
+        return high == key.high && low == key.low && productTemplateId.equals(key.productTemplateId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(high ^ low);
+    }
+
+    @Override
+    public String toString() {
+        return productTemplateId + ":" + hash();
+    }
+
+    private static void putOptions(Murmur3 hash, List<String> options) {
+        if (options == null || options.isEmpty()) {
+            hash.putLong(0);
+            return;
+        }
+        hash.putLong(options.size());
+        if (isSorted(options)) {
+            for (String option : options) {
+                hash.putString(option);
+            }
+            return;
+        }
+        String[] sorted = options.toArray(new String[0]);
+        Arrays.sort(sorted);
+        for (String option : sorted) {
+            hash.putString(option);
+        }
+    }
+
+    private static boolean isSorted(List<String> options) {
+        for (int i = 1; i < options.size(); i++) {
+            if (options.get(i - 1).compareTo(options.get(i)) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeHex(char[] chars, int offset, long value) {
+        for (int i = 15; i >= 0; i--) {
+            chars[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * Streaming MurmurHash3 x64/128 (seed 0) over a sequence of 64-bit words.
+     */
+    private static final class Murmur3 {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1;
+        private long h2;
+        private long pending;
+        private boolean hasPending;
+        private long length;
+
+        void putLong(long value) {
+            length += Long.BYTES;
+            if (!hasPending) {
+                pending = value;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+            h1 ^= mixK1(pending);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(value);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        void putString(String value) {
+            if (value == null) {
+                putLong(-1);
+                return;
+            }
+            int length = value.length();
+            putLong(length);
+            for (int i = 0; i < length; i += 4) {
+                putLong(pack(value, i, Math.min(i + 4, length), false));
+            }
+        }
+
+        /**
+         * Hashes the code as {@code code.trim().toUpperCase()} would, without allocating.
+         */
+        void putPromoCode(String code) {
+            if (code == null) {
+                putString("");
+                return;
+            }
+            int start = 0;
+            int end = code.length();
+            while (start < end && code.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && code.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            putLong(end - start);
+            for (int i = start; i < end; i += 4) {
+                putLong(pack(code, i, Math.min(i + 4, end), true));
+            }
+        }
+
+        void putDecimal(BigDecimal value) {
+            if (value == null) {
+                putLong(-1);
+                return;
+            }
+            // 100.0 and 100 describe the same window, so they hash alike
+            if (value.unscaledValue().bitLength() < Long.SIZE) {
+                long unscaled = value.unscaledValue().longValue();
+                int scale = value.scale();
+                while (scale > 0 && unscaled % 10 == 0) {
+                    unscaled /= 10;
+                    scale--;
+                }
+                putLong(scale);
+                putLong(unscaled);
+            } else {
+                putString(value.stripTrailingZeros().toPlainString());
+            }
+        }
+
+        void finish() {
+            if (hasPending) {
+                h1 ^= mixK1(pending);
+                hasPending = false;
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+        }
+
+        private static long pack(String value, int from, int to, boolean upperCase) {
+            long word = 0;
+            for (int i = from; i < to; i++) {
+                char c = value.charAt(i);
+                word = (word << 16) | (upperCase ? Character.toUpperCase(c) : c);
+            }
+            return word;
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9e53a4ed85bL;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
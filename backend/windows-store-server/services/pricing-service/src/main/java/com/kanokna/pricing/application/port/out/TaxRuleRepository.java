@@ -7,6 +7,9 @@ import java.util.Optional;
  * Outbound port for tax rule persistence.
  */
 public interface TaxRuleRepository {
+    /**
+     * @return the rule in effect now for the region, matched case-insensitively
+     */
     Optional<TaxRule> findByRegion(String region);
 
     TaxRule save(TaxRule taxRule);
@@ -0,0 +1,85 @@
+package com.kanokna.pricing.application.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Line-at-a-time CSV reader for price book imports. Fields are comma separated and may be
+ * enclosed in double quotes, with {@code ""} for a literal quote; quoted fields cannot span
+ * lines. Blank lines and lines starting with {@code #} are skipped.
+ */
+final class PriceBookCsvReader implements Closeable {
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    PriceBookCsvReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the next row, or {@code null} at end of input
+     * @throws IllegalArgumentException if a quoted field is not closed; the row is consumed
+     */
+    Row next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank() && !line.startsWith("#")) {
+                return new Row(lineNumber, split(line));
+            }
+        }
+        return null;
+    }
+
+    long lineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    record Row(long line, List<String> fields) {
+        String field(int index) {
+            return index < fields.size() ? fields.get(index) : "";
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.PriceBookImportResult;
+import com.kanokna.pricing.application.dto.PriceBookImportResult.LineError;
+import com.kanokna.pricing.application.port.in.ImportPriceBooksUseCase;
+import com.kanokna.pricing.application.port.out.PriceBookImportRepository;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.OptionPremium;
+import com.kanokna.pricing.domain.model.PremiumType;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import com.kanokna.shared.core.DomainException;
+import com.kanokna.shared.logging.LogSanitizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/* <FUNCTION_CONTRACT id="FC-pricing-service-UC-PRICING-ADMIN-MANAGE-importPriceBooks"
+     LAYER="application.service"
+     INTENT="Stream a CSV of price books into DRAFT rows of one import, validating line by line"
+     INPUT="CSV stream, importedBy (String)"
+     OUTPUT="PriceBookImportResult (VALIDATED with counts, or FAILED with line errors)"
+     SIDE_EFFECTS="Writes DRAFT price books and premiums in batches; deletes them again on failure"
+     LINKS="RequirementsAnalysis.xml#UC-PRICING-ADMIN-MANAGE">
+  <PRECONDITIONS>
+    <Item>PREMIUM rows directly follow the PRICE_BOOK row they belong to</Item>
+  </PRECONDITIONS>
+
+  <POSTCONDITIONS>
+    <Item>VALIDATED imports hold every price book of the file as DRAFT; nothing is visible to quotes yet</Item>
+    <Item>FAILED imports leave no draft rows behind</Item>
+  </POSTCONDITIONS>
+
+  <BLOCK_ANCHORS>
+    <Item id="BA-PRC-IMPORT-01">Parse and validate rows</Item>
+    <Item id="BA-PRC-IMPORT-02">Write draft batch</Item>
+    <Item id="BA-PRC-IMPORT-03">Complete or discard import</Item>
+  </BLOCK_ANCHORS>
+</FUNCTION_CONTRACT> */
+
+/* <FUNCTION_CONTRACT id="FC-pricing-service-UC-PRICING-ADMIN-MANAGE-publishImport"
+     LAYER="application.service"
+     INTENT="Make all price books of a validated import ACTIVE in one transaction"
+     INPUT="importId (UUID), publishedBy (String)"
+     OUTPUT="PriceBookImportResult (PUBLISHED with the shared version)"
+     SIDE_EFFECTS="Archives replaced ACTIVE price books; emits one PriceBookImportPublishedEvent"
+     LINKS="RequirementsAnalysis.xml#UC-PRICING-ADMIN-MANAGE">
+  <ERROR_HANDLING>
+    <Item type="BUSINESS" code="ERR-PRC-NO-IMPORT">Import does not exist</Item>
+  </ERROR_HANDLING>
+
+  <BLOCK_ANCHORS>
+    <Item id="BA-PRC-IMPORT-04">Switch drafts to ACTIVE</Item>
+    <Item id="BA-PRC-IMPORT-05">Emit invalidation event</Item>
+  </BLOCK_ANCHORS>
+</FUNCTION_CONTRACT> */
+
+/**
+ * Bulk price book import.
+ *
+ * Rows are read one at a time and only the current batch of price books is held in memory.
+ * The file format is:
+ * <pre>
+ * PRICE_BOOK,productTemplateId,currency,pricePerM2[,minimumAreaM2[,minimumCharge]]
+ * PREMIUM,productTemplateId,optionId,optionName,ABSOLUTE|PERCENTAGE,amount
+ * </pre>
+ * PREMIUM rows belong to the PRICE_BOOK row above them. A header row starting with
+ * {@code type} is ignored. Validation continues after an error so one upload reports up to
+ * the configured number of errors; once an error is found no further batches are written.
+ */
+@Service
+public class PriceBookImportService implements ImportPriceBooksUseCase {
+    private static final Logger logger = LoggerFactory.getLogger(PriceBookImportService.class);
+
+    private static final String PRICE_BOOK = "PRICE_BOOK";
+    private static final String PREMIUM = "PREMIUM";
+
+    private final PriceBookImportRepository importRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public PriceBookImportService(
+            PriceBookImportRepository importRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${pricing.price-book-import.batch-size:500}") int batchSize,
+            @Value("${pricing.price-book-import.max-errors:100}") int maxErrors) {
+        this.importRepository = importRepository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public PriceBookImportResult importPriceBooks(InputStream csv, String importedBy) {
+        UUID importId = importRepository.start(importedBy);
+        ImportState state = new ImportState(importId, importedBy);
+
+        // BA-PRC-IMPORT-01: Parse and validate rows
+        try (PriceBookCsvReader reader = new PriceBookCsvReader(csv)) {
+            while (state.errors.size() < maxErrors) {
+                PriceBookCsvReader.Row row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException ex) {
+                    state.error(reader.lineNumber(), ex.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                try {
+                    accept(state, row);
+                } catch (DomainException | IllegalArgumentException ex) {
+                    state.error(row.line(), ex.getMessage());
+                }
+            }
+        } catch (IOException ex) {
+            importRepository.discard(importId);
+            throw new UncheckedIOException("Failed to read price book import " + importId, ex);
+        } catch (RuntimeException ex) {
+            importRepository.discard(importId);
+            throw ex;
+        }
+
+        // BA-PRC-IMPORT-03: Complete or discard import
+        if (state.errors.isEmpty() && state.priceBookCount == 0) {
+            state.error(0, "Import contains no price books");
+        }
+        if (!state.errors.isEmpty()) {
+            importRepository.discard(importId);
+            logger.warn("[SVC=pricing-service][UC=UC-PRICING-ADMIN-MANAGE][BLOCK=BA-PRC-IMPORT-03][STATE=DISCARD] "
+                    + "eventType=PRICE_BOOK_IMPORT decision=FAILED keyValues=importId={},errors={},firstLine={}",
+                importId, state.errors.size(), state.errors.get(0).line());
+            return PriceBookImportResult.failed(importId, state.errors);
+        }
+        flush(state);
+        importRepository.markValidated(importId, state.priceBookCount, state.premiumCount);
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-ADMIN-MANAGE][BLOCK=BA-PRC-IMPORT-03][STATE=VALIDATED] "
+                + "eventType=PRICE_BOOK_IMPORT decision=VALIDATED keyValues=importId={},priceBooks={},premiums={},by={}",
+            importId, state.priceBookCount, state.premiumCount, LogSanitizer.sanitize(importedBy));
+        return PriceBookImportResult.validated(importId, state.priceBookCount, state.premiumCount);
+    }
+
+    @Override
+    @Transactional
+    public PriceBookImportResult publishImport(UUID importId, String publishedBy) {
+        // BA-PRC-IMPORT-04: Switch drafts to ACTIVE
+        PriceBookImportRepository.Publication publication = importRepository.publish(importId, publishedBy);
+
+        // BA-PRC-IMPORT-05: Emit invalidation event
+        eventPublisher.publishEvent(PriceBookImportPublishedEvent.of(
+            importId, publication.productTemplateIds(), publication.version(), publishedBy));
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-ADMIN-MANAGE][BLOCK=BA-PRC-IMPORT-05][STATE=PUBLISHED] "
+                + "eventType=PRICE_BOOK_IMPORT decision=PUBLISHED keyValues=importId={},version={},priceBooks={},products={},by={}",
+            importId, publication.version(), publication.priceBookCount(), publication.productTemplateIds().size(),
+            LogSanitizer.sanitize(publishedBy));
+        return PriceBookImportResult.published(importId, publication.priceBookCount(), publication.version());
+    }
+
+    private void accept(ImportState state, PriceBookCsvReader.Row row) {
+        String type = row.field(0).toUpperCase(Locale.ROOT);
+        boolean first = !state.started;
+        state.started = true;
+        if (first && type.equals("TYPE")) {
+            return;
+        }
+        switch (type) {
+            case PRICE_BOOK -> acceptPriceBook(state, row);
+            case PREMIUM -> acceptPremium(state, row);
+            default -> throw new IllegalArgumentException("Unknown row type: " + row.field(0));
+        }
+    }
+
+    private void acceptPriceBook(ImportState state, PriceBookCsvReader.Row row) {
+        String productTemplateId = required(row, 1, "productTemplateId");
+        String currency = required(row, 2, "currency").toUpperCase(Locale.ROOT);
+        if (currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code: " + currency);
+        }
+        BigDecimal pricePerM2 = decimal(row, 3, "pricePerM2");
+        BigDecimal minimumArea = row.field(4).isEmpty() ? null : decimal(row, 4, "minimumAreaM2");
+        Money minimumCharge = row.field(5).isEmpty() ? null : Money.of(decimal(row, 5, "minimumCharge"), currency);
+        state.last = null;
+        if (!state.products.add(productTemplateId + "/" + currency)) {
+            throw new IllegalArgumentException("Duplicate price book for " + productTemplateId + " in " + currency);
+        }
+
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), productTemplateId, currency,
+            BasePriceEntry.of(productTemplateId, pricePerM2, minimumArea, minimumCharge), state.importedBy);
+        // The previous price book has all its premiums once the next one starts
+        if (state.batch.size() >= batchSize) {
+            flush(state);
+        }
+        state.batch.add(priceBook);
+        state.last = priceBook;
+        state.priceBookCount++;
+    }
+
+    private void acceptPremium(ImportState state, PriceBookCsvReader.Row row) {
+        String productTemplateId = required(row, 1, "productTemplateId");
+        String optionId = required(row, 2, "optionId");
+        String optionName = required(row, 3, "optionName");
+        String premiumType = required(row, 4, "premiumType").toUpperCase(Locale.ROOT);
+        BigDecimal amount = decimal(row, 5, "amount");
+
+        PriceBook priceBook = state.last;
+        if (priceBook == null || !priceBook.getProductTemplateId().equals(productTemplateId)) {
+            throw new IllegalArgumentException("Premium for " + productTemplateId + " does not follow its price book row");
+        }
+        if (priceBook.findPremiumForOption(optionId).isPresent()) {
+            throw new IllegalArgumentException("Duplicate premium for option " + optionId);
+        }
+        OptionPremium premium = switch (premiumType(premiumType)) {
+            case ABSOLUTE -> OptionPremium.absolute(optionId, optionName, Money.of(amount, priceBook.getCurrency()));
+            case PERCENTAGE -> OptionPremium.percentage(optionId, optionName, amount);
+        };
+        priceBook.addOptionPremium(premium);
+        state.premiumCount++;
+    }
+
+    /**
+     * Writes the pending batch unless an error has already doomed the import.
+     */
+    private void flush(ImportState state) {
+        if (state.batch.isEmpty() || !state.errors.isEmpty()) {
+            return;
+        }
+        // BA-PRC-IMPORT-02: Write draft batch
+        importRepository.insertDrafts(state.importId, state.batch);
+        logger.debug("[SVC=pricing-service][UC=UC-PRICING-ADMIN-MANAGE][BLOCK=BA-PRC-IMPORT-02][STATE=BATCH] "
+                + "eventType=PRICE_BOOK_IMPORT decision=WRITTEN keyValues=importId={},batch={},total={}",
+            state.importId, state.batch.size(), state.priceBookCount);
+        state.batch = new ArrayList<>();
+    }
+
+    private static String required(PriceBookCsvReader.Row row, int index, String name) {
+        String value = row.field(index);
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Missing " + name);
+        }
+        return value;
+    }
+
+    private static PremiumType premiumType(String value) {
+        try {
+            return PremiumType.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid premiumType: " + value);
+        }
+    }
+
+    private static BigDecimal decimal(PriceBookCsvReader.Row row, int index, String name) {
+        String value = required(row, index, name);
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static final class ImportState {
+        private final UUID importId;
+        private final String importedBy;
+        private final Set<String> products = new HashSet<>();
+        private final List<LineError> errors = new ArrayList<>();
+        private List<PriceBook> batch = new ArrayList<>();
+        private PriceBook last;
+        private boolean started;
+        private int priceBookCount;
+        private int premiumCount;
+
+        private ImportState(UUID importId, String importedBy) {
+            this.importId = importId;
+            this.importedBy = importedBy;
+        }
+
+        private void error(long line, String message) {
+            errors.add(new LineError(line, message));
+        }
+    }
+}
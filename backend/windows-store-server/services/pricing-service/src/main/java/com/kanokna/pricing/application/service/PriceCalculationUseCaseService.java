@@ -2,6 +2,7 @@ package com.kanokna.pricing.application.service;
 
 import com.kanokna.pricing.application.dto.*;
 import com.kanokna.pricing.application.port.in.CalculateQuoteUseCase;
+import com.kanokna.pricing.application.port.in.QuoteSession;
 import com.kanokna.pricing.application.port.in.ValidatePromoCodeUseCase;
 import com.kanokna.pricing.application.port.out.*;
 import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
@@ -10,16 +11,24 @@ import com.kanokna.pricing.domain.exception.PriceBookNotFoundException;
 import com.kanokna.pricing.domain.exception.TaxRuleNotFoundException;
 import com.kanokna.pricing.domain.model.*;
 import com.kanokna.pricing.domain.service.PriceCalculationService;
+import com.kanokna.shared.core.DomainException;
 import com.kanokna.shared.logging.LogSanitizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /* <FUNCTION_CONTRACT id="FC-pricing-service-UC-PRICING-QUOTE-validatePromoCode"
@@ -69,74 +78,201 @@ import java.util.stream.Collectors;
  * LINKS="RequirementsAnalysis.xml#UC-PRICING-QUOTE;Technology.xml#DEC-PRICING-ENGINE"
  *
  * Application service implementing price calculation use cases. Coordinates
- * domain services with infrastructure via ports.
+ * domain services with infrastructure via ports. Quotes are computed in read-only
+ * transactions, which may be served by a read replica. The outbox event is the only
+ * database write; it is collected during the calculation and written in a short write
+ * transaction once the read-only one has completed, so a quote never holds two pooled
+ * connections. A batch writes the events of all its items in one such transaction. Quote
+ * sessions outlive the call that opened them, so each session quote gets its own pair.
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class PriceCalculationUseCaseService implements CalculateQuoteUseCase, ValidatePromoCodeUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(PriceCalculationUseCaseService.class);
+    // Own logger, so rendering every step of every quote stays off while the package logs at DEBUG
+    private static final Logger traceLogger = LoggerFactory.getLogger("com.kanokna.pricing.decision-trace");
 
     private final PriceBookRepository priceBookRepository;
     private final CampaignRepository campaignRepository;
     private final PromoCodeRepository promoCodeRepository;
-    private final TaxRuleRepository taxRuleRepository;
+    private final PromoCodeUsageCounter promoCodeUsageCounter;
+    private final TaxRuleResolver taxRuleResolver;
     private final QuoteCache quoteCache;
     private final EventPublisher eventPublisher;
     private final PriceCalculationService priceCalculationService;
+    private final QuoteDemandTracker demandTracker;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
     private final int quoteTtlMinutes;
 
     public PriceCalculationUseCaseService(
             PriceBookRepository priceBookRepository,
             CampaignRepository campaignRepository,
             PromoCodeRepository promoCodeRepository,
-            TaxRuleRepository taxRuleRepository,
+            PromoCodeUsageCounter promoCodeUsageCounter,
+            TaxRuleResolver taxRuleResolver,
             QuoteCache quoteCache,
             EventPublisher eventPublisher,
             PriceCalculationService priceCalculationService,
+            QuoteDemandTracker demandTracker,
+            PlatformTransactionManager transactionManager,
             @Value("${pricing.quote.cache-ttl-minutes:5}") int quoteTtlMinutes) {
         this.priceBookRepository = priceBookRepository;
         this.campaignRepository = campaignRepository;
         this.promoCodeRepository = promoCodeRepository;
-        this.taxRuleRepository = taxRuleRepository;
+        this.promoCodeUsageCounter = promoCodeUsageCounter;
+        this.taxRuleResolver = taxRuleResolver;
         this.quoteCache = quoteCache;
         this.eventPublisher = eventPublisher;
         this.priceCalculationService = priceCalculationService;
+        this.demandTracker = demandTracker;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
         this.quoteTtlMinutes = quoteTtlMinutes;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public QuoteResponse calculateQuote(CalculateQuoteCommand command) {
-        PriceBook priceBook = priceBookRepository
-                .findActiveByProductTemplateId(command.getProductTemplateId())
-                .orElseThrow(() -> {
-                    logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=LOAD_PRICEBOOK] "
-                            + "eventType=PRICING_STEP decision=NOT_FOUND keyValues=productTemplateId={},priceBookId=NONE",
-                            LogSanitizer.sanitize(command.getProductTemplateId()));
-                    return new PriceBookNotFoundException(command.getProductTemplateId());
-                });
+        command.setRegion(taxRuleResolver.normalizeRegion(command.getRegion()));
+        List<QuoteCalculatedEvent> events = new ArrayList<>(1);
+        Quote quote = readOnlyTransaction.execute(status -> quote(command, events));
+        publish(events);
+        return mapToResponse(quote, command.isIncludeTrace());
+    }
 
-        Optional<Quote> cachedQuote = quoteCache.get(priceBook, command);
+    private Quote quote(CalculateQuoteCommand command, List<QuoteCalculatedEvent> events) {
+        PriceBook priceBook = loadPriceBook(command.getProductTemplateId());
+        demandTracker.record(command);
+
+        QuoteCacheKey cacheKey = QuoteCacheKey.from(priceBook, command);
+        Optional<Quote> cachedQuote = quoteCache.get(cacheKey);
         if (cachedQuote.isPresent() && !cachedQuote.get().isExpired()) {
             logDecisionTrace(cachedQuote.get());
-            return mapToResponse(cachedQuote.get());
+            return cachedQuote.get();
         }
 
         List<Campaign> campaigns = campaignRepository
                 .findActiveForProduct(command.getProductTemplateId());
 
-        PromoCode promoCode = null;
-        if (command.getPromoCode() != null && !command.getPromoCode().isBlank()) {
-            promoCode = promoCodeRepository.findByCode(command.getPromoCode())
-                    .orElseThrow(() -> {
-                        logPromoDecision(command.getPromoCode(), "INVALID");
-                        return new InvalidPromoCodeException(command.getPromoCode(), "Promo code not found");
-                    });
+        PromoCode promoCode = loadPromoCode(command.getPromoCode());
+
+        TaxRule taxRule = taxRuleResolver.resolve(command.getRegion());
+
+        return calculateAndRecord(command, cacheKey, priceBook, campaigns, promoCode, taxRule, events);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<QuoteBatchItemResult> calculateQuotes(CalculateQuotesCommand command) {
+        BatchLookups lookups = new BatchLookups(command.getPromoCode(), taxRuleResolver.normalizeRegion(command.getRegion()));
+        List<QuoteCalculatedEvent> events = new ArrayList<>(command.getItems().size());
+        List<QuoteBatchItemResult> results = readOnlyTransaction.execute(status -> {
+            List<QuoteBatchItemResult> itemResults = new ArrayList<>(command.getItems().size());
+            for (CalculateQuotesCommand.Item item : command.getItems()) {
+                itemResults.add(calculateBatchItem(item.getItemId(), command.toQuoteCommand(item), lookups, events));
+            }
+            return itemResults;
+        });
+        publish(events);
+        long failed = results.stream().filter(result -> !result.isSuccess()).count();
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=BATCH] "
+                + "eventType=PRICING_BATCH decision=COMPLETED keyValues=items={},failed={},priceBooks={}",
+                results.size(), failed, lookups.priceBooks.size());
+        return results;
+    }
+
+    @Override
+    public QuoteSession openSession(String promoCode, String region) {
+        BatchLookups lookups = new BatchLookups(promoCode, taxRuleResolver.normalizeRegion(region));
+        // Session calls bypass this bean's proxy, so the transactions are opened here
+        return (itemId, command) -> {
+            List<QuoteCalculatedEvent> events = new ArrayList<>(1);
+            QuoteBatchItemResult result = readOnlyTransaction.execute(
+                    status -> calculateBatchItem(itemId, command, lookups, events));
+            publish(events);
+            return result;
+        };
+    }
+
+    private QuoteBatchItemResult calculateBatchItem(String itemId, CalculateQuoteCommand command, BatchLookups lookups,
+            List<QuoteCalculatedEvent> events) {
+        command.setRegion(lookups.region);
+        try {
+            PriceBook priceBook = lookups.priceBook(command.getProductTemplateId());
+            demandTracker.record(command);
+
+            QuoteCacheKey cacheKey = QuoteCacheKey.from(priceBook, command);
+            Optional<Quote> cachedQuote = quoteCache.get(cacheKey);
+            if (cachedQuote.isPresent() && !cachedQuote.get().isExpired()) {
+                logDecisionTrace(cachedQuote.get());
+                return QuoteBatchItemResult.success(itemId, mapToResponse(cachedQuote.get(), command.isIncludeTrace()));
+            }
+
+            Quote quote = calculateAndRecord(
+                    command,
+                    cacheKey,
+                    priceBook,
+                    lookups.campaigns(command.getProductTemplateId()),
+                    lookups.promoCode(),
+                    lookups.taxRule(),
+                    events);
+            return QuoteBatchItemResult.success(itemId, mapToResponse(quote, command.isIncludeTrace()));
+        } catch (PriceBookNotFoundException | InvalidPromoCodeException | TaxRuleNotFoundException
+                | DomainException ex) {
+            return QuoteBatchItemResult.failure(itemId, errorCode(ex), ex.getMessage());
+        }
+    }
+
+    private static String errorCode(RuntimeException ex) {
+        if (ex instanceof PriceBookNotFoundException notFound) {
+            return notFound.getErrorCode();
+        }
+        if (ex instanceof InvalidPromoCodeException invalidPromo) {
+            return invalidPromo.getErrorCode();
+        }
+        if (ex instanceof TaxRuleNotFoundException noTaxRule) {
+            return noTaxRule.getErrorCode();
+        }
+        return ((DomainException) ex).getCode();
+    }
+
+    /**
+     * Computes and caches the quote of a configuration unless a live one is cached already.
+     * Used by {@link QuoteCacheWarmer}: the promo code is ignored, no QuoteCalculated event is
+     * published and the request is not counted as demand.
+     *
+     * @return true if a quote was computed
+     */
+    public boolean warmQuote(CalculateQuoteCommand command) {
+        command.setRegion(taxRuleResolver.normalizeRegion(command.getRegion()));
+        command.setPromoCode(null);
+        PriceBook priceBook = loadPriceBook(command.getProductTemplateId());
+
+        QuoteCacheKey cacheKey = QuoteCacheKey.from(priceBook, command);
+        Optional<Quote> cachedQuote = quoteCache.get(cacheKey);
+        if (cachedQuote.isPresent() && !cachedQuote.get().isExpired()) {
+            return false;
         }
 
-        TaxRule taxRule = taxRuleRepository.findByRegion(command.getRegion())
-                .orElseThrow(() -> new TaxRuleNotFoundException(command.getRegion()));
+        Quote quote = priceCalculationService.calculateQuote(
+                priceBook,
+                command.getResolvedBom(),
+                command.getWidthCm(),
+                command.getHeightCm(),
+                campaignRepository.findActiveForProduct(command.getProductTemplateId()),
+                null,
+                taxRuleResolver.resolve(command.getRegion()),
+                quoteTtlMinutes
+        );
+        quoteCache.put(cacheKey, quote, quoteTtlMinutes);
+        return true;
+    }
 
+    private Quote calculateAndRecord(CalculateQuoteCommand command, QuoteCacheKey cacheKey, PriceBook priceBook,
+            List<Campaign> campaigns, PromoCode promoCode, TaxRule taxRule, List<QuoteCalculatedEvent> events) {
         Quote quote;
         try {
             quote = priceCalculationService.calculateQuote(
@@ -154,17 +290,27 @@ public class PriceCalculationUseCaseService implements CalculateQuoteUseCase, Va
             throw ex;
         }
 
-        quoteCache.put(priceBook, command, quote, quoteTtlMinutes);
-
-        if (promoCode != null) {
-            promoCode.incrementUsage();
-            promoCodeRepository.save(promoCode);
+        if (promoCode != null && !promoCodeUsageCounter.tryAcquire(promoCode)) {
+            logPromoDecision(promoCode.getCode(), "EXHAUSTED");
+            throw new InvalidPromoCodeException(promoCode.getCode(), "Promo code usage limit reached");
         }
 
-        eventPublisher.publishQuoteCalculated(QuoteCalculatedEvent.of(quote, command.getPromoCode()));
+        quoteCache.put(cacheKey, quote, quoteTtlMinutes);
+
+        events.add(QuoteCalculatedEvent.of(quote, command.getPromoCode()));
 
         logDecisionTrace(quote);
-        return mapToResponse(quote);
+        return quote;
+    }
+
+    /**
+     * Writes the events collected by a read-only quote transaction after it has completed.
+     */
+    private void publish(List<QuoteCalculatedEvent> events) {
+        if (!events.isEmpty()) {
+            writeTransaction.executeWithoutResult(
+                    status -> events.forEach(eventPublisher::publishQuoteCalculated));
+        }
     }
 
     @Override
@@ -188,6 +334,28 @@ public class PriceCalculationUseCaseService implements CalculateQuoteUseCase, Va
         return PromoCodeValidationResponse.valid(discount.toString());
     }
 
+    private PriceBook loadPriceBook(String productTemplateId) {
+        return priceBookRepository
+                .findActiveByProductTemplateId(productTemplateId)
+                .orElseThrow(() -> {
+                    logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-01][STATE=LOAD_PRICEBOOK] "
+                            + "eventType=PRICING_STEP decision=NOT_FOUND keyValues=productTemplateId={},priceBookId=NONE",
+                            LogSanitizer.sanitize(productTemplateId));
+                    return new PriceBookNotFoundException(productTemplateId);
+                });
+    }
+
+    private PromoCode loadPromoCode(String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        return promoCodeRepository.findByCode(code)
+                .orElseThrow(() -> {
+                    logPromoDecision(code, "INVALID");
+                    return new InvalidPromoCodeException(code, "Promo code not found");
+                });
+    }
+
     private String determineInvalidReason(PromoCode promoCode, Money subtotal) {
         Instant now = Instant.now();
         if (now.isBefore(promoCode.getStartDate()) || now.isAfter(promoCode.getEndDate())) {
@@ -209,15 +377,18 @@ public class PriceCalculationUseCaseService implements CalculateQuoteUseCase, Va
     }
 
     private void logDecisionTrace(Quote quote) {
+        if (!traceLogger.isDebugEnabled()) {
+            return;
+        }
         for (PricingDecision decision : quote.getDecisionTrace()) {
-            logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK={}][STATE={}] {}",
+            traceLogger.debug("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK={}][STATE={}] {}",
                     decision.getStep(),
                     decision.getRuleApplied(),
                     decision.getResult());
         }
     }
 
-    private QuoteResponse mapToResponse(Quote quote) {
+    private QuoteResponse mapToResponse(Quote quote, boolean includeTrace) {
         QuoteResponse response = new QuoteResponse();
         response.setQuoteId(quote.getQuoteId().toString());
         response.setProductTemplateId(quote.getProductTemplateId());
@@ -231,9 +402,70 @@ public class PriceCalculationUseCaseService implements CalculateQuoteUseCase, Va
         response.setTotal(quote.getTotal().toString());
         response.setCurrency(quote.getTotal().getCurrency());
         response.setValidUntil(quote.getValidUntil());
-        response.setDecisionTrace(quote.getDecisionTrace().stream()
-                .map(QuoteResponse.PricingDecisionDto::from)
-                .collect(Collectors.toList()));
+        // Rendering the trace text is deferred until a caller asks for it
+        response.setDecisionTrace(includeTrace
+                ? quote.getDecisionTrace().stream()
+                        .map(QuoteResponse.PricingDecisionDto::from)
+                        .collect(Collectors.toList())
+                : List.of());
         return response;
     }
+
+    /**
+     * Per-batch memo of price books, campaigns, promo code and tax rule, so each is
+     * loaded at most once per batch or quote session. Lookup failures are memoized as
+     * well and rethrown for every item that needs them.
+     */
+    private final class BatchLookups {
+        private final String promoCodeValue;
+        private final String region;
+        private final Map<String, Lookup<PriceBook>> priceBooks = new HashMap<>();
+        private final Map<String, List<Campaign>> campaigns = new HashMap<>();
+        private Lookup<PromoCode> promoCode;
+        private Lookup<TaxRule> taxRule;
+
+        private BatchLookups(String promoCode, String region) {
+            this.promoCodeValue = promoCode;
+            this.region = region;
+        }
+
+        private PriceBook priceBook(String productTemplateId) {
+            return priceBooks.computeIfAbsent(productTemplateId, id -> Lookup.of(() -> loadPriceBook(id))).get();
+        }
+
+        private List<Campaign> campaigns(String productTemplateId) {
+            return campaigns.computeIfAbsent(productTemplateId, campaignRepository::findActiveForProduct);
+        }
+
+        private PromoCode promoCode() {
+            if (promoCode == null) {
+                promoCode = Lookup.of(() -> loadPromoCode(promoCodeValue));
+            }
+            return promoCode.get();
+        }
+
+        private TaxRule taxRule() {
+            if (taxRule == null) {
+                taxRule = Lookup.of(() -> taxRuleResolver.resolve(region));
+            }
+            return taxRule.get();
+        }
+    }
+
+    private record Lookup<T>(T value, RuntimeException failure) {
+        private static <T> Lookup<T> of(Supplier<T> loader) {
+            try {
+                return new Lookup<>(loader.get(), null);
+            } catch (PriceBookNotFoundException | InvalidPromoCodeException | TaxRuleNotFoundException ex) {
+                return new Lookup<>(null, ex);
+            }
+        }
+
+        private T get() {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import com.kanokna.pricing.domain.event.PriceBookPublishedEvent;
+import com.kanokna.shared.logging.LogSanitizer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Precomputes quotes for the most requested configurations of a product after its price
+ * book is published, so the first shoppers after a publish hit a warm cache.
+ *
+ * Candidates come from {@link QuoteDemandTracker}. Each publish is one warming task that
+ * walks its products in order, so a bulk import takes a single queue slot however many
+ * products it covers. A single price book publish is a task of its own. Tasks run on a small
+ * pool of low-priority daemon threads with a bounded queue; when the queue is full, the
+ * publish is skipped rather than queued. All warmer threads share one rate limit, so warming
+ * adds at most that many quote calculations per second next to live traffic. Warmed quotes
+ * publish no QuoteCalculated event and apply no promo code.
+ */
+@Service
+public class QuoteCacheWarmer {
+    private static final Logger logger = LoggerFactory.getLogger(QuoteCacheWarmer.class);
+
+    private final PriceCalculationUseCaseService quoteService;
+    private final QuoteDemandTracker demandTracker;
+    private final boolean enabled;
+    private final int topConfigurations;
+    private final long intervalNanos;
+    private final ThreadPoolExecutor executor;
+    private long nextSlotNanos;
+
+    public QuoteCacheWarmer(
+            PriceCalculationUseCaseService quoteService,
+            QuoteDemandTracker demandTracker,
+            @Value("${pricing.quote.warmer.enabled:true}") boolean enabled,
+            @Value("${pricing.quote.warmer.top-configurations:50}") int topConfigurations,
+            @Value("${pricing.quote.warmer.threads:1}") int threads,
+            @Value("${pricing.quote.warmer.queue-capacity:32}") int queueCapacity,
+            @Value("${pricing.quote.warmer.quotes-per-second:50}") int quotesPerSecond) {
+        this.quoteService = quoteService;
+        this.demandTracker = demandTracker;
+        this.enabled = enabled;
+        this.topConfigurations = topConfigurations;
+        this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, quotesPerSecond);
+        this.nextSlotNanos = System.nanoTime();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "quote-warmer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookPublished(PriceBookPublishedEvent event) {
+        schedule(List.of(event.getProductTemplateId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceBookImportPublished(PriceBookImportPublishedEvent event) {
+        schedule(event.getProductTemplateIds());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void schedule(List<String> productTemplateIds) {
+        if (!enabled || productTemplateIds.isEmpty()) {
+            return;
+        }
+        List<String> products = List.copyOf(productTemplateIds);
+        try {
+            executor.execute(() -> warmAll(products));
+        } catch (RejectedExecutionException ex) {
+            logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-99][STATE=CACHE_WARM] "
+                    + "eventType=QUOTE_WARM decision=SKIPPED keyValues=productTemplateId={},products={},reason=QUEUE_FULL",
+                LogSanitizer.sanitize(products.get(0)), products.size());
+        }
+    }
+
+    void warmAll(List<String> productTemplateIds) {
+        for (String productTemplateId : productTemplateIds) {
+            List<CalculateQuoteCommand> candidates = demandTracker.top(productTemplateId, topConfigurations);
+            if (!candidates.isEmpty() && !warm(productTemplateId, candidates)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return false if the warmer was interrupted
+     */
+    boolean warm(String productTemplateId, List<CalculateQuoteCommand> candidates) {
+        int warmed = 0;
+        int failed = 0;
+        for (CalculateQuoteCommand command : candidates) {
+            try {
+                acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            try {
+                if (quoteService.warmQuote(command)) {
+                    warmed++;
+                }
+            } catch (RuntimeException ex) {
+                failed++;
+            }
+        }
+        logger.info("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-99][STATE=CACHE_WARM] "
+                + "eventType=QUOTE_WARM decision=COMPLETED keyValues=productTemplateId={},candidates={},warmed={},failed={}",
+            LogSanitizer.sanitize(productTemplateId), candidates.size(), warmed, failed);
+        return true;
+    }
+
+    /**
+     * Waits for the next free slot of the shared rate limit.
+     */
+    private void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = nextSlotNanos - now > 0 ? nextSlotNanos : now;
+            nextSlotNanos = slot + intervalNanos;
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts quote requests per product configuration so {@link QuoteCacheWarmer} knows which
+ * quotes to precompute after a price book is published.
+ *
+ * A configuration is everything that goes into the quote cache key except the price book,
+ * so counts survive a new price book version. Sizes are compared without trailing zeros, as
+ * the cache key does, so 100 and 100.0 count as one configuration. Only requests whose price
+ * book loaded are counted, so unknown products never take up room. Requests with a promo
+ * code are not counted:
+ * warming must not consume promo usage. Each product tracks a bounded number of
+ * configurations; counts are halved on a fixed interval, so configurations that stop being
+ * requested fade out and free room for new ones.
+ */
+@Component
+public class QuoteDemandTracker {
+    private final int maxConfigurationsPerProduct;
+    private final Map<String, Map<Configuration, LongAdder>> demand = new ConcurrentHashMap<>();
+
+    public QuoteDemandTracker(
+            @Value("${pricing.quote.warmer.tracked-configurations:500}") int maxConfigurationsPerProduct) {
+        this.maxConfigurationsPerProduct = maxConfigurationsPerProduct;
+    }
+
+    /**
+     * Counts one request. Expects the region to be normalized already and the product's price
+     * book to have been found.
+     */
+    public void record(CalculateQuoteCommand command) {
+        if (command.getPromoCode() != null && !command.getPromoCode().isBlank()) {
+            return;
+        }
+        Map<Configuration, LongAdder> product = demand.computeIfAbsent(
+            command.getProductTemplateId(), id -> new ConcurrentHashMap<>());
+        Configuration configuration = new Configuration(plain(command.getWidthCm()), plain(command.getHeightCm()),
+            command.getResolvedBom(), command.getCurrency(), command.getRegion());
+        LongAdder count = product.get(configuration);
+        if (count == null) {
+            if (product.size() >= maxConfigurationsPerProduct) {
+                return;
+            }
+            count = product.computeIfAbsent(configuration.copy(), key -> new LongAdder());
+        }
+        count.increment();
+    }
+
+    /**
+     * @return commands for the most requested configurations of the product, most requested first
+     */
+    public List<CalculateQuoteCommand> top(String productTemplateId, int limit) {
+        Map<Configuration, LongAdder> product = demand.get(productTemplateId);
+        if (product == null) {
+            return List.of();
+        }
+        return product.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<Configuration, Long>comparingByValue(Comparator.reverseOrder()))
+            .limit(limit)
+            .map(entry -> entry.getKey().toCommand(productTemplateId))
+            .toList();
+    }
+
+    /**
+     * Halves every count and drops configurations whose count reaches zero.
+     */
+    @Scheduled(fixedDelayString = "${pricing.quote.warmer.decay-interval-ms:600000}")
+    public void decay() {
+        for (Map<Configuration, LongAdder> product : demand.values()) {
+            product.values().removeIf(count -> {
+                long halved = count.sumThenReset() / 2;
+                count.add(halved);
+                return halved == 0;
+            });
+        }
+        // Counts recorded into a product map while it is being dropped are lost; they are statistics
+        demand.values().removeIf(Map::isEmpty);
+    }
+
+    private static BigDecimal plain(BigDecimal value) {
+        if (value == null) {
+            return null;
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+    }
+
+    private record Configuration(BigDecimal widthCm, BigDecimal heightCm, List<String> resolvedBom,
+                                 String currency, String region) {
+        private Configuration copy() {
+            return new Configuration(widthCm, heightCm, resolvedBom == null ? null : List.copyOf(resolvedBom),
+                currency, region);
+        }
+
+        private CalculateQuoteCommand toCommand(String productTemplateId) {
+            CalculateQuoteCommand command = new CalculateQuoteCommand();
+            command.setProductTemplateId(productTemplateId);
+            command.setWidthCm(widthCm);
+            command.setHeightCm(heightCm);
+            command.setResolvedBom(resolvedBom);
+            command.setCurrency(currency);
+            command.setRegion(region);
+            return command;
+        }
+    }
+}
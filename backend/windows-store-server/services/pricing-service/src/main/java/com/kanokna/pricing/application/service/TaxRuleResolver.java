@@ -0,0 +1,69 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.port.out.TaxRuleRepository;
+import com.kanokna.pricing.domain.exception.TaxRuleNotFoundException;
+import com.kanokna.pricing.domain.model.TaxRule;
+import com.kanokna.pricing.domain.model.TaxRuleId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the tax rule for a quote region. This is the only place where the
+ * {@code pricing.tax.default-region} and {@code pricing.tax.default-rate-percent}
+ * fallbacks are applied: a blank region means the default region, and the default region
+ * without a rule in effect is taxed as VAT at the default rate. Other regions without a
+ * rule are rejected.
+ */
+@Service
+public class TaxRuleResolver {
+    private static final Logger logger = LoggerFactory.getLogger(TaxRuleResolver.class);
+
+    private final TaxRuleRepository taxRuleRepository;
+    private final String defaultRegion;
+    private final TaxRule defaultRule;
+
+    public TaxRuleResolver(
+            TaxRuleRepository taxRuleRepository,
+            @Value("${pricing.tax.default-region:RU}") String defaultRegion,
+            @Value("${pricing.tax.default-rate-percent:20}") BigDecimal defaultRatePercent) {
+        this.taxRuleRepository = taxRuleRepository;
+        this.defaultRegion = TaxRule.normalizeRegion(defaultRegion);
+        UUID defaultRuleId = UUID.nameUUIDFromBytes(
+                ("tax-rule-default:" + this.defaultRegion).getBytes(StandardCharsets.UTF_8));
+        this.defaultRule = TaxRule.createVAT(
+                TaxRuleId.of(defaultRuleId), this.defaultRegion, this.defaultRegion, defaultRatePercent);
+    }
+
+    /**
+     * @return the region trimmed and upper-cased, or the default region when blank
+     */
+    public String normalizeRegion(String region) {
+        String normalized = TaxRule.normalizeRegion(region);
+        return normalized != null ? normalized : defaultRegion;
+    }
+
+    /**
+     * @throws TaxRuleNotFoundException if a region other than the default has no rule in effect
+     */
+    public TaxRule resolve(String region) {
+        String normalized = normalizeRegion(region);
+        Optional<TaxRule> rule = taxRuleRepository.findByRegion(normalized);
+        if (rule.isPresent()) {
+            return rule.get();
+        }
+        if (!normalized.equals(defaultRegion)) {
+            throw new TaxRuleNotFoundException(normalized);
+        }
+        logger.warn("[SVC=pricing-service][UC=UC-PRICING-QUOTE][BLOCK=BA-PRC-CALC-07][STATE=TAX] "
+                + "eventType=PRICING_STEP decision=DEFAULT_RATE keyValues=region={},rate={}",
+                normalized, defaultRule.getTaxRatePercent());
+        return defaultRule;
+    }
+}
@@ -0,0 +1,52 @@
+package com.kanokna.pricing.domain.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Domain event published once when all price books of a bulk import are made active.
+ * Replaces one {@link PriceBookPublishedEvent} per product for caches that hold price books.
+ */
+public class PriceBookImportPublishedEvent {
+    private final UUID importId;
+    private final List<String> productTemplateIds;
+    private final long version;
+    private final Instant publishedAt;
+    private final String publishedBy;
+
+    private PriceBookImportPublishedEvent(UUID importId, List<String> productTemplateIds, long version,
+                                         Instant publishedAt, String publishedBy) {
+        this.importId = Objects.requireNonNull(importId);
+        this.productTemplateIds = List.copyOf(productTemplateIds);
+        this.version = version;
+        this.publishedAt = Objects.requireNonNull(publishedAt);
+        this.publishedBy = publishedBy;
+    }
+
+    public static PriceBookImportPublishedEvent of(UUID importId, List<String> productTemplateIds,
+                                                   long version, String publishedBy) {
+        return new PriceBookImportPublishedEvent(importId, productTemplateIds, version, Instant.now(), publishedBy);
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public List<String> getProductTemplateIds() {
+        return productTemplateIds;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public String getPublishedBy() {
+        return publishedBy;
+    }
+}
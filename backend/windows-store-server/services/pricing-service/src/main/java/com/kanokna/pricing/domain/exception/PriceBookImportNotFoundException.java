@@ -0,0 +1,24 @@
+package com.kanokna.pricing.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exception thrown when a price book import does not exist.
+ * Error code: ERR-PRC-NO-IMPORT
+ */
+public class PriceBookImportNotFoundException extends RuntimeException {
+    private final UUID importId;
+
+    public PriceBookImportNotFoundException(UUID importId) {
+        super(String.format("Price book import not found: %s", importId));
+        this.importId = importId;
+    }
+
+    public UUID getImportId() {
+        return importId;
+    }
+
+    public String getErrorCode() {
+        return "ERR-PRC-NO-IMPORT";
+    }
+}
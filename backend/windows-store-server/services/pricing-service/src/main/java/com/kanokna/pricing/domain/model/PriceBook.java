@@ -3,7 +3,9 @@ package com.kanokna.pricing.domain.model;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -19,16 +21,28 @@ public class PriceBook {
     private PriceBookStatus status;
     private final BasePriceEntry basePriceEntry;
     private final List<OptionPremium> optionPremiums;
+    private Map<String, OptionPremium> premiumIndex;
+    private final PriceGrid priceGrid;
     private long version;
     private final Instant createdAt;
     private final String createdBy;
     private Instant updatedAt;
+    private final boolean readOnly;
 
     private PriceBook(PriceBookId id, String productTemplateId, String currency,
                      BasePriceEntry basePriceEntry, String createdBy,
                      PriceBookStatus status, long version,
                      Instant createdAt, Instant updatedAt,
                      List<OptionPremium> optionPremiums) {
+        this(id, productTemplateId, currency, basePriceEntry, createdBy, status, version,
+            createdAt, updatedAt, optionPremiums, false, null);
+    }
+
+    private PriceBook(PriceBookId id, String productTemplateId, String currency,
+                     BasePriceEntry basePriceEntry, String createdBy,
+                     PriceBookStatus status, long version,
+                     Instant createdAt, Instant updatedAt,
+                     List<OptionPremium> optionPremiums, boolean readOnly, PriceGrid priceGrid) {
         this.id = Objects.requireNonNull(id);
         this.productTemplateId = Objects.requireNonNull(productTemplateId);
         this.currency = Objects.requireNonNull(currency);
@@ -39,6 +53,9 @@ public class PriceBook {
         this.createdAt = Objects.requireNonNull(createdAt);
         this.updatedAt = Objects.requireNonNull(updatedAt);
         this.optionPremiums = new ArrayList<>(optionPremiums != null ? optionPremiums : List.of());
+        this.premiumIndex = indexPremiums(this.optionPremiums);
+        this.readOnly = readOnly;
+        this.priceGrid = priceGrid;
     }
 
     public static PriceBook create(PriceBookId id, String productTemplateId, String currency,
@@ -57,24 +74,40 @@ public class PriceBook {
             status, version, createdAt, updatedAt, optionPremiums);
     }
 
+    /**
+     * Returns a copy that can be shared between requests: its state is fixed and every
+     * mutator throws. Only such copies carry a grid, so a grid never outlives a change.
+     *
+     * @param priceGrid grid precomputed from this price book, or {@code null}
+     */
+    public PriceBook readOnlyCopy(PriceGrid priceGrid) {
+        return new PriceBook(id, productTemplateId, currency, basePriceEntry, createdBy,
+            status, version, createdAt, updatedAt, optionPremiums, true, priceGrid);
+    }
+
     public void addOptionPremium(OptionPremium premium) {
+        requireWritable();
         if (status != PriceBookStatus.DRAFT) {
             throw new IllegalStateException("Cannot modify non-draft price book");
         }
         optionPremiums.add(premium);
+        this.premiumIndex = null;
         this.updatedAt = Instant.now();
     }
 
     public void publish() {
+        requireWritable();
         if (status != PriceBookStatus.DRAFT) {
             throw new IllegalStateException("Only DRAFT price books can be published");
         }
         this.status = PriceBookStatus.ACTIVE;
+        this.premiumIndex = indexPremiums(optionPremiums);
         this.version++;
         this.updatedAt = Instant.now();
     }
 
     public void archive() {
+        requireWritable();
         if (status != PriceBookStatus.ACTIVE) {
             throw new IllegalStateException("Only ACTIVE price books can be archived");
         }
@@ -83,15 +116,50 @@ public class PriceBook {
     }
 
     public Optional<OptionPremium> findPremiumForOption(String optionId) {
-        return optionPremiums.stream()
-            .filter(premium -> premium.getOptionId().equals(optionId))
-            .findFirst();
+        if (optionId == null) {
+            return Optional.empty();
+        }
+        Map<String, OptionPremium> index = premiumIndex;
+        if (index == null) {
+            index = indexPremiums(optionPremiums);
+            premiumIndex = index;
+        }
+        return Optional.ofNullable(index.get(optionId));
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
     }
 
     public boolean isActive() {
         return status == PriceBookStatus.ACTIVE;
     }
 
+    /**
+     * @return the precomputed grid, or {@code null} if this is not a read-only copy built with one
+     */
+    public PriceGrid getPriceGrid() {
+        return priceGrid;
+    }
+
+    private void requireWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("Cannot modify a read-only price book snapshot");
+        }
+    }
+
+    /**
+     * Builds an immutable optionId-keyed view of the premiums. The first premium wins
+     * for duplicate option ids, matching the previous linear scan.
+     */
+    private static Map<String, OptionPremium> indexPremiums(List<OptionPremium> premiums) {
+        Map<String, OptionPremium> index = new HashMap<>();
+        for (OptionPremium premium : premiums) {
+            index.putIfAbsent(premium.getOptionId(), premium);
+        }
+        return Map.copyOf(index);
+    }
+
     // Getters
     public PriceBookId getId() {
         return id;
@@ -0,0 +1,364 @@
+package com.kanokna.pricing.domain.model;
+
+import com.kanokna.shared.core.DomainException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Precomputed base prices and option premiums of one price book for a fixed set of
+ * standard sizes.
+ *
+ * Every amount is produced by {@link BasePriceEntry#calculateBasePrice} and
+ * {@link OptionPremium#calculatePremium} at build time and stored in primitive arrays as an
+ * unscaled {@code long} plus its scale, so a lookup returns exactly what the calculation
+ * would (scale included). Sizes are whole centimetres. Premium totals are also stored for the
+ * configured option bundles; other selections sum their per-option premiums. A grid is
+ * immutable and only valid for the price book it was built from.
+ */
+public final class PriceGrid {
+    private static final BigDecimal CM2_PER_M2 = new BigDecimal("10000");
+    private static final int AREA_SCALE = 4;
+    private static final int MAX_BUNDLE_OPTIONS = Long.SIZE;
+    private static final String CURRENCY_MISMATCH = "ERR-PRICE-CURRENCY-MISMATCH";
+
+    /**
+     * Sizes and option bundles to precompute, taken from configuration.
+     */
+    public record Layout(List<Size> sizes, List<List<String>> bundles) {
+        public static final Layout NONE = new Layout(List.of(), List.of());
+
+        public Layout {
+            sizes = List.copyOf(sizes);
+            bundles = bundles.stream().map(List::copyOf).toList();
+        }
+
+        /**
+         * @param sizes entries of the form {@code <widthCm>x<heightCm>}
+         * @param bundles entries listing option ids separated by {@code +}
+         */
+        public static Layout parse(List<String> sizes, List<String> bundles) {
+            List<Size> parsedSizes = new ArrayList<>();
+            for (String size : sizes) {
+                if (!size.isBlank()) {
+                    parsedSizes.add(Size.parse(size));
+                }
+            }
+            List<List<String>> parsedBundles = new ArrayList<>();
+            for (String bundle : bundles) {
+                if (!bundle.isBlank()) {
+                    parsedBundles.add(Arrays.stream(bundle.split("\\+")).map(String::trim).toList());
+                }
+            }
+            return new Layout(parsedSizes, parsedBundles);
+        }
+
+        public boolean isEmpty() {
+            return sizes.isEmpty();
+        }
+    }
+
+    public record Size(int widthCm, int heightCm) {
+        public Size {
+            if (widthCm <= 0 || heightCm <= 0) {
+                throw new IllegalArgumentException("Grid size must be positive: " + widthCm + "x" + heightCm);
+            }
+        }
+
+        static Size parse(String value) {
+            String[] parts = value.trim().toLowerCase().split("x");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Grid size must be <widthCm>x<heightCm>: " + value);
+            }
+            return new Size(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+    }
+
+    /**
+     * Base price and premiums of one lookup, as the calculation would have produced them.
+     */
+    public record Entry(BigDecimal areaM2, Money basePrice, List<PremiumLine> premiumLines, Money totalPremiums) {
+    }
+
+    private final String currency;
+    private final Money zero;
+    private final long[] sizeKeys;
+    private final long[] areaUnscaled;
+    private final DecimalColumn basePrices;
+    private final Map<String, Integer> optionSlots;
+    private final String[] optionNames;
+    private final DecimalColumn premiums;
+    private final long[] bundleMasks;
+    private final DecimalColumn bundleTotals;
+
+    private PriceGrid(String currency, long[] sizeKeys, long[] areaUnscaled, DecimalColumn basePrices,
+                      Map<String, Integer> optionSlots, String[] optionNames, DecimalColumn premiums,
+                      long[] bundleMasks, DecimalColumn bundleTotals) {
+        this.currency = currency;
+        this.zero = Money.zero(currency);
+        this.sizeKeys = sizeKeys;
+        this.areaUnscaled = areaUnscaled;
+        this.basePrices = basePrices;
+        this.optionSlots = optionSlots;
+        this.optionNames = optionNames;
+        this.premiums = premiums;
+        this.bundleMasks = bundleMasks;
+        this.bundleTotals = bundleTotals;
+    }
+
+    /**
+     * Builds the grid for a price book.
+     *
+     * @return {@code null} when the layout is empty, an amount does not fit the grid or the
+     *         price book mixes currencies, in which case quotes for this price book are always
+     *         calculated
+     */
+    public static PriceGrid build(PriceBook priceBook, Layout layout) {
+        Objects.requireNonNull(priceBook);
+        if (layout.isEmpty()) {
+            return null;
+        }
+        try {
+            return compute(priceBook, layout);
+        } catch (ArithmeticException ex) {
+            // Amounts beyond a long or a byte scale are priced from scratch with BigDecimal
+            return null;
+        } catch (DomainException ex) {
+            // Currency-inconsistent price books are priced from scratch, which reports the
+            // same error to the caller that asked for the quote
+            if (CURRENCY_MISMATCH.equals(ex.getCode())) {
+                return null;
+            }
+            throw ex;
+        }
+    }
+
+    private static PriceGrid compute(PriceBook priceBook, Layout layout) {
+        String currency = priceBook.getCurrency();
+        long[] sizeKeys = layout.sizes().stream()
+            .mapToLong(size -> key(size.widthCm(), size.heightCm()))
+            .sorted()
+            .distinct()
+            .toArray();
+
+        // First premium wins for duplicate option ids, as in PriceBook#findPremiumForOption
+        Map<String, OptionPremium> premiums = new LinkedHashMap<>();
+        for (OptionPremium premium : priceBook.getOptionPremiums()) {
+            premiums.putIfAbsent(premium.getOptionId(), premium);
+        }
+        Map<String, Integer> optionSlots = new HashMap<>();
+        String[] optionNames = new String[premiums.size()];
+        for (OptionPremium premium : premiums.values()) {
+            optionNames[optionSlots.size()] = premium.getOptionName();
+            optionSlots.put(premium.getOptionId(), optionSlots.size());
+        }
+
+        List<List<String>> bundles = new ArrayList<>();
+        List<Long> masks = new ArrayList<>();
+        for (List<String> bundle : layout.bundles()) {
+            long mask = mask(bundle, optionSlots);
+            if (mask != 0L && !masks.contains(mask)) {
+                bundles.add(bundle);
+                masks.add(mask);
+            }
+        }
+
+        int sizes = sizeKeys.length;
+        int options = optionNames.length;
+        long[] areaUnscaled = new long[sizes];
+        DecimalColumn basePrices = new DecimalColumn(sizes);
+        DecimalColumn premiumAmounts = new DecimalColumn(sizes * options);
+        DecimalColumn bundleTotals = new DecimalColumn(sizes * bundles.size());
+
+        for (int s = 0; s < sizes; s++) {
+            BigDecimal areaM2 = BigDecimal.valueOf(widthOf(sizeKeys[s]))
+                .multiply(BigDecimal.valueOf(heightOf(sizeKeys[s])))
+                .divide(CM2_PER_M2, AREA_SCALE, RoundingMode.HALF_UP);
+            areaUnscaled[s] = areaM2.unscaledValue().longValueExact();
+
+            Money basePrice = priceBook.getBasePriceEntry().calculateBasePrice(areaM2, currency);
+            basePrices.set(s, basePrice.getAmount());
+
+            Money[] sizePremiums = new Money[options];
+            int slot = 0;
+            for (OptionPremium premium : premiums.values()) {
+                sizePremiums[slot] = premium.calculatePremium(basePrice);
+                premiumAmounts.set(s * options + slot, sizePremiums[slot].getAmount());
+                slot++;
+            }
+
+            for (int b = 0; b < bundles.size(); b++) {
+                Money total = Money.zero(currency);
+                for (String optionId : bundles.get(b)) {
+                    total = total.add(sizePremiums[optionSlots.get(optionId)]);
+                }
+                bundleTotals.set(s * bundles.size() + b, total.getAmount());
+            }
+        }
+
+        return new PriceGrid(currency, sizeKeys, areaUnscaled, basePrices,
+            Map.copyOf(optionSlots), optionNames, premiumAmounts,
+            masks.stream().mapToLong(Long::longValue).toArray(), bundleTotals);
+    }
+
+    /**
+     * @return the precomputed amounts, or {@code null} when the size is not in the grid
+     */
+    public Entry lookup(BigDecimal widthCm, BigDecimal heightCm, List<String> optionIds) {
+        int width = wholeCentimetres(widthCm);
+        int height = wholeCentimetres(heightCm);
+        if (width < 0 || height < 0) {
+            return null;
+        }
+        int s = Arrays.binarySearch(sizeKeys, key(width, height));
+        if (s < 0) {
+            return null;
+        }
+
+        int options = optionNames.length;
+        List<PremiumLine> premiumLines = null;
+        long mask = 0L;
+        boolean bundleCandidate = true;
+        for (String optionId : optionIds) {
+            Integer slot = optionId != null ? optionSlots.get(optionId) : null;
+            if (slot == null) {
+                continue;
+            }
+            if (premiumLines == null) {
+                premiumLines = new ArrayList<>(optionIds.size());
+            }
+            Money amount = Money.of(premiums.get(s * options + slot), currency);
+            premiumLines.add(PremiumLine.of(optionId, optionNames[slot], amount));
+            long bit = slot < MAX_BUNDLE_OPTIONS ? 1L << slot : 0L;
+            bundleCandidate &= bit != 0L && (mask & bit) == 0L;
+            mask |= bit;
+        }
+
+        Money totalPremiums = null;
+        if (premiumLines == null) {
+            premiumLines = List.of();
+            totalPremiums = zero;
+        } else if (premiumLines.size() == 1) {
+            // Adding one amount to zero keeps its value and scale
+            totalPremiums = premiumLines.get(0).getAmount();
+        } else if (bundleCandidate) {
+            for (int b = 0; b < bundleMasks.length; b++) {
+                if (bundleMasks[b] == mask) {
+                    totalPremiums = Money.of(bundleTotals.get(s * bundleMasks.length + b), currency);
+                    break;
+                }
+            }
+        }
+        if (totalPremiums == null) {
+            // BigDecimal addition is exact, so the total does not depend on selection order
+            totalPremiums = zero;
+            for (PremiumLine line : premiumLines) {
+                totalPremiums = totalPremiums.add(line.getAmount());
+            }
+        }
+
+        return new Entry(
+            BigDecimal.valueOf(areaUnscaled[s], AREA_SCALE),
+            Money.of(basePrices.get(s), currency),
+            premiumLines,
+            totalPremiums);
+    }
+
+    public int sizeCount() {
+        return sizeKeys.length;
+    }
+
+    public int bundleCount() {
+        return bundleMasks.length;
+    }
+
+    private static long mask(List<String> bundle, Map<String, Integer> optionSlots) {
+        long mask = 0L;
+        for (String optionId : bundle) {
+            Integer slot = optionSlots.get(optionId);
+            if (slot == null || slot >= MAX_BUNDLE_OPTIONS || (mask & (1L << slot)) != 0L) {
+                return 0L;
+            }
+            mask |= 1L << slot;
+        }
+        return mask;
+    }
+
+    /**
+     * @return the value as whole centimetres, or -1 when it has a fractional part or is out of range
+     */
+    private static int wholeCentimetres(BigDecimal value) {
+        if (value == null || value.signum() <= 0 || value.precision() - value.scale() > 9) {
+            return -1;
+        }
+        if (value.scale() > 0 && value.stripTrailingZeros().scale() > 0) {
+            return -1;
+        }
+        return value.intValue();
+    }
+
+    private static long key(int widthCm, int heightCm) {
+        return ((long) widthCm << Integer.SIZE) | heightCm;
+    }
+
+    private static int widthOf(long key) {
+        return (int) (key >>> Integer.SIZE);
+    }
+
+    private static int heightOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Decimal values in primitive arrays. Values are stored at their own scale when the unscaled
+     * value fits a {@code long}, so reading one builds a single {@link BigDecimal}. Larger
+     * values, such as percentage premiums with many trailing zeros, are stored stripped and
+     * restored to their original scale.
+     */
+    private static final class DecimalColumn {
+        private final long[] unscaled;
+        private final byte[] scale;
+        private final byte[] nominalScale;
+
+        private DecimalColumn(int size) {
+            this.unscaled = new long[size];
+            this.scale = new byte[size];
+            this.nominalScale = new byte[size];
+        }
+
+        /**
+         * @throws ArithmeticException if the value does not fit the column
+         */
+        private void set(int index, BigDecimal value) {
+            BigDecimal stored = value;
+            if (value.unscaledValue().bitLength() >= Long.SIZE) {
+                stored = value.stripTrailingZeros();
+                if (stored.scale() < 0) {
+                    stored = stored.setScale(0);
+                }
+            }
+            unscaled[index] = stored.unscaledValue().longValueExact();
+            scale[index] = toByte(stored.scale());
+            nominalScale[index] = toByte(value.scale());
+        }
+
+        private BigDecimal get(int index) {
+            BigDecimal value = BigDecimal.valueOf(unscaled[index], scale[index]);
+            return scale[index] == nominalScale[index] ? value : value.setScale(nominalScale[index]);
+        }
+
+        private static byte toByte(int value) {
+            if (value < 0 || value > Byte.MAX_VALUE) {
+                throw new ArithmeticException("Scale out of range: " + value);
+            }
+            return (byte) value;
+        }
+    }
+}
@@ -1,24 +1,87 @@
 package com.kanokna.pricing.domain.model;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Objects;
 
 /**
  * Value object representing a single decision step in the pricing calculation.
  * Used for audit trail and decision trace.
+ *
+ * Deferred decisions keep the format and up to four raw arguments and render the result
+ * text on first access, so quotes whose trace is never logged or returned skip the
+ * formatting cost. Arguments are held in fields rather than a varargs array; the only
+ * primitive arguments are small counts and scales, which box to cached Integer instances.
  */
 public final class PricingDecision {
+    public static final int MAX_ARGUMENTS = 4;
+
     private final String step;
     private final String ruleApplied;
-    private final String result;
+    private final String format;
+    private final int argumentCount;
+    private final Object arg0;
+    private final Object arg1;
+    private final Object arg2;
+    private final Object arg3;
+    // Racy single-check memo, as in String#hashCode: rendering is deterministic and a String
+    // is safely published through its final fields, so a thread that sees null renders again
+    private String result;
 
-    private PricingDecision(String step, String ruleApplied, String result) {
+    private PricingDecision(String step, String ruleApplied, String format, int argumentCount,
+                            Object arg0, Object arg1, Object arg2, Object arg3, String result) {
         this.step = Objects.requireNonNull(step, "Step cannot be null");
         this.ruleApplied = Objects.requireNonNull(ruleApplied, "Rule applied cannot be null");
-        this.result = Objects.requireNonNull(result, "Result cannot be null");
+        this.format = format;
+        this.argumentCount = argumentCount;
+        this.arg0 = arg0;
+        this.arg1 = arg1;
+        this.arg2 = arg2;
+        this.arg3 = arg3;
+        this.result = result;
     }
 
     public static PricingDecision of(String step, String ruleApplied, String result) {
-        return new PricingDecision(step, ruleApplied, result);
+        return new PricingDecision(step, ruleApplied, null, 0, null, null, null, null,
+            Objects.requireNonNull(result, "Result cannot be null"));
+    }
+
+    /**
+     * Creates a decision whose result is rendered with {@link String#format} on first access.
+     * BigDecimal arguments are rendered in plain notation.
+     */
+    public static PricingDecision deferred(String step, String ruleApplied, String format, Object arg0) {
+        return new PricingDecision(step, ruleApplied, requireFormat(format), 1, arg0, null, null, null, null);
+    }
+
+    public static PricingDecision deferred(String step, String ruleApplied, String format, Object arg0, Object arg1) {
+        return new PricingDecision(step, ruleApplied, requireFormat(format), 2, arg0, arg1, null, null, null);
+    }
+
+    public static PricingDecision deferred(String step, String ruleApplied, String format,
+                                           Object arg0, Object arg1, Object arg2) {
+        return new PricingDecision(step, ruleApplied, requireFormat(format), 3, arg0, arg1, arg2, null, null);
+    }
+
+    public static PricingDecision deferred(String step, String ruleApplied, String format,
+                                           Object arg0, Object arg1, Object arg2, Object arg3) {
+        return new PricingDecision(step, ruleApplied, requireFormat(format), 4, arg0, arg1, arg2, arg3, null);
+    }
+
+    /**
+     * Recreates a deferred decision from its stored format and arguments.
+     */
+    public static PricingDecision restore(String step, String ruleApplied, String format, List<Object> arguments) {
+        int count = arguments.size();
+        if (count > MAX_ARGUMENTS) {
+            throw new IllegalArgumentException("At most " + MAX_ARGUMENTS + " arguments: " + count);
+        }
+        return new PricingDecision(step, ruleApplied, requireFormat(format), count,
+            count > 0 ? arguments.get(0) : null,
+            count > 1 ? arguments.get(1) : null,
+            count > 2 ? arguments.get(2) : null,
+            count > 3 ? arguments.get(3) : null,
+            null);
     }
 
     public String getStep() {
@@ -30,7 +93,53 @@ public final class PricingDecision {
     }
 
     public String getResult() {
-        return result;
+        String rendered = result;
+        if (rendered == null) {
+            rendered = render();
+            result = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * @return whether the result is rendered on access from {@link #getFormat()} and the arguments
+     */
+    public boolean isDeferred() {
+        return format != null;
+    }
+
+    /**
+     * @return the format of a deferred decision, or {@code null} for a fixed result
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    public Object getArgument(int index) {
+        Objects.checkIndex(index, argumentCount);
+        return switch (index) {
+            case 0 -> arg0;
+            case 1 -> arg1;
+            case 2 -> arg2;
+            default -> arg3;
+        };
+    }
+
+    private String render() {
+        Object[] plain = new Object[argumentCount];
+        for (int i = 0; i < argumentCount; i++) {
+            Object arg = getArgument(i);
+            plain[i] = arg instanceof BigDecimal decimal ? decimal.toPlainString() : arg;
+        }
+        return String.format(format, plain);
+    }
+
+    private static String requireFormat(String format) {
+        return Objects.requireNonNull(format, "Format cannot be null");
     }
 
     @Override
@@ -40,16 +149,16 @@ public final class PricingDecision {
         PricingDecision that = (PricingDecision) o;
         return step.equals(that.step) &&
                ruleApplied.equals(that.ruleApplied) &&
-               result.equals(that.result);
+               getResult().equals(that.getResult());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(step, ruleApplied, result);
+        return Objects.hash(step, ruleApplied, getResult());
     }
 
     @Override
     public String toString() {
-        return step + " -> " + ruleApplied + " = " + result;
+        return step + " -> " + ruleApplied + " = " + getResult();
     }
 }
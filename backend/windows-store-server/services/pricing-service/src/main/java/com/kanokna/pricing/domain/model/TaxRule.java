@@ -4,11 +4,15 @@ import com.kanokna.pricing.domain.exception.PricingDomainErrors;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Aggregate root for regional tax configurations.
  * Per DEC-PRICING-TAX-STRATEGY (Russia VAT 20% default).
+ *
+ * A rule applies from {@code effectiveFrom} (inclusive) until {@code effectiveTo} (exclusive);
+ * a missing bound is open-ended, so future rate changes can be stored ahead of time.
  */
 public class TaxRule {
     private final TaxRuleId id;
@@ -18,38 +22,68 @@ public class TaxRule {
     private final String taxType;
     private boolean active;
     private final Instant createdAt;
+    private final Instant effectiveFrom;
+    private final Instant effectiveTo;
 
     private TaxRule(TaxRuleId id, String region, String regionName,
                    BigDecimal taxRatePercent, String taxType, boolean active,
-                   Instant createdAt) {
+                   Instant createdAt, Instant effectiveFrom, Instant effectiveTo) {
         this.id = Objects.requireNonNull(id);
-        this.region = Objects.requireNonNull(region).toUpperCase();
+        this.region = Objects.requireNonNull(normalizeRegion(region));
         this.regionName = Objects.requireNonNull(regionName);
         this.taxRatePercent = Objects.requireNonNull(taxRatePercent);
         this.taxType = Objects.requireNonNull(taxType);
         this.active = active;
         this.createdAt = Objects.requireNonNull(createdAt);
+        this.effectiveFrom = effectiveFrom;
+        this.effectiveTo = effectiveTo;
 
         if (taxRatePercent.compareTo(BigDecimal.ZERO) < 0 ||
             taxRatePercent.compareTo(new BigDecimal("100")) > 0) {
             throw PricingDomainErrors.invalidTaxRate(taxRatePercent);
         }
+        if (effectiveFrom != null && effectiveTo != null && !effectiveTo.isAfter(effectiveFrom)) {
+            throw new IllegalArgumentException("Tax rule must end after it starts");
+        }
     }
 
     public static TaxRule create(TaxRuleId id, String region, String regionName,
                                 BigDecimal taxRatePercent, String taxType) {
-        return new TaxRule(id, region, regionName, taxRatePercent, taxType, true, Instant.now());
+        return new TaxRule(id, region, regionName, taxRatePercent, taxType, true, Instant.now(), null, null);
     }
 
     public static TaxRule createVAT(TaxRuleId id, String region, String regionName,
                                    BigDecimal taxRatePercent) {
-        return new TaxRule(id, region, regionName, taxRatePercent, "VAT", true, Instant.now());
+        return new TaxRule(id, region, regionName, taxRatePercent, "VAT", true, Instant.now(), null, null);
     }
 
     public static TaxRule restore(TaxRuleId id, String region, String regionName,
                                   BigDecimal taxRatePercent, String taxType,
                                   boolean active, Instant createdAt) {
-        return new TaxRule(id, region, regionName, taxRatePercent, taxType, active, createdAt);
+        return new TaxRule(id, region, regionName, taxRatePercent, taxType, active, createdAt, null, null);
+    }
+
+    public static TaxRule restore(TaxRuleId id, String region, String regionName,
+                                  BigDecimal taxRatePercent, String taxType,
+                                  boolean active, Instant createdAt,
+                                  Instant effectiveFrom, Instant effectiveTo) {
+        return new TaxRule(id, region, regionName, taxRatePercent, taxType, active, createdAt,
+            effectiveFrom, effectiveTo);
+    }
+
+    /**
+     * @return the region code trimmed and upper-cased, or {@code null} when blank
+     */
+    public static String normalizeRegion(String region) {
+        if (region == null || region.isBlank()) {
+            return null;
+        }
+        return region.trim().toUpperCase(Locale.ROOT);
+    }
+
+    public boolean isEffectiveAt(Instant instant) {
+        return (effectiveFrom == null || !instant.isBefore(effectiveFrom))
+            && (effectiveTo == null || instant.isBefore(effectiveTo));
     }
 
     public Money calculateTax(Money subtotal) {
@@ -93,6 +127,14 @@ public class TaxRule {
         return createdAt;
     }
 
+    public Instant getEffectiveFrom() {
+        return effectiveFrom;
+    }
+
+    public Instant getEffectiveTo() {
+        return effectiveTo;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,70 @@
+package com.kanokna.pricing.domain.model;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tax rules grouped by normalized region.
+ *
+ * Within a region the rule applying at a given instant is the one with the latest
+ * {@code effectiveFrom} among the active rules effective at that instant; rules without a
+ * start date rank last. Inactive rules never apply, so they cannot hide an older active rule.
+ * Immutable.
+ */
+public final class TaxRuleTable {
+    public static final TaxRuleTable EMPTY = new TaxRuleTable(Map.of(), 0);
+
+    private static final Comparator<TaxRule> LATEST_FIRST = Comparator
+        .comparing(TaxRule::getEffectiveFrom, Comparator.nullsFirst(Comparator.<Instant>naturalOrder()))
+        .thenComparing(TaxRule::getCreatedAt)
+        .reversed();
+
+    private final Map<String, List<TaxRule>> byRegion;
+    private final int size;
+
+    private TaxRuleTable(Map<String, List<TaxRule>> byRegion, int size) {
+        this.byRegion = byRegion;
+        this.size = size;
+    }
+
+    public static TaxRuleTable of(Collection<TaxRule> rules) {
+        Map<String, List<TaxRule>> grouped = new HashMap<>();
+        for (TaxRule rule : rules) {
+            grouped.computeIfAbsent(rule.getRegion(), region -> new ArrayList<>()).add(rule);
+        }
+        Map<String, List<TaxRule>> byRegion = new HashMap<>();
+        for (Map.Entry<String, List<TaxRule>> entry : grouped.entrySet()) {
+            List<TaxRule> regionRules = new ArrayList<>(entry.getValue());
+            regionRules.sort(LATEST_FIRST);
+            byRegion.put(entry.getKey(), List.copyOf(regionRules));
+        }
+        return new TaxRuleTable(Map.copyOf(byRegion), rules.size());
+    }
+
+    public Optional<TaxRule> find(String region, Instant at) {
+        String normalized = TaxRule.normalizeRegion(region);
+        if (normalized == null) {
+            return Optional.empty();
+        }
+        for (TaxRule rule : byRegion.getOrDefault(normalized, List.of())) {
+            if (rule.isActive() && rule.isEffectiveAt(at)) {
+                return Optional.of(rule);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int regionCount() {
+        return byRegion.size();
+    }
+}
@@ -59,11 +59,11 @@ public class DiscountService {
         }
 
         Money discount = bestCampaign.applyDiscount(subtotal);
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-04",
             "CAMPAIGN",
-            String.format("eventType=PRICING_STEP decision=APPLIED keyValues=campaignId=%s,discount_rub=%s",
-                bestCampaign.getId(), discount.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=APPLIED keyValues=campaignId=%s,discount_rub=%s",
+            bestCampaign.getId(), discount.getAmount()
         ));
 
         return discount;
@@ -82,21 +82,21 @@ public class DiscountService {
 
         Instant now = Instant.now();
         if (!promoCode.isValid(now, subtotal)) {
-            decisionTrace.add(PricingDecision.of(
+            decisionTrace.add(PricingDecision.deferred(
                 "BA-PRC-CALC-05",
                 "PROMO",
-                String.format("eventType=PRICING_STEP decision=INVALID keyValues=promoCode=%s,discount_rub=0",
-                    promoCode.getCode())
+                "eventType=PRICING_STEP decision=INVALID keyValues=promoCode=%s,discount_rub=0",
+                promoCode.getCode()
             ));
             throw new InvalidPromoCodeException(promoCode.getCode(), "Promo code invalid or expired");
         }
 
         Money discount = promoCode.calculateDiscount(subtotal);
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-05",
             "PROMO",
-            String.format("eventType=PRICING_STEP decision=APPLIED keyValues=promoCode=%s,discount_rub=%s",
-                promoCode.getCode(), discount.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=APPLIED keyValues=promoCode=%s,discount_rub=%s",
+            promoCode.getCode(), discount.getAmount()
         ));
 
         return discount;
@@ -185,6 +185,9 @@ import java.util.Optional;
 /**
  * Domain service for calculating price quotes.
  * Pure business logic, framework-independent.
+ *
+ * When the price book carries a {@link PriceGrid} covering the requested size, base price and
+ * premiums are taken from the grid instead of being recalculated.
  */
 public class PriceCalculationService {
 
@@ -208,45 +211,58 @@ public class PriceCalculationService {
         List<PricingDecision> decisionTrace = new ArrayList<>();
         String currency = priceBook.getCurrency();
 
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-01",
             "LOAD_PRICEBOOK",
-            String.format("eventType=PRICING_STEP decision=FOUND keyValues=productTemplateId=%s,priceBookId=%s",
-                priceBook.getProductTemplateId(), priceBook.getId())
+            "eventType=PRICING_STEP decision=FOUND keyValues=productTemplateId=%s,priceBookId=%s",
+            priceBook.getProductTemplateId(), priceBook.getId()
         ));
 
         List<String> optionIds = selectedOptionIds != null ? selectedOptionIds : List.of();
-
-        // BA-PRC-CALC-02: Calculate base price from dimensions
-        BigDecimal areaM2 = widthCm.multiply(heightCm)
-            .divide(new BigDecimal("10000"), 4, RoundingMode.HALF_UP);
-        Money basePrice = priceBook.getBasePriceEntry().calculateBasePrice(areaM2, currency);
-        decisionTrace.add(PricingDecision.of(
+        PriceGrid priceGrid = priceBook.getPriceGrid();
+        PriceGrid.Entry precomputed = priceGrid != null ? priceGrid.lookup(widthCm, heightCm, optionIds) : null;
+
+        BigDecimal areaM2;
+        Money basePrice;
+        List<PremiumLine> premiumLines;
+        Money totalPremiums;
+        if (precomputed != null) {
+            areaM2 = precomputed.areaM2();
+            basePrice = precomputed.basePrice();
+            premiumLines = precomputed.premiumLines();
+            totalPremiums = precomputed.totalPremiums();
+        } else {
+            // BA-PRC-CALC-02: Calculate base price from dimensions
+            areaM2 = widthCm.multiply(heightCm)
+                .divide(new BigDecimal("10000"), 4, RoundingMode.HALF_UP);
+            basePrice = priceBook.getBasePriceEntry().calculateBasePrice(areaM2, currency);
+
+            // BA-PRC-CALC-03: Apply option premiums
+            premiumLines = new ArrayList<>();
+            totalPremiums = Money.zero(currency);
+            for (String optionId : optionIds) {
+                Optional<OptionPremium> premium = priceBook.findPremiumForOption(optionId);
+                if (premium.isPresent()) {
+                    Money premiumAmount = premium.get().calculatePremium(basePrice);
+                    premiumLines.add(PremiumLine.of(optionId, premium.get().getOptionName(), premiumAmount));
+                    totalPremiums = totalPremiums.add(premiumAmount);
+                }
+            }
+        }
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-02",
             "BASE_PRICE",
-            String.format("eventType=PRICING_STEP decision=CALCULATED keyValues=area_m2=%s,price_per_m2=%s,base_price_rub=%s",
-                areaM2.toPlainString(),
-                priceBook.getBasePriceEntry().getPricePerM2().toPlainString(),
-                basePrice.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=CALCULATED keyValues=area_m2=%s,price_per_m2=%s,base_price_rub=%s",
+            areaM2,
+            priceBook.getBasePriceEntry().getPricePerM2(),
+            basePrice.getAmount()
         ));
-
-        // BA-PRC-CALC-03: Apply option premiums
-        List<PremiumLine> premiumLines = new ArrayList<>();
-        Money totalPremiums = Money.zero(currency);
-        for (String optionId : optionIds) {
-            Optional<OptionPremium> premium = priceBook.findPremiumForOption(optionId);
-            if (premium.isPresent()) {
-                Money premiumAmount = premium.get().calculatePremium(basePrice);
-                premiumLines.add(PremiumLine.of(optionId, premium.get().getOptionName(), premiumAmount));
-                totalPremiums = totalPremiums.add(premiumAmount);
-            }
-        }
         Money priceWithPremiums = basePrice.add(totalPremiums);
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-03",
             "PREMIUMS",
-            String.format("eventType=PRICING_STEP decision=APPLIED keyValues=premium_count=%d,total_premium_rub=%s",
-                premiumLines.size(), totalPremiums.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=APPLIED keyValues=premium_count=%d,total_premium_rub=%s",
+            premiumLines.size(), totalPremiums.getAmount()
         ));
 
         // BA-PRC-CALC-04 & BA-PRC-CALC-05: Apply discounts
@@ -256,11 +272,11 @@ public class PriceCalculationService {
 
         // BA-PRC-CALC-06: Calculate subtotal
         Money discountedSubtotal = priceWithPremiums.subtract(totalDiscount);
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-06",
             "SUBTOTAL",
-            String.format("eventType=PRICING_STEP decision=CALCULATED keyValues=subtotal_rub=%s,discount_rub=%s",
-                discountedSubtotal.getAmount().toPlainString(), totalDiscount.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=CALCULATED keyValues=subtotal_rub=%s,discount_rub=%s",
+            discountedSubtotal.getAmount(), totalDiscount.getAmount()
         ));
 
         // BA-PRC-CALC-07: Calculate tax
@@ -271,11 +287,11 @@ public class PriceCalculationService {
 
         QuoteId quoteId = QuoteId.generate();
         Instant validUntil = Instant.now().plus(Duration.ofMinutes(quoteTtlMinutes));
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-99",
             "FINAL",
-            String.format("eventType=QUOTE_CALCULATED decision=SUCCESS keyValues=quoteId=%s,total_rub=%s,valid_until=%s",
-                quoteId, total.getAmount().toPlainString(), validUntil)
+            "eventType=QUOTE_CALCULATED decision=SUCCESS keyValues=quoteId=%s,total_rub=%s,valid_until=%s",
+            quoteId, total.getAmount(), validUntil
         ));
 
         return Quote.builder()
@@ -28,13 +28,13 @@ public class RoundingService {
             rounded = amount.round(scale, mode);
         }
 
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-08",
             "ROUNDING",
-            String.format("eventType=PRICING_STEP decision=APPLIED keyValues=mode=%s,scale=%d,before=%s,after=%s",
-                mode, scale, amount.getAmount().toPlainString(), rounded.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=APPLIED keyValues=mode=%s,scale=%d,before=%s,after=%s",
+            mode, scale, amount.getAmount(), rounded.getAmount()
         ));
 
         return rounded;
     }
-}
\ No newline at end of file
+}
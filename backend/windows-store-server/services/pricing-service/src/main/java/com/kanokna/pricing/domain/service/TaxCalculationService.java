@@ -22,15 +22,15 @@ public class TaxCalculationService {
 
         Money tax = taxRule.calculateTax(subtotal);
 
-        decisionTrace.add(PricingDecision.of(
+        decisionTrace.add(PricingDecision.deferred(
             "BA-PRC-CALC-07",
             "TAX",
-            String.format("eventType=PRICING_STEP decision=CALCULATED keyValues=region=%s,tax_rate_pct=%s,tax_rub=%s",
-                taxRule.getRegion(),
-                taxRule.getTaxRatePercent().toPlainString(),
-                tax.getAmount().toPlainString())
+            "eventType=PRICING_STEP decision=CALCULATED keyValues=region=%s,tax_rate_pct=%s,tax_rub=%s",
+            taxRule.getRegion(),
+            taxRule.getTaxRatePercent(),
+            tax.getAmount()
         ));
 
         return tax;
     }
-}
\ No newline at end of file
+}
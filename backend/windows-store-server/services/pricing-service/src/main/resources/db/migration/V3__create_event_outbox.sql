@@ -0,0 +1,10 @@
+-- Event Outbox: events written with the quote transaction, relayed to Kafka in id order
+CREATE TABLE pricing.event_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id VARCHAR(100) NOT NULL,
+    event_type VARCHAR(200) NOT NULL,
+    topic VARCHAR(200) NOT NULL,
+    payload BYTEA NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW()
+);
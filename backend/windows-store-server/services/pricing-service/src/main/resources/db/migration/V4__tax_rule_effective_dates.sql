@@ -0,0 +1,13 @@
+-- Tax rules: effective-date ranges so future rate changes can be stored ahead of time.
+-- A region may now have several rules; the one in effect is chosen by date.
+ALTER TABLE pricing.tax_rules DROP CONSTRAINT IF EXISTS tax_rules_region_key;
+
+ALTER TABLE pricing.tax_rules
+    ADD COLUMN effective_from TIMESTAMP WITH TIME ZONE,
+    ADD COLUMN effective_to TIMESTAMP WITH TIME ZONE,
+    ADD CONSTRAINT chk_tax_rules_effective_range
+        CHECK (effective_to IS NULL OR effective_from IS NULL OR effective_to > effective_from);
+
+-- Lookups are case-insensitive (findByRegionIgnoreCase)
+DROP INDEX IF EXISTS pricing.idx_tax_rules_region;
+CREATE INDEX idx_tax_rules_region_upper ON pricing.tax_rules(UPPER(region));
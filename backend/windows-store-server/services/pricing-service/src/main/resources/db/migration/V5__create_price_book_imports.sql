@@ -0,0 +1,17 @@
+-- Bulk price-book imports: drafts are written per import and published together.
+CREATE TABLE pricing.price_book_imports (
+    id UUID PRIMARY KEY,
+    status VARCHAR(20) NOT NULL,
+    price_book_count INT NOT NULL DEFAULT 0,
+    premium_count INT NOT NULL DEFAULT 0,
+    version BIGINT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT NOW(),
+    created_by VARCHAR(100),
+    published_at TIMESTAMP WITH TIME ZONE,
+    published_by VARCHAR(100)
+);
+
+ALTER TABLE pricing.price_books
+    ADD COLUMN import_id UUID REFERENCES pricing.price_book_imports(id);
+
+CREATE INDEX idx_price_books_import ON pricing.price_books(import_id) WHERE import_id IS NOT NULL;
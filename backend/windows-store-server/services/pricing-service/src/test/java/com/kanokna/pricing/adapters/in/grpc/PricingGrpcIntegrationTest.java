@@ -6,13 +6,17 @@ import com.kanokna.common.v1.Currency;
 import com.kanokna.common.v1.Dimensions;
 import com.kanokna.pricing.v1.CalculateQuoteRequest;
 import com.kanokna.pricing.v1.CalculateQuoteResponse;
+import com.kanokna.pricing.v1.StreamQuotesRequest;
+import com.kanokna.pricing.v1.StreamQuotesResponse;
 import com.kanokna.pricing.v1.ValidatePromoCodeRequest;
 import com.kanokna.pricing.v1.ValidatePromoCodeResponse;
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
 import com.kanokna.pricing.application.dto.PromoCodeValidationResponse;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
 import com.kanokna.pricing.application.dto.QuoteResponse;
 import com.kanokna.pricing.application.dto.ValidatePromoCodeCommand;
 import com.kanokna.pricing.application.port.in.CalculateQuoteUseCase;
+import com.kanokna.pricing.application.port.in.QuoteSession;
 import com.kanokna.pricing.application.port.in.ValidatePromoCodeUseCase;
 import com.kanokna.pricing.domain.model.Money;
 import com.kanokna.pricing.domain.model.PremiumLine;
@@ -24,9 +28,13 @@ import org.mockito.ArgumentCaptor;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class PricingGrpcIntegrationTest {
@@ -40,7 +48,9 @@ class PricingGrpcIntegrationTest {
         PricingGrpcService service = new PricingGrpcService(
             calculateQuoteUseCase,
             validatePromoCodeUseCase,
-            mapper
+            mapper,
+            Runnable::run,
+            60
         );
 
         QuoteResponse quoteResponse = new QuoteResponse();
@@ -108,7 +118,9 @@ class PricingGrpcIntegrationTest {
         PricingGrpcService service = new PricingGrpcService(
             calculateQuoteUseCase,
             validatePromoCodeUseCase,
-            mapper
+            mapper,
+            Runnable::run,
+            60
         );
 
         when(validatePromoCodeUseCase.validatePromoCode(any()))
@@ -140,13 +152,108 @@ class PricingGrpcIntegrationTest {
         assertEquals("RUB", command.getCurrency());
     }
 
+    @Test
+    @DisplayName("StreamQuotes prices only the latest merged configuration and reuses the session")
+    void streamQuotesCoalescesUpdates() {
+        CalculateQuoteUseCase calculateQuoteUseCase = mock(CalculateQuoteUseCase.class);
+        QuoteSession session = mock(QuoteSession.class);
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        PricingGrpcService service = new PricingGrpcService(
+            calculateQuoteUseCase,
+            mock(ValidatePromoCodeUseCase.class),
+            new PricingGrpcMapper(),
+            tasks::add,
+            60
+        );
+
+        QuoteResponse quoteResponse = new QuoteResponse();
+        quoteResponse.setQuoteId("QUOTE-1");
+        quoteResponse.setBasePrice("1000 RUB");
+        quoteResponse.setDiscount("0 RUB");
+        quoteResponse.setSubtotal("1000 RUB");
+        quoteResponse.setTax("200 RUB");
+        quoteResponse.setTotal("1200 RUB");
+        quoteResponse.setValidUntil(Instant.parse("2026-01-01T10:00:00Z"));
+        when(calculateQuoteUseCase.openSession("PROMO10", "RU")).thenReturn(session);
+        when(session.calculateQuote(any(), any()))
+            .thenAnswer(invocation -> QuoteBatchItemResult.success(invocation.getArgument(0), quoteResponse));
+
+        TestObserver<StreamQuotesResponse> observer = new TestObserver<>();
+        StreamObserver<StreamQuotesRequest> requests = service.streamQuotes(observer);
+        requests.onNext(StreamQuotesRequest.newBuilder()
+            .setSequence(1)
+            .setProductTemplateId("WINDOW-STD")
+            .setDimensions(Dimensions.newBuilder().setWidthCm(120).setHeightCm(130).build())
+            .setCurrency(Currency.CURRENCY_RUB)
+            .setPromoCode("PROMO10")
+            .setRegion("RU")
+            .build());
+        requests.onNext(StreamQuotesRequest.newBuilder()
+            .setSequence(2)
+            .setDimensions(Dimensions.newBuilder().setWidthCm(121).setHeightCm(130).build())
+            .build());
+        requests.onNext(StreamQuotesRequest.newBuilder()
+            .setSequence(3)
+            .setResolvedBom(BillOfMaterials.newBuilder()
+                .addLines(BomLine.newBuilder().setSku("OPT-A").setDescription("Handle").setQuantity(1).build())
+                .build())
+            .build());
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+
+        requests.onNext(StreamQuotesRequest.newBuilder()
+            .setSequence(4)
+            .setDimensions(Dimensions.newBuilder().setWidthCm(122).setHeightCm(130).build())
+            .build());
+        requests.onCompleted();
+        assertFalse(observer.completed);
+        tasks.poll().run();
+
+        assertNull(observer.error);
+        assertTrue(observer.completed);
+        assertEquals(List.of(3L, 4L), observer.values.stream().map(StreamQuotesResponse::getSequence).toList());
+        assertEquals("QUOTE-1", observer.values.get(0).getQuote().getQuoteId());
+        verify(calculateQuoteUseCase, times(1)).openSession("PROMO10", "RU");
+
+        ArgumentCaptor<CalculateQuoteCommand> captor = ArgumentCaptor.forClass(CalculateQuoteCommand.class);
+        verify(session).calculateQuote(eq("3"), captor.capture());
+        assertEquals("WINDOW-STD", captor.getValue().getProductTemplateId());
+        assertEquals(0, captor.getValue().getWidthCm().compareTo(new BigDecimal("121")));
+        assertEquals(List.of("OPT-A"), captor.getValue().getResolvedBom());
+        verify(session).calculateQuote(eq("4"), any());
+    }
+
+    @Test
+    @DisplayName("StreamQuotes reports an incomplete configuration without closing the stream")
+    void streamQuotesReportsIncompleteConfiguration() {
+        CalculateQuoteUseCase calculateQuoteUseCase = mock(CalculateQuoteUseCase.class);
+        PricingGrpcService service = new PricingGrpcService(
+            calculateQuoteUseCase,
+            mock(ValidatePromoCodeUseCase.class),
+            new PricingGrpcMapper(),
+            Runnable::run,
+            60
+        );
+
+        TestObserver<StreamQuotesResponse> observer = new TestObserver<>();
+        StreamObserver<StreamQuotesRequest> requests = service.streamQuotes(observer);
+        requests.onNext(StreamQuotesRequest.newBuilder().setSequence(1).setProductTemplateId("WINDOW-STD").build());
+
+        assertNull(observer.error);
+        assertFalse(observer.completed);
+        assertEquals("ERR-PRC-INCOMPLETE-CONFIGURATION", observer.value.getError().getCode());
+        verify(calculateQuoteUseCase, never()).openSession(any(), any());
+    }
+
     private static class TestObserver<T> implements StreamObserver<T> {
+        private final List<T> values = new ArrayList<>();
         private T value;
         private Throwable error;
         private boolean completed;
 
         @Override
         public void onNext(T value) {
+            this.values.add(value);
             this.value = value;
         }
 
@@ -0,0 +1,89 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaEntity;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaRepository;
+import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboxEventPublisherTest {
+
+    private OutboxEventJpaRepository outboxRepository;
+    private PlatformTransactionManager transactionManager;
+    private OutboxEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxEventJpaRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        publisher = new OutboxEventPublisher(outboxRepository, new EventSerializer(), transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Events join the caller's read-write transaction")
+    void readWriteCallerWritesInItsTransaction() {
+        publisher.publishQuoteCalculated(event());
+
+        ArgumentCaptor<OutboxEventJpaEntity> captor = ArgumentCaptor.forClass(OutboxEventJpaEntity.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals("pricing.quote.calculated", captor.getValue().getTopic());
+        assertEquals("kanokna.pricing.v1.QuoteCalculatedEvent", captor.getValue().getEventType());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Events of read-only callers are written in a new write transaction")
+    void readOnlyCallerWritesInNewTransaction() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        publisher.publishQuoteCalculated(event());
+
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getValue().getPropagationBehavior());
+        assertFalse(definition.getValue().isReadOnly());
+        verify(outboxRepository).save(any());
+        verify(transactionManager).commit(any());
+    }
+
+    private QuoteCalculatedEvent event() {
+        Money total = Money.of(new BigDecimal("1200.00"), "RUB");
+        Quote quote = Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(total)
+            .optionPremiums(List.of())
+            .discount(Money.of(BigDecimal.ZERO, "RUB"))
+            .subtotal(total)
+            .tax(Money.of(BigDecimal.ZERO, "RUB"))
+            .total(total)
+            .validUntil(Instant.now().plusSeconds(300))
+            .decisionTrace(List.of())
+            .build();
+        return QuoteCalculatedEvent.of(quote, null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaEntity;
+import com.kanokna.pricing.adapters.out.persistence.OutboxEventJpaRepository;
+import com.kanokna.pricing.v1.QuoteCalculatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    private OutboxEventJpaRepository outboxRepository;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        outboxRepository = mock(OutboxEventJpaRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxRepository, new EventSerializer(), kafkaTemplate, transactionManager,
+            meterRegistry, 2, 10, 1000);
+    }
+
+    @Test
+    @DisplayName("Relay sends full batches until the outbox is drained and deletes sent rows")
+    void relaySendsAndDeletesBatches() {
+        OutboxEventJpaEntity first = event(1L, "Q-1");
+        OutboxEventJpaEntity second = event(2L, "Q-2");
+        OutboxEventJpaEntity third = event(3L, "Q-3");
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of(first, second), List.of(third));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        verify(kafkaTemplate).send(eq("pricing.quote.calculated"), eq("Q-1"), any(QuoteCalculatedEvent.class));
+        verify(kafkaTemplate).send(eq("pricing.quote.calculated"), eq("Q-3"), any(QuoteCalculatedEvent.class));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.counter("pricing.outbox.relayed").count());
+        assertEquals(0.0, meterRegistry.get("pricing.outbox.lag").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Failed send rolls back the batch and keeps the rows for the next run")
+    void failedSendRollsBack() {
+        OutboxEventJpaEntity first = event(1L, "Q-1");
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of(first));
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+        verify(transactionManager).rollback(any());
+        assertEquals(0.0, meterRegistry.counter("pricing.outbox.relayed").count());
+        assertEquals(1.0, meterRegistry.counter("pricing.outbox.relay.failures").count());
+    }
+
+    @Test
+    @DisplayName("Unreadable rows are dropped instead of blocking the outbox")
+    void unreadableRowsAreDropped() {
+        OutboxEventJpaEntity unknown = new OutboxEventJpaEntity(
+            "Quote", "Q-9", "kanokna.pricing.v1.Unknown", "pricing.quote.calculated", new byte[] {1}, Instant.now());
+        when(outboxRepository.lockNextBatch(2)).thenReturn(List.of(unknown));
+        when(outboxRepository.findOldestCreatedAt()).thenReturn(Instant.now().minusSeconds(30));
+
+        relay.relay();
+
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), any());
+        verify(outboxRepository).deleteAllByIdInBatch(any());
+        assertEquals(1.0, meterRegistry.counter("pricing.outbox.dropped").count());
+        assertTrue(meterRegistry.get("pricing.outbox.lag").gauge().value() >= 30.0);
+    }
+
+    private OutboxEventJpaEntity event(long id, String quoteId) {
+        OutboxEventJpaEntity entity = spy(new OutboxEventJpaEntity(
+            "Quote",
+            quoteId,
+            QuoteCalculatedEvent.getDescriptor().getFullName(),
+            "pricing.quote.calculated",
+            QuoteCalculatedEvent.newBuilder().setQuoteId(quoteId).build().toByteArray(),
+            Instant.now()));
+        doReturn(id).when(entity).getId();
+        return entity;
+    }
+}
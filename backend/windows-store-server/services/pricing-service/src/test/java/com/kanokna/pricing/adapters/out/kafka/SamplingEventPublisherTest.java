@@ -0,0 +1,129 @@
+package com.kanokna.pricing.adapters.out.kafka;
+
+import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SamplingEventPublisherTest {
+
+    private static final long WINDOW_SECONDS = 86_400;
+
+    private OutboxEventPublisher delegate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(OutboxEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Full mode publishes every quote")
+    void fullModePublishesEveryQuote() {
+        SamplingEventPublisher publisher = publisher(SamplingEventPublisher.Mode.FULL, 0.0, List.of());
+
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "100"));
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "200"));
+
+        verify(delegate, times(2)).publishQuoteCalculated(any());
+    }
+
+    @Test
+    @DisplayName("Sampled mode applies the product rate before the default rate")
+    void sampledModeUsesProductRate() {
+        SamplingEventPublisher publisher = publisher(
+            SamplingEventPublisher.Mode.SAMPLED, 1.0, List.of("WINDOW-STD=0", "DOOR-STD = 1.0"));
+
+        for (int i = 0; i < 10; i++) {
+            publisher.publishQuoteCalculated(event("WINDOW-STD", "100"));
+            publisher.publishQuoteCalculated(event("DOOR-STD", "100"));
+            publisher.publishQuoteCalculated(event("BALCONY-STD", "100"));
+        }
+
+        verify(delegate, times(20)).publishQuoteCalculated(any());
+        verify(delegate, never()).publishQuoteCalculated(argThat(e -> e.getProductTemplateId().equals("WINDOW-STD")));
+        assertEquals(10.0, meterRegistry.counter("pricing.events.quote.calculated", "outcome", "skipped").count());
+    }
+
+    @Test
+    @DisplayName("Aggregated mode publishes count, sum, min and max per product once the window closes")
+    void aggregatedModePublishesClosedWindows() {
+        SamplingEventPublisher publisher = publisher(SamplingEventPublisher.Mode.AGGREGATED, 1.0, List.of());
+
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "1200.50"));
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "800.00"));
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "1000.00"));
+        publisher.publishQuoteCalculated(event("DOOR-STD", "5000.00"));
+
+        publisher.flush(Instant.now().minusSeconds(WINDOW_SECONDS));
+        verify(delegate, never()).publishQuoteAggregate(any());
+        assertEquals(2, publisher.openWindows());
+
+        publisher.flush(Instant.now().plusSeconds(WINDOW_SECONDS));
+
+        ArgumentCaptor<QuoteWindowAggregate> captor = ArgumentCaptor.forClass(QuoteWindowAggregate.class);
+        verify(delegate, times(2)).publishQuoteAggregate(captor.capture());
+        verify(delegate, never()).publishQuoteCalculated(any());
+        QuoteWindowAggregate window = captor.getAllValues().stream()
+            .filter(aggregate -> aggregate.productTemplateId().equals("WINDOW-STD"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(3, window.count());
+        assertEquals(new BigDecimal("3000.50"), window.totalSum());
+        assertEquals(new BigDecimal("800.00"), window.totalMin());
+        assertEquals(new BigDecimal("1200.50"), window.totalMax());
+        assertEquals(WINDOW_SECONDS, window.windowEnd().getEpochSecond() - window.windowStart().getEpochSecond());
+        assertEquals(0, publisher.openWindows());
+    }
+
+    @Test
+    @DisplayName("Aggregated windows are kept when publishing fails")
+    void failedAggregateIsRetried() {
+        SamplingEventPublisher publisher = publisher(SamplingEventPublisher.Mode.AGGREGATED, 1.0, List.of());
+        doThrow(new IllegalStateException("db down")).doNothing().when(delegate).publishQuoteAggregate(any());
+
+        publisher.publishQuoteCalculated(event("WINDOW-STD", "100"));
+        publisher.flush(Instant.now().plusSeconds(WINDOW_SECONDS));
+        assertEquals(1, publisher.openWindows());
+
+        publisher.flush(Instant.now().plusSeconds(WINDOW_SECONDS));
+        assertEquals(0, publisher.openWindows());
+        verify(delegate, times(2)).publishQuoteAggregate(any());
+    }
+
+    private SamplingEventPublisher publisher(SamplingEventPublisher.Mode mode, double defaultRate, List<String> rates) {
+        // Day-long windows keep the quotes of one test in a single window
+        return new SamplingEventPublisher(delegate, meterRegistry, mode, defaultRate, rates, WINDOW_SECONDS);
+    }
+
+    private QuoteCalculatedEvent event(String productTemplateId, String total) {
+        Money amount = Money.of(new BigDecimal(total), "RUB");
+        Quote quote = Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId(productTemplateId)
+            .basePrice(amount)
+            .optionPremiums(List.of())
+            .discount(Money.of(BigDecimal.ZERO, "RUB"))
+            .subtotal(amount)
+            .tax(Money.of(BigDecimal.ZERO, "RUB"))
+            .total(amount)
+            .validUntil(Instant.now().plusSeconds(300))
+            .decisionTrace(List.of())
+            .build();
+        return QuoteCalculatedEvent.of(quote, null);
+    }
+}
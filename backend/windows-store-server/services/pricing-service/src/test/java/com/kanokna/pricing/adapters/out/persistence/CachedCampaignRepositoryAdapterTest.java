@@ -0,0 +1,94 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.domain.model.Campaign;
+import com.kanokna.pricing.domain.model.CampaignId;
+import com.kanokna.pricing.domain.model.CampaignRule;
+import com.kanokna.pricing.domain.model.CampaignStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedCampaignRepositoryAdapterTest {
+
+    @Mock
+    private CampaignRepositoryAdapter delegate;
+
+    private CachedCampaignRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedCampaignRepositoryAdapter(delegate, true);
+    }
+
+    @Test
+    @DisplayName("Product bucket includes product-specific and global campaigns ordered by start")
+    void productBucketMergesGlobalCampaigns() {
+        Instant now = Instant.now();
+        Campaign global = campaign(Set.of(), now.minusSeconds(7200), now.plusSeconds(3600));
+        Campaign window = campaign(Set.of("WINDOW-STD"), now.minusSeconds(3600), now.plusSeconds(3600));
+        Campaign door = campaign(Set.of("DOOR-STD"), now.minusSeconds(3600), now.plusSeconds(3600));
+        when(delegate.findActiveEndingAfter(any())).thenReturn(List.of(window, door, global));
+
+        adapter.loadOnStartup();
+
+        assertEquals(List.of(global, window), adapter.findActiveForProduct("WINDOW-STD"));
+        assertEquals(List.of(global), adapter.findActiveForProduct("BALCONY-STD"));
+        assertEquals(1, adapter.generation());
+        verify(delegate, never()).findActiveForProduct(any());
+    }
+
+    @Test
+    @DisplayName("Window boundaries rebuild buckets in memory without reloading")
+    void windowBoundaryRebuildsBuckets() {
+        Instant now = Instant.now();
+        Campaign ending = campaign(Set.of("WINDOW-STD"), now.minusSeconds(3600), now.plusSeconds(60));
+        Campaign starting = campaign(Set.of("WINDOW-STD"), now.plusSeconds(120), now.plusSeconds(3600));
+        when(delegate.findActiveEndingAfter(any())).thenReturn(List.of(ending, starting));
+        adapter.loadOnStartup();
+
+        assertEquals(List.of(ending), adapter.findActiveForProduct("WINDOW-STD", now.plusSeconds(1)));
+        assertEquals(List.of(), adapter.findActiveForProduct("WINDOW-STD", now.plusSeconds(90)));
+        assertEquals(List.of(starting), adapter.findActiveForProduct("WINDOW-STD", now.plusSeconds(180)));
+
+        assertEquals(3, adapter.generation());
+        verify(delegate, times(1)).findActiveEndingAfter(any());
+    }
+
+    @Test
+    @DisplayName("Lookups before the first load go to the database")
+    void lookupBeforeLoadFallsThrough() {
+        Campaign campaign = campaign(Set.of(), Instant.now().minusSeconds(60), Instant.now().plusSeconds(60));
+        when(delegate.findActiveForProduct("WINDOW-STD")).thenReturn(List.of(campaign));
+
+        assertEquals(List.of(campaign), adapter.findActiveForProduct("WINDOW-STD"));
+    }
+
+    private Campaign campaign(Set<String> products, Instant start, Instant end) {
+        return Campaign.restore(
+            CampaignId.generate(),
+            "Campaign",
+            null,
+            CampaignRule.percentage(new BigDecimal("10"), null),
+            products,
+            start,
+            end,
+            CampaignStatus.ACTIVE,
+            1,
+            start,
+            "tester"
+        );
+    }
+}
@@ -0,0 +1,134 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.domain.event.PriceBookPublishedEvent;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import com.kanokna.pricing.domain.model.PriceBookStatus;
+import com.kanokna.pricing.domain.model.PriceGrid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedPriceBookRepositoryAdapterTest {
+
+    @Mock
+    private PriceBookRepositoryAdapter delegate;
+    @Mock
+    private PriceBookJpaRepository repository;
+
+    private final PriceBookMapper mapper = new PriceBookMapper();
+
+    private CachedPriceBookRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedPriceBookRepositoryAdapter(delegate, repository, mapper, true, 2, PriceGrid.Layout.NONE);
+    }
+
+    @Test
+    @DisplayName("Startup snapshot serves active price books without hitting the database")
+    void snapshotServesActivePriceBooks() {
+        PriceBookJpaEntity entity = mapper.toEntity(priceBook("WINDOW-STD"));
+        when(repository.findIdsByStatus(eq(PriceBookStatus.ACTIVE), any(Pageable.class)))
+            .thenReturn(List.of(entity.getId()));
+        when(repository.findByIdIn(List.of(entity.getId()))).thenReturn(List.of(entity));
+
+        adapter.loadOnStartup();
+        Optional<PriceBook> found = adapter.findActiveByProductTemplateId("WINDOW-STD");
+
+        assertTrue(found.isPresent());
+        assertEquals(entity.getId(), found.get().getId().getValue());
+        assertEquals(1, adapter.generation());
+        verify(delegate, never()).findActiveByProductTemplateId(any());
+    }
+
+    @Test
+    @DisplayName("Snapshot miss falls through to the database")
+    void snapshotMissFallsThrough() {
+        PriceBook priceBook = priceBook("DOOR-STD");
+        when(delegate.findActiveByProductTemplateId("DOOR-STD")).thenReturn(Optional.of(priceBook));
+
+        Optional<PriceBook> found = adapter.findActiveByProductTemplateId("DOOR-STD");
+
+        assertEquals(Optional.of(priceBook), found);
+    }
+
+    @Test
+    @DisplayName("Publish event swaps in the newly active price book")
+    void publishEventSwapsSnapshot() {
+        PriceBook published = priceBook("WINDOW-STD");
+        when(delegate.findActiveByProductTemplateId("WINDOW-STD")).thenReturn(Optional.of(published));
+
+        adapter.onPriceBookPublished(PriceBookPublishedEvent.of(published.getId(), "WINDOW-STD", 1, "admin"));
+        clearInvocations(delegate);
+
+        PriceBook cached = adapter.findActiveByProductTemplateId("WINDOW-STD").orElseThrow();
+        assertEquals(published, cached);
+        assertNotSame(published, cached);
+        verify(delegate, never()).findActiveByProductTemplateId(any());
+    }
+
+    @Test
+    @DisplayName("Snapshot entries are read-only copies")
+    void snapshotEntriesAreReadOnly() {
+        when(delegate.findActiveByProductTemplateId("WINDOW-STD")).thenReturn(Optional.of(priceBook("WINDOW-STD")));
+        adapter.refreshProduct("WINDOW-STD");
+
+        PriceBook cached = adapter.findActiveByProductTemplateId("WINDOW-STD").orElseThrow();
+
+        assertTrue(cached.isReadOnly());
+        assertThrows(IllegalStateException.class, cached::archive);
+    }
+
+    @Test
+    @DisplayName("Polling reloads the snapshot only when another instance changed price books")
+    void pollingReloadsOnFingerprintChange() {
+        Instant published = Instant.parse("2026-01-01T10:00:00Z");
+        when(repository.countByStatus(PriceBookStatus.ACTIVE)).thenReturn(1L);
+        when(repository.findLastUpdatedAt()).thenReturn(Optional.of(published));
+        adapter.loadOnStartup();
+
+        adapter.scheduledRefresh();
+        assertEquals(1, adapter.generation());
+
+        when(repository.findLastUpdatedAt()).thenReturn(Optional.of(published.plusSeconds(5)));
+        adapter.scheduledRefresh();
+        assertEquals(2, adapter.generation());
+        verify(repository, times(2)).findIdsByStatus(eq(PriceBookStatus.ACTIVE), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Snapshot never grows past the configured size limit")
+    void snapshotRespectsSizeLimit() {
+        for (String product : List.of("P-1", "P-2", "P-3")) {
+            when(delegate.findActiveByProductTemplateId(product)).thenReturn(Optional.of(priceBook(product)));
+            adapter.refreshProduct(product);
+        }
+
+        assertEquals(2, adapter.size());
+    }
+
+    private PriceBook priceBook(String productTemplateId) {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of(productTemplateId, new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        PriceBook priceBook = PriceBook.create(PriceBookId.of(UUID.randomUUID()), productTemplateId, "RUB", basePriceEntry, "tester");
+        priceBook.publish();
+        return priceBook;
+    }
+}
@@ -0,0 +1,84 @@
+package com.kanokna.pricing.adapters.out.persistence;
+
+import com.kanokna.pricing.domain.model.TaxRule;
+import com.kanokna.pricing.domain.model.TaxRuleId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedTaxRuleRepositoryAdapterTest {
+
+    @Mock
+    private TaxRuleRepositoryAdapter delegate;
+
+    private CachedTaxRuleRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CachedTaxRuleRepositoryAdapter(delegate, true);
+    }
+
+    @Test
+    @DisplayName("Loaded table answers lookups without the database")
+    void loadedTableServesLookups() {
+        TaxRule rule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        when(delegate.findAll()).thenReturn(List.of(rule));
+
+        adapter.loadOnStartup();
+
+        assertEquals(Optional.of(rule), adapter.findByRegion("ru"));
+        assertTrue(adapter.findByRegion("KZ").isEmpty());
+        verify(delegate, never()).findByRegion(any());
+    }
+
+    @Test
+    @DisplayName("A rule stored ahead of time applies at its start without a reload")
+    void futureRuleAppliesWithoutReload() {
+        Instant now = Instant.now();
+        TaxRule current = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        TaxRule upcoming = TaxRule.restore(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("22"), "VAT",
+            true, now, now.plusSeconds(3600), null);
+        when(delegate.findAll()).thenReturn(List.of(current, upcoming));
+        adapter.loadOnStartup();
+
+        assertEquals(Optional.of(current), adapter.findByRegion("RU", now));
+        assertEquals(Optional.of(upcoming), adapter.findByRegion("RU", now.plusSeconds(3600)));
+        verify(delegate, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Saving a rule reloads the table")
+    void saveReloads() {
+        TaxRule rule = TaxRule.createVAT(TaxRuleId.generate(), "KZ", "Kazakhstan", new BigDecimal("12"));
+        when(delegate.findAll()).thenReturn(List.of(), List.of(rule));
+        when(delegate.save(rule)).thenReturn(rule);
+        adapter.loadOnStartup();
+        assertTrue(adapter.findByRegion("KZ").isEmpty());
+
+        adapter.save(rule);
+
+        assertEquals(Optional.of(rule), adapter.findByRegion("KZ"));
+    }
+
+    @Test
+    @DisplayName("Lookups before the first load go to the database")
+    void lookupBeforeLoadFallsThrough() {
+        TaxRule rule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        when(delegate.findByRegion("RU")).thenReturn(Optional.of(rule));
+
+        assertEquals(Optional.of(rule), adapter.findByRegion("RU"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.port.out.QuoteCacheKey;
+import com.kanokna.pricing.domain.event.PriceBookPublishedEvent;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NearQuoteCacheTest {
+
+    @Mock
+    private QuoteRedisCache redisCache;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NearQuoteCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new NearQuoteCache(redisCache, meterRegistry, true, 100, 30);
+    }
+
+    @Test
+    @DisplayName("Redis hit is promoted to the local tier and served locally afterwards")
+    void redisHitPromotedToLocalTier() {
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook(), command());
+        Quote quote = quote();
+        when(redisCache.get(key)).thenReturn(Optional.of(quote));
+
+        assertSame(quote, cache.get(key).orElseThrow());
+        assertSame(quote, cache.get(key).orElseThrow());
+
+        verify(redisCache, times(1)).get(key);
+        assertEquals(1.0, count("local", "hit"));
+        assertEquals(1.0, count("local", "miss"));
+        assertEquals(1.0, count("redis", "hit"));
+    }
+
+    @Test
+    @DisplayName("Publishing a price book drops local entries of that product")
+    void publishDropsLocalEntries() {
+        PriceBook priceBook = priceBook();
+        cache.put(QuoteCacheKey.from(priceBook, command()), quote(), 5);
+        assertEquals(1, cache.localSize());
+
+        cache.onPriceBookPublished(PriceBookPublishedEvent.of(priceBook.getId(), "WINDOW-STD", 2, "admin"));
+
+        assertEquals(0, cache.localSize());
+        assertEquals(1.0, meterRegistry.get("pricing.quote.cache.evictions").tag("tier", "local").counter().count());
+    }
+
+    @Test
+    @DisplayName("Evicting a product counts only the local entries actually removed")
+    void evictCountsRemovedLocalEntries() {
+        cache.put(QuoteCacheKey.from(priceBook(), command()), quote(), 5);
+
+        cache.evictByProductTemplateId("WINDOW-STD");
+        cache.evictByProductTemplateId("WINDOW-STD");
+
+        verify(redisCache, times(2)).evictByProductTemplateId("WINDOW-STD");
+        assertEquals(1.0, meterRegistry.get("pricing.quote.cache.evictions").tag("tier", "local").counter().count());
+        assertNull(meterRegistry.find("pricing.quote.cache.evictions").tag("tier", "redis").counter());
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("pricing.quote.cache.requests")
+            .tag("tier", tier)
+            .tag("result", result)
+            .counter()
+            .count();
+    }
+
+    private CalculateQuoteCommand command() {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId("WINDOW-STD");
+        command.setWidthCm(new BigDecimal("100"));
+        command.setHeightCm(new BigDecimal("100"));
+        command.setResolvedBom(List.of("OPT-A"));
+        command.setCurrency("RUB");
+        command.setRegion("RU");
+        return command;
+    }
+
+    private PriceBook priceBook() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "tester");
+        priceBook.publish();
+        return priceBook;
+    }
+
+    private Quote quote() {
+        return Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(Money.of(new BigDecimal("1000"), "RUB"))
+            .optionPremiums(List.of())
+            .discount(Money.of(BigDecimal.ZERO, "RUB"))
+            .subtotal(Money.of(new BigDecimal("1000"), "RUB"))
+            .tax(Money.of(BigDecimal.ZERO, "RUB"))
+            .total(Money.of(new BigDecimal("1000"), "RUB"))
+            .validUntil(Instant.now().plusSeconds(300))
+            .decisionTrace(List.of())
+            .build();
+    }
+}
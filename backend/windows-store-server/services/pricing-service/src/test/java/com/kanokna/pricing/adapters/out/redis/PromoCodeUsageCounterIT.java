@@ -0,0 +1,141 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.application.port.out.PromoCodeRepository;
+import com.kanokna.pricing.domain.model.*;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PromoCodeUsageCounterIT {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 25;
+
+    private static final GenericContainer<?> redis = new GenericContainer<>(
+        DockerImageName.parse("redis:7-alpine")
+    ).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private PromoCodeRepository promoCodeRepository;
+    private PromoCodeUsageRedisCounter counter;
+
+    @BeforeAll
+    static void setupRedis() {
+        if (!redis.isRunning()) {
+            redis.start();
+        }
+        connectionFactory = new LettuceConnectionFactory(redis.getHost(), redis.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis.isRunning()) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        promoCodeRepository = mock(PromoCodeRepository.class);
+        counter = new PromoCodeUsageRedisCounter(redisTemplate, promoCodeRepository);
+        redisTemplate.getConnectionFactory().getConnection().flushDb();
+    }
+
+    @Test
+    @DisplayName("Concurrent quotes never exceed the promo usage limit")
+    void concurrentAcquisitionsStopAtLimit() throws Exception {
+        PromoCode promoCode = promoCode(50, 10);
+
+        int acquired = race(promoCode);
+
+        assertEquals(40, acquired);
+        assertEquals("50", redisTemplate.opsForValue().get("promo:usage:" + promoCode.getId().getValue()));
+    }
+
+    @Test
+    @DisplayName("Unlimited promo codes count every use")
+    void unlimitedPromoCountsEveryUse() throws Exception {
+        PromoCode promoCode = promoCode(null, 0);
+
+        int acquired = race(promoCode);
+
+        assertEquals(THREADS * ATTEMPTS_PER_THREAD, acquired);
+        assertEquals(Integer.toString(THREADS * ATTEMPTS_PER_THREAD),
+            redisTemplate.opsForValue().get("promo:usage:" + promoCode.getId().getValue()));
+    }
+
+    @Test
+    @DisplayName("Reconcile writes the counter back once per touched promo code")
+    void reconcileWritesCounterBack() {
+        PromoCode promoCode = promoCode(10, 3);
+
+        assertTrue(counter.tryAcquire(promoCode));
+        assertTrue(counter.tryAcquire(promoCode));
+        counter.reconcile();
+        counter.reconcile();
+
+        verify(promoCodeRepository, times(1)).recordUsageCount(promoCode.getId(), 5);
+    }
+
+    private int race(PromoCode promoCode) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        if (counter.tryAcquire(promoCode)) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(30, TimeUnit.SECONDS);
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private PromoCode promoCode(Integer usageLimit, int usageCount) {
+        Instant now = Instant.now();
+        return PromoCode.restore(
+            PromoCodeId.generate(), "WELCOME5", "Promo", DiscountType.PERCENTAGE, new BigDecimal("5"),
+            null, null, usageLimit, usageCount, now.minusSeconds(3600), now.plusSeconds(3600), true, now, "tester");
+    }
+}
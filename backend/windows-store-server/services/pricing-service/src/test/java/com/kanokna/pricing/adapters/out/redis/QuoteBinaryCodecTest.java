@@ -0,0 +1,78 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.PremiumLine;
+import com.kanokna.pricing.domain.model.PricingDecision;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteBinaryCodecTest {
+
+    @Test
+    @DisplayName("Binary codec round-trips amounts, premiums and trace exactly")
+    void roundTripsQuote() {
+        Quote quote = Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(Money.of(new BigDecimal("1000.00"), "RUB"))
+            .optionPremiums(List.of(PremiumLine.of("OPT-A", "Handle", Money.of(new BigDecimal("50.25"), "RUB"))))
+            .discount(Money.of(new BigDecimal("100.10"), "RUB"))
+            .subtotal(Money.of(new BigDecimal("950.15"), "RUB"))
+            .tax(Money.of(new BigDecimal("190.03"), "RUB"))
+            .total(Money.of(new BigDecimal("1140.18"), "RUB"))
+            .validUntil(Instant.parse("2026-01-01T10:00:00.123456789Z"))
+            .decisionTrace(List.of(PricingDecision.of("BA-PRC-CALC-02", "BASE_PRICE", "area_m2=1")))
+            .build();
+
+        byte[] encoded = QuoteBinaryCodec.encode(quote);
+        Quote decoded = QuoteBinaryCodec.decode(encoded);
+
+        assertTrue(QuoteBinaryCodec.isBinary(encoded));
+        assertEquals(quote.getQuoteId(), decoded.getQuoteId());
+        assertEquals(quote.getTotal(), decoded.getTotal());
+        assertEquals(quote.getTax().getAmount(), decoded.getTax().getAmount());
+        assertEquals(quote.getValidUntil(), decoded.getValidUntil());
+        assertEquals("Handle", decoded.getOptionPremiums().get(0).getOptionName());
+        assertEquals(quote.getOptionPremiums().get(0).getAmount(), decoded.getOptionPremiums().get(0).getAmount());
+        assertEquals("area_m2=1", decoded.getDecisionTrace().get(0).getResult());
+    }
+
+    @Test
+    @DisplayName("Deferred trace steps are stored unrendered and come back deferred")
+    void deferredTraceStaysDeferred() {
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.5");
+        PricingDecision rounding = PricingDecision.deferred("BA-PRC-CALC-08", "ROUNDING",
+            "mode=%s,scale=%d,before=%s,after=%s", "HALF_UP", 2, new BigDecimal("1E+3"), huge);
+        Quote quote = Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(Money.of(new BigDecimal("1000.00"), "RUB"))
+            .optionPremiums(List.of())
+            .discount(Money.of(BigDecimal.ZERO, "RUB"))
+            .subtotal(Money.of(new BigDecimal("1000.00"), "RUB"))
+            .tax(Money.of(BigDecimal.ZERO, "RUB"))
+            .total(Money.of(new BigDecimal("1000.00"), "RUB"))
+            .validUntil(Instant.parse("2026-01-01T10:00:00Z"))
+            .decisionTrace(List.of(rounding, PricingDecision.of("BA-PRC-CALC-07", "TAX", "region=RU")))
+            .build();
+
+        Quote decoded = QuoteBinaryCodec.decode(QuoteBinaryCodec.encode(quote));
+
+        PricingDecision restored = decoded.getDecisionTrace().get(0);
+        assertTrue(restored.isDeferred());
+        assertEquals(4, restored.getArgumentCount());
+        assertEquals(2, restored.getArgument(1));
+        assertEquals(rounding.getResult(), restored.getResult());
+        assertEquals("mode=HALF_UP,scale=2,before=1000,after=" + huge.toPlainString(), restored.getResult());
+        assertFalse(decoded.getDecisionTrace().get(1).isDeferred());
+        assertEquals("region=RU", decoded.getDecisionTrace().get(1).getResult());
+    }
+}
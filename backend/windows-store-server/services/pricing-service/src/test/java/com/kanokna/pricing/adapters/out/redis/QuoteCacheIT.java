@@ -2,7 +2,9 @@ package com.kanokna.pricing.adapters.out.redis;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.port.out.QuoteCacheKey;
 import com.kanokna.pricing.domain.model.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,7 +55,7 @@ class QuoteCacheIT {
 
     @BeforeEach
     void setUp() {
-        cache = new QuoteRedisCache(redisTemplate, new ObjectMapper().findAndRegisterModules());
+        cache = new QuoteRedisCache(redisTemplate, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
         redisTemplate.getConnectionFactory().getConnection().flushDb();
     }
 
@@ -61,12 +63,12 @@ class QuoteCacheIT {
     @DisplayName("TC-PRC-011: Quote cached and retrieved on repeat request (Redis)")
     void quoteCachedAndRetrieved() {
         PriceBook priceBook = priceBook();
-        CalculateQuoteCommand command = command();
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command());
         Quote quote = quote();
 
-        cache.put(priceBook, command, quote, 5);
+        cache.put(key, quote, 5);
 
-        Quote cached = cache.get(priceBook, command).orElse(null);
+        Quote cached = cache.get(key).orElse(null);
 
         assertNotNull(cached);
         assertEquals(quote.getQuoteId(), cached.getQuoteId());
@@ -79,13 +81,44 @@ class QuoteCacheIT {
     @DisplayName("Evict by product template removes cached quotes")
     void evictByProductTemplateRemovesEntries() {
         PriceBook priceBook = priceBook();
-        CalculateQuoteCommand command = command();
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command());
         Quote quote = quote();
 
-        cache.put(priceBook, command, quote, 5);
+        cache.put(key, quote, 5);
         cache.evictByProductTemplateId(priceBook.getProductTemplateId());
 
-        assertTrue(cache.get(priceBook, command).isEmpty());
+        assertTrue(cache.get(key).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Quotes cached after eviction are served from the new generation")
+    void quotesCachedAfterEvictionAreServed() {
+        PriceBook priceBook = priceBook();
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command());
+
+        cache.put(key, quote(), 5);
+        cache.evictByProductTemplateId(priceBook.getProductTemplateId());
+        Quote fresh = quote();
+        cache.put(key, fresh, 5);
+
+        assertEquals(fresh.getQuoteId(), cache.get(key).orElseThrow().getQuoteId());
+        assertEquals("1", redisTemplate.opsForValue().get("quote:gen:" + priceBook.getProductTemplateId()));
+    }
+
+    @Test
+    @DisplayName("Legacy JSON entries are still readable")
+    void legacyJsonEntriesAreReadable() {
+        PriceBook priceBook = priceBook();
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook, command());
+        String json = "{\"quoteId\":\"" + QuoteId.generate() + "\",\"productTemplateId\":\"WINDOW-STD\","
+            + "\"basePrice\":1000,\"discount\":0,\"subtotal\":1000,\"tax\":200,\"total\":1200,"
+            + "\"currency\":\"RUB\",\"validUntil\":\"" + Instant.now().plusSeconds(300) + "\","
+            + "\"optionPremiums\":[],\"decisionTrace\":[]}";
+        redisTemplate.opsForValue().set(QuoteRedisCache.entryKey(key, 0), json);
+
+        Quote cached = cache.get(key).orElseThrow();
+
+        assertEquals(0, new BigDecimal("1200").compareTo(cached.getTotal().getAmount()));
     }
 
     private PriceBook priceBook() {
@@ -0,0 +1,73 @@
+package com.kanokna.pricing.adapters.out.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.port.out.QuoteCacheKey;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.Money;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import com.kanokna.pricing.domain.model.Quote;
+import com.kanokna.pricing.domain.model.QuoteId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class QuoteRedisCacheTest {
+
+    @Test
+    @DisplayName("Failed writes are counted instead of failing the quote")
+    void failedPutIsCounted() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class, invocation -> {
+            throw new RedisConnectionFailureException("Redis unavailable");
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        QuoteRedisCache cache = new QuoteRedisCache(redisTemplate, new ObjectMapper(), meterRegistry);
+
+        assertDoesNotThrow(() -> cache.put(QuoteCacheKey.from(priceBook(), command()), quote(), 5));
+
+        assertEquals(1.0, meterRegistry.get("pricing.quote.cache.put.failures").counter().count());
+    }
+
+    private CalculateQuoteCommand command() {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId("WINDOW-STD");
+        command.setWidthCm(new BigDecimal("100"));
+        command.setHeightCm(new BigDecimal("100"));
+        command.setResolvedBom(List.of("OPT-A"));
+        command.setCurrency("RUB");
+        command.setRegion("RU");
+        return command;
+    }
+
+    private PriceBook priceBook() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "tester");
+        priceBook.publish();
+        return priceBook;
+    }
+
+    private Quote quote() {
+        return Quote.builder()
+            .quoteId(QuoteId.generate())
+            .productTemplateId("WINDOW-STD")
+            .basePrice(Money.of(new BigDecimal("1000"), "RUB"))
+            .optionPremiums(List.of())
+            .discount(Money.of(BigDecimal.ZERO, "RUB"))
+            .subtotal(Money.of(new BigDecimal("1000"), "RUB"))
+            .tax(Money.of(BigDecimal.ZERO, "RUB"))
+            .total(Money.of(new BigDecimal("1000"), "RUB"))
+            .validUntil(Instant.now().plusSeconds(300))
+            .decisionTrace(List.of())
+            .build();
+    }
+}
@@ -0,0 +1,93 @@
+package com.kanokna.pricing.application.port.out;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.domain.model.BasePriceEntry;
+import com.kanokna.pricing.domain.model.PriceBook;
+import com.kanokna.pricing.domain.model.PriceBookId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteCacheKeyTest {
+
+    private final PriceBook priceBook = priceBook();
+
+    @Test
+    @DisplayName("Option order, promo code case and padding and trailing zeros do not change the key")
+    void equivalentRequestsShareKey() {
+        CalculateQuoteCommand sorted = command(List.of("OPT-A", "OPT-B", "OPT-C"), "PROMO10");
+        CalculateQuoteCommand shuffled = command(List.of("OPT-C", "OPT-A", "OPT-B"), "  promo10 ");
+
+        shuffled.setWidthCm(new BigDecimal("100.00"));
+        QuoteCacheKey key = QuoteCacheKey.from(priceBook, sorted);
+
+        assertEquals(key, QuoteCacheKey.from(priceBook, shuffled));
+        assertEquals(key.hash(), QuoteCacheKey.from(priceBook, shuffled).hash());
+        assertEquals(32, key.hash().length());
+        assertTrue(key.hash().matches("[0-9a-f]{32}"));
+        assertEquals("WINDOW-STD", key.productTemplateId());
+    }
+
+    @Test
+    @DisplayName("Every key field changes the key")
+    void fieldsChangeKey() {
+        QuoteCacheKey base = QuoteCacheKey.from(priceBook, command(List.of("OPT-A", "OPT-B"), null));
+
+        CalculateQuoteCommand width = command(List.of("OPT-A", "OPT-B"), null);
+        width.setWidthCm(new BigDecimal("101"));
+        CalculateQuoteCommand options = command(List.of("OPT-A"), null);
+        CalculateQuoteCommand merged = command(List.of("OPT-AOPT-B"), null);
+        CalculateQuoteCommand promo = command(List.of("OPT-A", "OPT-B"), "PROMO10");
+        CalculateQuoteCommand region = command(List.of("OPT-A", "OPT-B"), null);
+        region.setRegion("KZ");
+        CalculateQuoteCommand currency = command(List.of("OPT-A", "OPT-B"), null);
+        currency.setCurrency("EUR");
+
+        for (CalculateQuoteCommand changed : List.of(width, options, merged, promo, region, currency)) {
+            assertNotEquals(base, QuoteCacheKey.from(priceBook, changed));
+        }
+        assertNotEquals(base, QuoteCacheKey.from(priceBook(), command(List.of("OPT-A", "OPT-B"), null)));
+    }
+
+    @Test
+    @DisplayName("Distinct configurations do not collide")
+    void distinctConfigurationsDoNotCollide() {
+        Set<String> hashes = new HashSet<>();
+        int count = 0;
+        for (int width = 40; width < 240; width++) {
+            for (int height = 40; height < 240; height += 2) {
+                CalculateQuoteCommand command = command(List.of("OPT-" + (width % 7), "OPT-" + (height % 5)), null);
+                command.setWidthCm(BigDecimal.valueOf(width));
+                command.setHeightCm(BigDecimal.valueOf(height));
+                hashes.add(QuoteCacheKey.from(priceBook, command).hash());
+                count++;
+            }
+        }
+        assertEquals(count, hashes.size());
+    }
+
+    private CalculateQuoteCommand command(List<String> options, String promoCode) {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId("WINDOW-STD");
+        command.setWidthCm(new BigDecimal("100"));
+        command.setHeightCm(new BigDecimal("100"));
+        command.setResolvedBom(options);
+        command.setCurrency("RUB");
+        command.setPromoCode(promoCode);
+        command.setRegion("RU");
+        return command;
+    }
+
+    private static PriceBook priceBook() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "tester");
+        priceBook.publish();
+        return priceBook;
+    }
+}
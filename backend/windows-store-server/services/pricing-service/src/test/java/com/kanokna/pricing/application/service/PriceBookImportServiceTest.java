@@ -0,0 +1,114 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.PriceBookImportResult;
+import com.kanokna.pricing.application.port.out.PriceBookImportRepository;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import com.kanokna.pricing.domain.model.PriceBook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceBookImportServiceTest {
+
+    private static final UUID IMPORT_ID = UUID.randomUUID();
+
+    @Mock
+    private PriceBookImportRepository importRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private PriceBookImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PriceBookImportService(importRepository, eventPublisher, 2, 10);
+    }
+
+    @Test
+    @DisplayName("Valid import is written as DRAFT in batches with premiums attached")
+    void validImportIsWrittenInBatches() {
+        when(importRepository.start("admin")).thenReturn(IMPORT_ID);
+        List<List<PriceBook>> batches = new ArrayList<>();
+        doAnswer(invocation -> batches.add(List.copyOf(invocation.getArgument(1))))
+            .when(importRepository).insertDrafts(eq(IMPORT_ID), any());
+
+        PriceBookImportResult result = service.importPriceBooks(csv(
+            "type,productTemplateId,currency,pricePerM2,minimumAreaM2,minimumCharge",
+            "PRICE_BOOK,WINDOW-STD,RUB,5000,0.5,",
+            "PREMIUM,WINDOW-STD,GLASS-3,\"Triple glazing, low-E\",PERCENTAGE,15",
+            "PREMIUM,WINDOW-STD,HANDLE-LOCK,Lockable handle,ABSOLUTE,1200",
+            "PRICE_BOOK,WINDOW-STD,EUR,55,,",
+            "# doors",
+            "PRICE_BOOK,DOOR-STD,RUB,9000,,15000"), "admin");
+
+        assertEquals(PriceBookImportResult.Status.VALIDATED, result.getStatus());
+        assertEquals(3, result.getPriceBookCount());
+        assertEquals(2, result.getPremiumCount());
+        assertEquals(2, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(1, batches.get(1).size());
+        PriceBook window = batches.get(0).get(0);
+        assertEquals("Triple glazing, low-E", window.findPremiumForOption("GLASS-3").orElseThrow().getOptionName());
+        verify(importRepository).markValidated(IMPORT_ID, 3, 2);
+        verify(importRepository, never()).discard(any());
+    }
+
+    @Test
+    @DisplayName("Invalid rows are reported by line and the import is discarded")
+    void invalidRowsDiscardImport() {
+        when(importRepository.start("admin")).thenReturn(IMPORT_ID);
+
+        PriceBookImportResult result = service.importPriceBooks(csv(
+            "PRICE_BOOK,WINDOW-STD,RUB,5000",
+            "PRICE_BOOK,WINDOW-STD,RUB,5100",
+            "PREMIUM,DOOR-STD,GLASS-3,Triple glazing,PERCENTAGE,15",
+            "PRICE_BOOK,DOOR-STD,RUBLES,abc",
+            "PRICE_BOOK,BALCONY-STD,RUB,-10"), "admin");
+
+        assertEquals(PriceBookImportResult.Status.FAILED, result.getStatus());
+        assertEquals(List.of(2L, 3L, 4L, 5L), result.getErrors().stream().map(PriceBookImportResult.LineError::line).toList());
+        verify(importRepository).discard(IMPORT_ID);
+        verify(importRepository, never()).markValidated(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Publishing activates the import and emits one invalidation event")
+    void publishEmitsSingleEvent() {
+        when(importRepository.publish(IMPORT_ID, "admin"))
+            .thenReturn(new PriceBookImportRepository.Publication(7, 3, List.of("WINDOW-STD", "DOOR-STD")));
+
+        PriceBookImportResult result = service.publishImport(IMPORT_ID, "admin");
+
+        assertEquals(PriceBookImportResult.Status.PUBLISHED, result.getStatus());
+        assertEquals(7L, result.getVersion());
+        ArgumentCaptor<Object> event = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        PriceBookImportPublishedEvent published = assertInstanceOf(PriceBookImportPublishedEvent.class, event.getValue());
+        assertEquals(List.of("WINDOW-STD", "DOOR-STD"), published.getProductTemplateIds());
+        assertEquals(7, published.getVersion());
+        verify(importRepository, never()).start(anyString());
+    }
+
+    private InputStream csv(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,7 +1,10 @@
 package com.kanokna.pricing.application.service;
 
 import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.application.dto.CalculateQuotesCommand;
+import com.kanokna.pricing.application.dto.QuoteBatchItemResult;
 import com.kanokna.pricing.application.dto.QuoteResponse;
+import com.kanokna.pricing.application.port.in.QuoteSession;
 import com.kanokna.pricing.application.port.out.*;
 import com.kanokna.pricing.domain.event.QuoteCalculatedEvent;
 import com.kanokna.pricing.domain.exception.InvalidPromoCodeException;
@@ -12,8 +15,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -34,6 +42,8 @@ class PriceCalculationUseCaseServiceTest {
     @Mock
     private PromoCodeRepository promoCodeRepository;
     @Mock
+    private PromoCodeUsageCounter promoCodeUsageCounter;
+    @Mock
     private TaxRuleRepository taxRuleRepository;
     @Mock
     private QuoteCache quoteCache;
@@ -41,19 +51,26 @@ class PriceCalculationUseCaseServiceTest {
     private EventPublisher eventPublisher;
     @Mock
     private PriceCalculationService priceCalculationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
+    private QuoteDemandTracker demandTracker;
     private PriceCalculationUseCaseService service;
 
     @BeforeEach
     void setUp() {
+        demandTracker = new QuoteDemandTracker(500);
         service = new PriceCalculationUseCaseService(
             priceBookRepository,
             campaignRepository,
             promoCodeRepository,
-            taxRuleRepository,
+            promoCodeUsageCounter,
+            new TaxRuleResolver(taxRuleRepository, "RU", new BigDecimal("20")),
             quoteCache,
             eventPublisher,
             priceCalculationService,
+            demandTracker,
+            transactionManager,
             5
         );
     }
@@ -66,6 +83,7 @@ class PriceCalculationUseCaseServiceTest {
             .thenReturn(Optional.empty());
 
         assertThrows(PriceBookNotFoundException.class, () -> service.calculateQuote(command));
+        assertTrue(demandTracker.top(command.getProductTemplateId(), 10).isEmpty());
     }
 
     @Test
@@ -76,7 +94,7 @@ class PriceCalculationUseCaseServiceTest {
 
         when(priceBookRepository.findActiveByProductTemplateId(command.getProductTemplateId()))
             .thenReturn(Optional.of(priceBook));
-        when(quoteCache.get(priceBook, command)).thenReturn(Optional.empty());
+        when(quoteCache.get(QuoteCacheKey.from(priceBook, command))).thenReturn(Optional.empty());
         when(campaignRepository.findActiveForProduct(command.getProductTemplateId()))
             .thenReturn(List.of());
         when(promoCodeRepository.findByCode(command.getPromoCode())).thenReturn(Optional.empty());
@@ -84,6 +102,33 @@ class PriceCalculationUseCaseServiceTest {
         assertThrows(InvalidPromoCodeException.class, () -> service.calculateQuote(command));
     }
 
+    @Test
+    @DisplayName("Exhausted promo usage counter rejects the quote without caching it")
+    void exhaustedPromoUsageThrows() {
+        CalculateQuoteCommand command = command("WELCOME5");
+        PriceBook priceBook = priceBook();
+        Instant now = Instant.now();
+        PromoCode promoCode = PromoCode.restore(
+            PromoCodeId.generate(), "WELCOME5", "Promo", DiscountType.PERCENTAGE, new BigDecimal("5"),
+            null, null, 10, 9, now.minusSeconds(3600), now.plusSeconds(3600), true, now, "tester");
+
+        when(priceBookRepository.findActiveByProductTemplateId(command.getProductTemplateId()))
+            .thenReturn(Optional.of(priceBook));
+        when(quoteCache.get(QuoteCacheKey.from(priceBook, command))).thenReturn(Optional.empty());
+        when(campaignRepository.findActiveForProduct(command.getProductTemplateId())).thenReturn(List.of());
+        when(promoCodeRepository.findByCode(command.getPromoCode())).thenReturn(Optional.of(promoCode));
+        when(taxRuleRepository.findByRegion("RU"))
+            .thenReturn(Optional.of(TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"))));
+        when(priceCalculationService.calculateQuote(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(cachedQuote());
+        when(promoCodeUsageCounter.tryAcquire(promoCode)).thenReturn(false);
+
+        assertThrows(InvalidPromoCodeException.class, () -> service.calculateQuote(command));
+        verify(quoteCache, never()).put(any(), any(), anyInt());
+        verify(promoCodeRepository, never()).save(any());
+        verify(eventPublisher, never()).publishQuoteCalculated(any(QuoteCalculatedEvent.class));
+    }
+
     @Test
     @DisplayName("TC-PRC-011 / TC-FUNC-CALC-012: Cached quote returned for identical inputs")
     void cachedQuoteReturned() {
@@ -93,7 +138,7 @@ class PriceCalculationUseCaseServiceTest {
 
         when(priceBookRepository.findActiveByProductTemplateId(command.getProductTemplateId()))
             .thenReturn(Optional.of(priceBook));
-        when(quoteCache.get(priceBook, command)).thenReturn(Optional.of(cachedQuote));
+        when(quoteCache.get(QuoteCacheKey.from(priceBook, command))).thenReturn(Optional.of(cachedQuote));
 
         QuoteResponse response = service.calculateQuote(command);
 
@@ -102,6 +147,136 @@ class PriceCalculationUseCaseServiceTest {
         verify(eventPublisher, never()).publishQuoteCalculated(any(QuoteCalculatedEvent.class));
     }
 
+    @Test
+    @DisplayName("Warming caches the quote without promo code, event or demand count")
+    void warmQuoteCachesWithoutSideEffects() {
+        CalculateQuoteCommand command = command("SPRING20");
+        PriceBook priceBook = priceBook();
+        TaxRule taxRule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        Quote quote = cachedQuote();
+        when(priceBookRepository.findActiveByProductTemplateId("WINDOW-STD")).thenReturn(Optional.of(priceBook));
+        when(campaignRepository.findActiveForProduct("WINDOW-STD")).thenReturn(List.of());
+        when(taxRuleRepository.findByRegion("RU")).thenReturn(Optional.of(taxRule));
+        when(quoteCache.get(any())).thenReturn(Optional.empty());
+        when(priceCalculationService.calculateQuote(eq(priceBook), any(), any(), any(), eq(List.of()), isNull(),
+            eq(taxRule), anyInt())).thenReturn(quote);
+
+        assertTrue(service.warmQuote(command));
+
+        verify(quoteCache).put(QuoteCacheKey.from(priceBook, command), quote, 5);
+        verifyNoInteractions(promoCodeRepository, promoCodeUsageCounter, eventPublisher);
+        assertTrue(demandTracker.top("WINDOW-STD", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Decision trace is returned only when requested")
+    void decisionTraceOnlyWhenRequested() {
+        CalculateQuoteCommand command = command(null);
+        PriceBook priceBook = priceBook();
+        when(priceBookRepository.findActiveByProductTemplateId(command.getProductTemplateId()))
+            .thenReturn(Optional.of(priceBook));
+        when(quoteCache.get(QuoteCacheKey.from(priceBook, command))).thenReturn(Optional.of(cachedQuote()));
+
+        assertTrue(service.calculateQuote(command).getDecisionTrace().isEmpty());
+
+        command.setIncludeTrace(true);
+        List<QuoteResponse.PricingDecisionDto> trace = service.calculateQuote(command).getDecisionTrace();
+        assertEquals(1, trace.size());
+        assertEquals("eventType=PRICING_STEP decision=CALCULATED keyValues=area_m2=1.00", trace.get(0).getResult());
+    }
+
+    @Test
+    @DisplayName("Batch quote loads shared lookups once and isolates per-item failures")
+    void batchQuoteSharesLookupsAndReportsPartialFailures() {
+        PriceBook priceBook = priceBook();
+        TaxRule taxRule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        when(priceBookRepository.findActiveByProductTemplateId("WINDOW-STD")).thenReturn(Optional.of(priceBook));
+        when(priceBookRepository.findActiveByProductTemplateId("DOOR-STD")).thenReturn(Optional.empty());
+        when(quoteCache.get(any())).thenReturn(Optional.empty());
+        when(campaignRepository.findActiveForProduct("WINDOW-STD")).thenReturn(List.of());
+        when(taxRuleRepository.findByRegion("RU")).thenReturn(Optional.of(taxRule));
+        when(priceCalculationService.calculateQuote(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(cachedQuote());
+
+        CalculateQuotesCommand command = new CalculateQuotesCommand();
+        command.setCurrency("RUB");
+        command.setRegion("RU");
+        command.setItems(List.of(item("1", "WINDOW-STD"), item("2", "DOOR-STD"), item("3", "WINDOW-STD")));
+
+        List<QuoteBatchItemResult> results = service.calculateQuotes(command);
+
+        assertEquals(List.of("1", "2", "3"), results.stream().map(QuoteBatchItemResult::getItemId).toList());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("ERR-PRC-NO-PRICEBOOK", results.get(1).getErrorCode());
+        assertTrue(results.get(2).isSuccess());
+        verify(priceBookRepository, times(1)).findActiveByProductTemplateId("WINDOW-STD");
+        verify(campaignRepository, times(1)).findActiveForProduct("WINDOW-STD");
+        verify(taxRuleRepository, times(1)).findByRegion("RU");
+        assertEquals(1, demandTracker.top("WINDOW-STD", 10).size());
+        assertTrue(demandTracker.top("DOOR-STD", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Each session quote runs in a read-only transaction")
+    void sessionQuoteRunsInReadOnlyTransaction() {
+        SimpleTransactionStatus status = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(priceBookRepository.findActiveByProductTemplateId("DOOR-STD")).thenReturn(Optional.empty());
+        CalculateQuoteCommand command = command(null);
+        command.setProductTemplateId("DOOR-STD");
+
+        QuoteSession session = service.openSession(null, "RU");
+        verifyNoInteractions(transactionManager);
+        QuoteBatchItemResult result = session.calculateQuote("1", command);
+
+        assertEquals("ERR-PRC-NO-PRICEBOOK", result.getErrorCode());
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(transactionManager).commit(status);
+    }
+
+    @Test
+    @DisplayName("Quote events are written after the read-only transaction completes")
+    void quoteEventWrittenAfterReadOnlyTransaction() {
+        SimpleTransactionStatus readStatus = new SimpleTransactionStatus();
+        SimpleTransactionStatus writeStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(readStatus, writeStatus);
+        CalculateQuoteCommand command = command(null);
+        PriceBook priceBook = priceBook();
+        TaxRule taxRule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+        when(priceBookRepository.findActiveByProductTemplateId("WINDOW-STD")).thenReturn(Optional.of(priceBook));
+        when(campaignRepository.findActiveForProduct("WINDOW-STD")).thenReturn(List.of());
+        when(taxRuleRepository.findByRegion("RU")).thenReturn(Optional.of(taxRule));
+        when(quoteCache.get(any())).thenReturn(Optional.empty());
+        when(priceCalculationService.calculateQuote(any(), any(), any(), any(), any(), any(), any(), anyInt()))
+            .thenReturn(cachedQuote());
+
+        service.calculateQuote(command);
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        InOrder inOrder = inOrder(transactionManager, priceCalculationService, eventPublisher);
+        inOrder.verify(transactionManager).getTransaction(definitions.capture());
+        inOrder.verify(priceCalculationService).calculateQuote(any(), any(), any(), any(), any(), any(), any(), anyInt());
+        inOrder.verify(transactionManager).commit(readStatus);
+        inOrder.verify(transactionManager).getTransaction(definitions.capture());
+        inOrder.verify(eventPublisher).publishQuoteCalculated(any(QuoteCalculatedEvent.class));
+        inOrder.verify(transactionManager).commit(writeStatus);
+        assertTrue(definitions.getAllValues().get(0).isReadOnly());
+        assertFalse(definitions.getAllValues().get(1).isReadOnly());
+    }
+
+    private CalculateQuotesCommand.Item item(String itemId, String productTemplateId) {
+        CalculateQuotesCommand.Item item = new CalculateQuotesCommand.Item();
+        item.setItemId(itemId);
+        item.setProductTemplateId(productTemplateId);
+        item.setWidthCm(new BigDecimal("100"));
+        item.setHeightCm(new BigDecimal("100"));
+        item.setResolvedBom(List.of("OPT-A"));
+        return item;
+    }
+
     private CalculateQuoteCommand command(String promoCode) {
         CalculateQuoteCommand command = new CalculateQuoteCommand();
         command.setProductTemplateId("WINDOW-STD");
@@ -132,7 +307,9 @@ class PriceCalculationUseCaseServiceTest {
             .tax(Money.of(BigDecimal.ZERO, "RUB"))
             .total(Money.of(new BigDecimal("1000"), "RUB"))
             .validUntil(Instant.now().plusSeconds(300))
-            .decisionTrace(List.of())
+            .decisionTrace(List.of(PricingDecision.deferred(
+                "BA-PRC-CALC-02", "BASE_PRICE",
+                "eventType=PRICING_STEP decision=CALCULATED keyValues=area_m2=%s", new BigDecimal("1.00"))))
             .build();
     }
 }
@@ -0,0 +1,62 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import com.kanokna.pricing.domain.event.PriceBookImportPublishedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class QuoteCacheWarmerTest {
+
+    private PriceCalculationUseCaseService quoteService;
+    private QuoteDemandTracker demandTracker;
+    private QuoteCacheWarmer warmer;
+
+    @BeforeEach
+    void setUp() {
+        quoteService = mock(PriceCalculationUseCaseService.class);
+        when(quoteService.warmQuote(any())).thenReturn(true);
+        demandTracker = new QuoteDemandTracker(500);
+        warmer = new QuoteCacheWarmer(quoteService, demandTracker, true, 50, 1, 1, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        warmer.shutdown();
+    }
+
+    @Test
+    @DisplayName("A bulk import is warmed as one task however many products it covers")
+    void importWarmsEveryProductFromOneTask() {
+        List<String> products = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String productTemplateId = "P-" + i;
+            products.add(productTemplateId);
+            demandTracker.record(command(productTemplateId));
+        }
+
+        warmer.onPriceBookImportPublished(PriceBookImportPublishedEvent.of(UUID.randomUUID(), products, 1, "admin"));
+
+        verify(quoteService, timeout(5000).times(40)).warmQuote(any());
+    }
+
+    private CalculateQuoteCommand command(String productTemplateId) {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId(productTemplateId);
+        command.setWidthCm(new BigDecimal("100"));
+        command.setHeightCm(new BigDecimal("100"));
+        command.setResolvedBom(List.of("OPT-A"));
+        command.setCurrency("RUB");
+        command.setRegion("RU");
+        return command;
+    }
+}
@@ -0,0 +1,80 @@
+package com.kanokna.pricing.application.service;
+
+import com.kanokna.pricing.application.dto.CalculateQuoteCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuoteDemandTrackerTest {
+
+    @Test
+    @DisplayName("Top configurations are ordered by request count and exclude promo requests")
+    void topOrdersByDemand() {
+        QuoteDemandTracker tracker = new QuoteDemandTracker(10);
+        record(tracker, command("100", null), 1);
+        record(tracker, command("120", null), 3);
+        record(tracker, command("140", "SPRING20"), 5);
+
+        List<CalculateQuoteCommand> top = tracker.top("WINDOW-STD", 10);
+
+        assertEquals(List.of(new BigDecimal("120"), new BigDecimal("100")),
+            top.stream().map(CalculateQuoteCommand::getWidthCm).toList());
+        assertEquals(List.of("OPT-A", "OPT-B"), top.get(0).getResolvedBom());
+        assertEquals("RU", top.get(0).getRegion());
+        assertNull(top.get(0).getPromoCode());
+        assertTrue(tracker.top("DOOR-STD", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("New configurations are ignored once the product is full until decay frees room")
+    void boundedPerProductAndDecays() {
+        QuoteDemandTracker tracker = new QuoteDemandTracker(1);
+        record(tracker, command("100", null), 2);
+        record(tracker, command("120", null), 5);
+        assertEquals(1, tracker.top("WINDOW-STD", 10).size());
+
+        tracker.decay();
+        assertEquals(new BigDecimal("100"), tracker.top("WINDOW-STD", 10).get(0).getWidthCm());
+
+        tracker.decay();
+        assertTrue(tracker.top("WINDOW-STD", 10).isEmpty());
+
+        record(tracker, command("120", null), 1);
+        assertEquals(new BigDecimal("120"), tracker.top("WINDOW-STD", 10).get(0).getWidthCm());
+    }
+
+    @Test
+    @DisplayName("Sizes differing only in trailing zeros count as one configuration")
+    void trailingZerosShareConfiguration() {
+        QuoteDemandTracker tracker = new QuoteDemandTracker(10);
+        record(tracker, command("100", null), 1);
+        record(tracker, command("100.00", null), 2);
+
+        List<CalculateQuoteCommand> top = tracker.top("WINDOW-STD", 10);
+
+        assertEquals(1, top.size());
+        assertEquals("100", top.get(0).getWidthCm().toPlainString());
+    }
+
+    private void record(QuoteDemandTracker tracker, CalculateQuoteCommand command, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.record(command);
+        }
+    }
+
+    private CalculateQuoteCommand command(String widthCm, String promoCode) {
+        CalculateQuoteCommand command = new CalculateQuoteCommand();
+        command.setProductTemplateId("WINDOW-STD");
+        command.setWidthCm(new BigDecimal(widthCm));
+        command.setHeightCm(new BigDecimal("100"));
+        command.setResolvedBom(List.of("OPT-A", "OPT-B"));
+        command.setCurrency("RUB");
+        command.setPromoCode(promoCode);
+        command.setRegion("RU");
+        return command;
+    }
+}
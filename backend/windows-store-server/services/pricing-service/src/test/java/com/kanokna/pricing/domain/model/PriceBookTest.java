@@ -0,0 +1,46 @@
+package com.kanokna.pricing.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PriceBookTest {
+
+    @Test
+    @DisplayName("Premium index resolves premiums added while in DRAFT")
+    void premiumIndexSeesDraftAdditions() {
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry(), "tester");
+        assertTrue(priceBook.findPremiumForOption("OPT-A").isEmpty());
+
+        priceBook.addOptionPremium(OptionPremium.absolute("OPT-A", "Handle", Money.rub(new BigDecimal("50"))));
+        priceBook.publish();
+
+        assertEquals("Handle", priceBook.findPremiumForOption("OPT-A").orElseThrow().getOptionName());
+        assertTrue(priceBook.findPremiumForOption("OPT-MISSING").isEmpty());
+        assertTrue(priceBook.findPremiumForOption(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Premium index keeps the first premium for duplicate option ids")
+    void premiumIndexKeepsFirstDuplicate() {
+        PriceBook priceBook = PriceBook.restore(
+            PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry(), "tester",
+            PriceBookStatus.ACTIVE, 1, Instant.now(), Instant.now(),
+            List.of(
+                OptionPremium.absolute("OPT-A", "First", Money.rub(new BigDecimal("50"))),
+                OptionPremium.absolute("OPT-A", "Second", Money.rub(new BigDecimal("70")))
+            ));
+
+        assertEquals("First", priceBook.findPremiumForOption("OPT-A").orElseThrow().getOptionName());
+    }
+
+    private BasePriceEntry basePriceEntry() {
+        return BasePriceEntry.of("WINDOW-STD", new BigDecimal("1000"), new BigDecimal("0.25"), null);
+    }
+}
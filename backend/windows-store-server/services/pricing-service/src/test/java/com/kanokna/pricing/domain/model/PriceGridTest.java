@@ -0,0 +1,141 @@
+package com.kanokna.pricing.domain.model;
+
+import com.kanokna.pricing.domain.service.DiscountService;
+import com.kanokna.pricing.domain.service.PriceCalculationService;
+import com.kanokna.pricing.domain.service.RoundingService;
+import com.kanokna.pricing.domain.service.TaxCalculationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceGridTest {
+
+    private static final PriceGrid.Layout LAYOUT = PriceGrid.Layout.parse(
+        List.of("40x40", "90x120", "145x132", "210x140"),
+        List.of("OPT-HANDLE+OPT-NET", "OPT-NET+OPT-GLASS+OPT-HANDLE", "OPT-UNKNOWN"));
+
+    private static final List<List<String>> SELECTIONS = List.of(
+        List.of(),
+        List.of("OPT-HANDLE"),
+        List.of("OPT-NET", "OPT-HANDLE"),
+        List.of("OPT-GLASS", "OPT-HANDLE", "OPT-NET"),
+        List.of("OPT-HANDLE", "OPT-HANDLE"),
+        List.of("OPT-GLASS", "OPT-MISSING"));
+
+    @Test
+    @DisplayName("Grid sizes produce the same quotes as calculating from scratch")
+    void gridQuotesMatchCalculatedQuotes() {
+        Instant now = Instant.now();
+        List<Campaign> campaigns = List.of(Campaign.restore(
+            CampaignId.generate(), "Autumn", null, CampaignRule.percentage(new BigDecimal("7.5"), null), Set.of(),
+            now.minusSeconds(3600), now.plusSeconds(3600), CampaignStatus.ACTIVE, 1, now, "tester"));
+        TaxRule taxRule = TaxRule.createVAT(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("20"));
+
+        PriceCalculationService service = new PriceCalculationService(
+            new DiscountService(), new TaxCalculationService(), new RoundingService());
+        PriceBook priceBook = priceBook();
+        PriceGrid grid = PriceGrid.build(priceBook, LAYOUT);
+        assertNotNull(grid);
+        PriceBook snapshot = priceBook.readOnlyCopy(grid);
+
+        for (PriceGrid.Size size : LAYOUT.sizes()) {
+            for (List<String> options : SELECTIONS) {
+                BigDecimal width = BigDecimal.valueOf(size.widthCm());
+                BigDecimal height = new BigDecimal(size.heightCm() + ".0");
+                assertNotNull(grid.lookup(width, height, options));
+
+                Quote expected = service.calculateQuote(priceBook, options, width, height, campaigns, null, taxRule, 5);
+                Quote actual = service.calculateQuote(snapshot, options, width, height, campaigns, null, taxRule, 5);
+
+                String label = size + " " + options;
+                assertEquals(expected.getBasePrice().getAmount(), actual.getBasePrice().getAmount(), label);
+                assertEquals(expected.getOptionPremiums(), actual.getOptionPremiums(), label);
+                assertEquals(expected.getDiscount().getAmount(), actual.getDiscount().getAmount(), label);
+                assertEquals(expected.getTax().getAmount(), actual.getTax().getAmount(), label);
+                assertEquals(expected.getTotal().getAmount(), actual.getTotal().getAmount(), label);
+                // The final step embeds the generated quote id and expiry
+                assertEquals(expected.getDecisionTrace().subList(0, expected.getDecisionTrace().size() - 1),
+                    actual.getDecisionTrace().subList(0, actual.getDecisionTrace().size() - 1), label);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Sizes outside the grid are not served from it")
+    void sizesOutsideGridMiss() {
+        PriceBook priceBook = priceBook();
+        PriceGrid grid = PriceGrid.build(priceBook, LAYOUT);
+
+        assertNull(grid.lookup(new BigDecimal("90"), new BigDecimal("121"), List.of()));
+        assertNull(grid.lookup(new BigDecimal("90.5"), new BigDecimal("120"), List.of()));
+        assertNull(grid.lookup(new BigDecimal("-90"), new BigDecimal("120"), List.of()));
+        assertEquals(4, grid.sizeCount());
+        assertEquals(2, grid.bundleCount());
+    }
+
+    @Test
+    @DisplayName("Only read-only copies carry a grid")
+    void onlyReadOnlyCopiesCarryGrid() {
+        PriceBook priceBook = priceBook();
+        PriceGrid grid = PriceGrid.build(priceBook, LAYOUT);
+
+        PriceBook snapshot = priceBook.readOnlyCopy(grid);
+
+        assertSame(grid, snapshot.getPriceGrid());
+        assertNull(priceBook.getPriceGrid());
+        assertThrows(IllegalStateException.class, () -> snapshot.addOptionPremium(
+            OptionPremium.absolute("OPT-SILL", "Sill", Money.rub(new BigDecimal("500.00")))));
+    }
+
+    @Test
+    @DisplayName("Stored amounts keep the scale the calculation produced")
+    void storedAmountsKeepScale() {
+        PriceBook priceBook = priceBook();
+        PriceGrid grid = PriceGrid.build(priceBook, LAYOUT);
+        PriceGrid.Size size = LAYOUT.sizes().get(1);
+        BigDecimal width = BigDecimal.valueOf(size.widthCm());
+        BigDecimal height = BigDecimal.valueOf(size.heightCm());
+
+        PriceGrid.Entry entry = grid.lookup(width, height, List.of("OPT-GLASS", "OPT-HANDLE"));
+        Money basePrice = priceBook.getBasePriceEntry().calculateBasePrice(entry.areaM2(), "RUB");
+        Money glass = priceBook.findPremiumForOption("OPT-GLASS").orElseThrow().calculatePremium(basePrice);
+
+        assertEquals(basePrice.getAmount().scale(), entry.basePrice().getAmount().scale());
+        assertEquals(glass.getAmount().toPlainString(), entry.premiumLines().get(0).getAmount().getAmount().toPlainString());
+        assertEquals(new BigDecimal("1250.00").add(glass.getAmount()), entry.totalPremiums().getAmount());
+    }
+
+    @Test
+    @DisplayName("A minimum charge in another currency leaves the price book without a grid")
+    void foreignCurrencyMinimumChargeBuildsNoGrid() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("8450.50"),
+            new BigDecimal("0.25"), Money.of(new BigDecimal("25.00"), "EUR"));
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "tester");
+        priceBook.publish();
+
+        assertNull(PriceGrid.build(priceBook, LAYOUT));
+    }
+
+    @Test
+    @DisplayName("Empty layout builds no grid")
+    void emptyLayoutBuildsNoGrid() {
+        assertNull(PriceGrid.build(priceBook(), PriceGrid.Layout.NONE));
+    }
+
+    private PriceBook priceBook() {
+        BasePriceEntry basePriceEntry = BasePriceEntry.of("WINDOW-STD", new BigDecimal("8450.50"),
+            new BigDecimal("0.25"), Money.rub(new BigDecimal("2500.00")));
+        PriceBook priceBook = PriceBook.create(PriceBookId.generate(), "WINDOW-STD", "RUB", basePriceEntry, "tester");
+        priceBook.addOptionPremium(OptionPremium.absolute("OPT-HANDLE", "Handle", Money.rub(new BigDecimal("1250.00"))));
+        priceBook.addOptionPremium(OptionPremium.absolute("OPT-NET", "Mosquito net", Money.rub(new BigDecimal("990.00"))));
+        priceBook.addOptionPremium(OptionPremium.percentage("OPT-GLASS", "Triple glazing", new BigDecimal("12.5")));
+        priceBook.publish();
+        return priceBook;
+    }
+}
@@ -0,0 +1,69 @@
+package com.kanokna.pricing.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaxRuleTableTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T00:00:00Z");
+
+    @Test
+    @DisplayName("Regions are matched after trimming and upper-casing")
+    void regionsAreNormalized() {
+        TaxRule rule = rule(" ru ", "20", null, null);
+        TaxRuleTable table = TaxRuleTable.of(List.of(rule));
+
+        assertEquals("RU", rule.getRegion());
+        assertEquals(Optional.of(rule), table.find("Ru", NOW));
+        assertEquals(Optional.of(rule), table.find(" RU", NOW));
+        assertTrue(table.find("KZ", NOW).isEmpty());
+        assertTrue(table.find(" ", NOW).isEmpty());
+    }
+
+    @Test
+    @DisplayName("The rule with the latest start in effect wins and future rules apply at their start")
+    void effectiveDatesSelectRule() {
+        Instant change = NOW.plusSeconds(86_400);
+        TaxRule standing = rule("RU", "20", null, null);
+        TaxRule upcoming = rule("RU", "22", change, null);
+        TaxRule expired = rule("RU", "18", NOW.minusSeconds(86_400 * 30L), NOW.minusSeconds(86_400));
+        TaxRuleTable table = TaxRuleTable.of(List.of(upcoming, standing, expired));
+
+        assertEquals(Optional.of(standing), table.find("RU", NOW));
+        assertEquals(Optional.of(standing), table.find("RU", change.minusMillis(1)));
+        assertEquals(Optional.of(upcoming), table.find("RU", change));
+        assertEquals(Optional.of(expired), table.find("RU", NOW.minusSeconds(86_400 * 2L)));
+        assertEquals(3, table.size());
+        assertEquals(1, table.regionCount());
+    }
+
+    @Test
+    @DisplayName("An inactive rule with a later start does not hide the active rule")
+    void inactiveRulesAreSkipped() {
+        TaxRule active = rule("RU", "20", null, null);
+        TaxRule disabled = TaxRule.restore(TaxRuleId.generate(), "RU", "Russia", new BigDecimal("22"), "VAT", false,
+            NOW.minusSeconds(86_400 * 365L), NOW.minusSeconds(86_400), null);
+        TaxRuleTable table = TaxRuleTable.of(List.of(disabled, active));
+
+        assertEquals(Optional.of(active), table.find("RU", NOW));
+        assertTrue(TaxRuleTable.of(List.of(disabled)).find("RU", NOW).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Effective end must be after effective start")
+    void invalidRangeRejected() {
+        assertThrows(IllegalArgumentException.class, () -> rule("RU", "20", NOW, NOW));
+    }
+
+    private TaxRule rule(String region, String rate, Instant effectiveFrom, Instant effectiveTo) {
+        return TaxRule.restore(TaxRuleId.generate(), region, "Russia", new BigDecimal(rate), "VAT", true,
+            NOW.minusSeconds(86_400 * 365L), effectiveFrom, effectiveTo);
+    }
+}